@@ -1,9 +1,15 @@
+import hashlib
+import io
 import os
-from flask import Flask, request, jsonify
+import time
+from flask import Flask, request, jsonify, g
+from PIL import Image
 from ultralytics import YOLO
 from werkzeug.utils import secure_filename
 import json
 
+import frame_protocol
+
 app = Flask(__name__)
 
 PART_MODEL_PATH = 'C:/Python_workspace/beef/ai-server/weight/best_part.pt'
@@ -17,12 +23,48 @@ except Exception as e:
     print(f"AI 모델 로드 실패: {e}")
     exit()
 
+
+def weight_fingerprint(*paths):
+    # 가중치 파일 내용의 SHA-256 앞 12자리 (파일을 바꾸면 버전도 바뀜)
+    digest = hashlib.sha256()
+    for path in paths:
+        with open(path, 'rb') as f:
+            for chunk in iter(lambda: f.read(1 << 20), b''):
+                digest.update(chunk)
+    return digest.hexdigest()[:12]
+
+
+# 응답마다 함께 보내는 모델 버전. 백엔드는 Cut에 기록하고 재분석 대상(다른 버전으로 분석된 Cut)을 고릅니다.
+# MODEL_VERSION 환경 변수가 있으면 그 값을, 없으면 두 가중치 파일의 지문을 사용합니다.
+MODEL_VERSION = os.environ.get('MODEL_VERSION') or weight_fingerprint(PART_MODEL_PATH, GRADE_MODEL_PATH)
+print(f"모델 버전: {MODEL_VERSION}")
+
 # 파일 업로드를 위한 임시 폴더 설정
 UPLOAD_FOLDER = 'temp_uploads'
 if not os.path.exists(UPLOAD_FOLDER):
     os.makedirs(UPLOAD_FOLDER)
 
 
+# --- 요청 추적 ---
+# 백엔드가 보낸 X-Request-Id(와 traceparent)를 그대로 로그에 남겨 백엔드 요청과 맞춰 볼 수 있게 합니다.
+
+@app.before_request
+def start_timer():
+    g.started = time.perf_counter()
+
+
+@app.after_request
+def log_request(response):
+    request_id = request.headers.get('X-Request-Id')
+    if request_id:
+        response.headers['X-Request-Id'] = request_id
+    if request.path != '/health':
+        elapsed_ms = (time.perf_counter() - g.get('started', time.perf_counter())) * 1000
+        print(f"[{request_id or '-'}] {request.method} {request.path} {response.status_code} {elapsed_ms:.1f}ms"
+              f" traceparent={request.headers.get('traceparent', '-')}")
+    return response
+
+
 # --- 유틸리티 함수 ---
 
 def parse_results(results, model_type, names_map=None):
@@ -104,6 +146,7 @@ def analyze_part():
         return jsonify({
             "detectedPart": detected_part,
             "insight": insight_text,
+            "modelVersion": MODEL_VERSION,
             "status": "success"
         })
 
@@ -148,6 +191,7 @@ def analyze_grade():
         return jsonify({
             "detectedGrade": detected_grade,
             "insight": insight_text,
+            "modelVersion": MODEL_VERSION,
             "status": "success"
         })
 
@@ -160,6 +204,99 @@ def analyze_grade():
         return jsonify({"error": error_message}), 500
 
 
+# --- 일괄(batch) 엔드포인트 ---
+# 백엔드의 /api/cut/analyze/batch 가 여러 장을 'files' 파트로 묶어 한 번에 보냅니다.
+# 응답의 results 는 요청한 파일 순서와 같으며, 실패한 항목은 {"error": ...} 로 표시됩니다.
+
+def save_batch_files(files):
+    """업로드 파일들을 임시 폴더에 저장. (저장 경로 목록, 항목별 오류) 반환"""
+    paths, errors = [], []
+    for index, file in enumerate(files):
+        if file.filename == '':
+            paths.append(None)
+            errors.append("No selected file")
+            continue
+        # 같은 이름의 파일이 한 배치에 여러 개 올 수 있으므로 순번을 붙임
+        filepath = os.path.join(UPLOAD_FOLDER, f"{index}_{secure_filename(file.filename)}")
+        file.save(filepath)
+        paths.append(filepath)
+        errors.append(None)
+    return paths, errors
+
+
+def analyze_batch(model, model_type, result_key, names_map=None):
+    files = request.files.getlist('files')
+    if not files:
+        return jsonify({"error": "No file part"}), 400
+
+    paths, errors = save_batch_files(files)
+    try:
+        valid_paths = [p for p in paths if p]
+        # YOLO는 경로 목록을 받으면 한 번에 배치 추론을 수행
+        predictions = model.predict(valid_paths, conf=0.5, verbose=False) if valid_paths else []
+        predictions = iter(predictions)
+
+        results = []
+        for path, error in zip(paths, errors):
+            if error:
+                results.append({"error": error})
+                continue
+            detected_item, insight_text = parse_results([next(predictions)], model_type, names_map=names_map)
+            results.append({result_key: detected_item, "insight": insight_text,
+                            "modelVersion": MODEL_VERSION, "status": "success"})
+
+        return jsonify({"results": results, "modelVersion": MODEL_VERSION, "status": "success"})
+
+    except Exception as e:
+        error_message = f"일괄 분석 중 오류 발생: {e}"
+        print(error_message)
+        return jsonify({"error": error_message}), 500
+
+    finally:
+        for path in paths:
+            if path and os.path.exists(path):
+                os.remove(path)
+
+
+@app.route('/analyze/part/batch', methods=['POST'])
+def analyze_part_batch():
+    return analyze_batch(PART_MODEL, 'part', 'detectedPart')
+
+
+@app.route('/analyze/grade/batch', methods=['POST'])
+def analyze_grade_batch():
+    return analyze_batch(GRADE_MODEL, 'grade', 'detectedGrade', names_map=GRADE_MODEL.names)
+
+
+@app.route('/health', methods=['GET'])
+def health():
+    # 백엔드 AI 서버 풀의 주기적 헬스 체크용 (모델은 시작 시 로드되므로 여기까지 오면 정상)
+    return jsonify({"status": "UP", "modelVersion": MODEL_VERSION})
+
+
+# --- 바이너리 프레임 서버 (백엔드 ai.transport=frame) ---
+# 이미지 1장에 부위 + 등급을 한 요청으로 받아 한 번에 응답합니다. 임시 파일 없이 메모리에서 바로 추론합니다.
+
+FRAME_PORT = int(os.environ.get('AI_FRAME_PORT', '5100'))  # 0이면 사용하지 않음
+
+
+def analyze_frame(image_bytes, want_part, want_grade):
+    image = Image.open(io.BytesIO(image_bytes))
+    image.load()
+    result = {"modelVersion": MODEL_VERSION}
+    if want_part:
+        detected_part, part_insight = parse_results(
+            PART_MODEL.predict(image, conf=0.5, iou=0.5, verbose=False), 'part')
+        result.update(detectedPart=detected_part, partInsight=part_insight)
+    if want_grade:
+        detected_grade, grade_insight = parse_results(
+            GRADE_MODEL.predict(image, conf=0.5, verbose=False), 'grade', names_map=GRADE_MODEL.names)
+        result.update(detectedGrade=detected_grade, gradeInsight=grade_insight)
+    return result
+
+
 # --- 서버 실행 ---
 if __name__ == '__main__':
+    if FRAME_PORT:
+        frame_protocol.serve(FRAME_PORT, analyze_frame)
     app.run(host='0.0.0.0', port=5000)
\ No newline at end of file
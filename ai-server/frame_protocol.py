@@ -0,0 +1,127 @@
+"""
+백엔드 ↔ AI 서버 바이너리 프레임 프로토콜 (ai.transport=frame).
+
+HTTP multipart 요청 두 번(부위, 등급) 대신, 백엔드가 유지하는 TCP 연결 하나로
+이미지 1장과 요청할 분석 종류를 한 프레임에 담아 보내고 결과 한 프레임을 받습니다.
+한 연결에서는 요청 → 응답을 순서대로 주고받습니다 (연결마다 동시에 요청 1개).
+
+모든 정수는 big-endian, 문자열은 u16 길이 + UTF-8 (길이 0 = 없음).
+
+  프레임     : u32 payload 길이 + payload
+  요청 payload: u8 version(1) | u8 tasks(1=부위, 2=등급) | str requestId | u32 이미지 길이 | 이미지 바이트
+  응답 payload: u8 status(0=성공)
+                성공: str detectedPart | str partInsight | str detectedGrade | str gradeInsight | str modelVersion
+                실패: str 오류 메시지
+
+백엔드 쪽 구현: com.project.beef.client.AiFrameClient
+"""
+import socket
+import socketserver
+import struct
+import threading
+import time
+
+VERSION = 1
+TASK_PART = 1
+TASK_GRADE = 2
+STATUS_OK = 0
+STATUS_ERROR = 1
+
+# 업로드 한도(요청 전체 100MB)보다 조금 크게. 그보다 큰 길이는 깨진 프레임으로 보고 연결을 닫음
+MAX_FRAME_BYTES = 128 * 1024 * 1024
+
+
+def _read_exact(rfile, n):
+    data = rfile.read(n)
+    if data is None or len(data) < n:
+        raise EOFError
+    return data
+
+
+def _pack_str(value):
+    encoded = (value or '').encode('utf-8')[:0xFFFF]
+    return struct.pack('>H', len(encoded)) + encoded
+
+
+def _unpack_str(payload, offset):
+    (length,) = struct.unpack_from('>H', payload, offset)
+    offset += 2
+    return payload[offset:offset + length].decode('utf-8'), offset + length
+
+
+def decode_request(payload):
+    """요청 payload → (tasks, request_id, image_bytes)"""
+    version, tasks = struct.unpack_from('>BB', payload, 0)
+    if version != VERSION:
+        raise ValueError(f"지원하지 않는 프레임 버전: {version}")
+    request_id, offset = _unpack_str(payload, 2)
+    (image_length,) = struct.unpack_from('>I', payload, offset)
+    offset += 4
+    image = payload[offset:offset + image_length]
+    if len(image) != image_length:
+        raise ValueError("이미지 길이가 프레임과 맞지 않습니다")
+    return tasks, request_id, image
+
+
+def encode_result(result):
+    payload = (struct.pack('>B', STATUS_OK)
+               + _pack_str(result.get('detectedPart'))
+               + _pack_str(result.get('partInsight'))
+               + _pack_str(result.get('detectedGrade'))
+               + _pack_str(result.get('gradeInsight'))
+               + _pack_str(result.get('modelVersion')))
+    return struct.pack('>I', len(payload)) + payload
+
+
+def encode_error(message):
+    payload = struct.pack('>B', STATUS_ERROR) + _pack_str(message)
+    return struct.pack('>I', len(payload)) + payload
+
+
+def serve(port, analyze, log_prefix='frame'):
+    """
+    백그라운드 스레드에서 프레임 서버를 시작합니다. 연결마다 스레드 1개.
+    analyze(image_bytes, want_part, want_grade) 는 detectedPart/partInsight/detectedGrade/gradeInsight/modelVersion
+    키를 가진 dict 를 반환하고, 실패하면 예외를 던집니다 (오류 응답 후 연결은 계속 사용).
+    """
+
+    class Handler(socketserver.StreamRequestHandler):
+        def setup(self):
+            super().setup()
+            self.connection.setsockopt(socket.IPPROTO_TCP, socket.TCP_NODELAY, 1)
+
+        def handle(self):
+            while True:
+                try:
+                    (length,) = struct.unpack('>I', _read_exact(self.rfile, 4))
+                    if length > MAX_FRAME_BYTES:
+                        print(f"[{log_prefix}] 프레임이 너무 큽니다 ({length} bytes), 연결 종료")
+                        return
+                    payload = _read_exact(self.rfile, length)
+                except (EOFError, ConnectionError):
+                    return  # 백엔드가 연결을 닫음 (유휴 정리 등)
+
+                started = time.perf_counter()
+                request_id = '-'
+                try:
+                    tasks, request_id, image = decode_request(payload)
+                    result = analyze(image, bool(tasks & TASK_PART), bool(tasks & TASK_GRADE))
+                    response = encode_result(result)
+                    status = 'ok'
+                except Exception as e:
+                    response = encode_error(f"분석 중 오류 발생: {e}")
+                    status = 'error'
+                self.wfile.write(response)
+                self.wfile.flush()
+                elapsed_ms = (time.perf_counter() - started) * 1000
+                print(f"[{request_id or '-'}] FRAME {status} {elapsed_ms:.1f}ms")
+
+    class Server(socketserver.ThreadingTCPServer):
+        daemon_threads = True
+        allow_reuse_address = True
+
+    server = Server(('0.0.0.0', port), Handler)
+    thread = threading.Thread(target=server.serve_forever, name='frame-server', daemon=True)
+    thread.start()
+    print(f"[{log_prefix}] 바이너리 프레임 서버 시작: port {port}")
+    return server
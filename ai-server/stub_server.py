@@ -0,0 +1,131 @@
+"""
+AI 서버 대역(stub) - 모델/GPU 없이 백엔드 개발·테스트용으로 app.py 와 같은 API를 흉내냅니다.
+
+    python stub_server.py --port 5000
+    python stub_server.py --port 5001 --delay-ms 200 --error-rate 0.3   # 느리거나 불안정한 인스턴스 흉내
+    python stub_server.py --model-version stub-v2                       # 모델 교체 후 재분석 시험
+
+- /analyze/part, /analyze/grade             : 단건 (파일 파트 이름 'file')
+- /analyze/part/batch, /analyze/grade/batch : 일괄 (파일 파트 이름 'files', 순서대로 results 반환)
+- /health                                   : 헬스 체크 (--unhealthy 이면 503)
+- --frame-port (기본 5100)                  : 바이너리 프레임 서버 (frame_protocol.py, 0이면 끔)
+
+결과는 이미지 내용(과 모델 버전)의 해시로 정해지므로 같은 이미지는 같은 버전에서 항상 같은 결과가 나옵니다.
+"""
+import argparse
+import hashlib
+import random
+import time
+
+from flask import Flask, request, jsonify
+
+import frame_protocol
+
+app = Flask(__name__)
+
+PARTS = ["등심", "안심", "채끝", "목심", "앞다리", "우둔", "설도", "양지", "사태", "갈비"]
+GRADES = ["1++", "1+", "1", "2", "3"]
+
+# 여러 인스턴스로 부하 분산/장애 격리를 시험할 때 쓰는 옵션 (main에서 설정)
+OPTIONS = {"delay_ms": 0, "error_rate": 0.0, "unhealthy": False, "model_version": "stub-v1"}
+
+
+@app.before_request
+def inject_faults():
+    if request.path == '/health':
+        return None
+    if OPTIONS["delay_ms"]:
+        time.sleep(OPTIONS["delay_ms"] / 1000)
+    if random.random() < OPTIONS["error_rate"]:
+        return jsonify({"error": "injected failure"}), 500
+    return None
+
+
+def fake_result(data, model_type):
+    version = OPTIONS["model_version"]
+    digest = hashlib.sha256(data + version.encode()).digest()
+    if model_type == 'part':
+        item = PARTS[digest[0] % len(PARTS)]
+        return {"detectedPart": item,
+                "insight": f"부위 판정 {item}가 {0.5 + digest[1] / 512:.2f}의 확률로 감지되었습니다.",
+                "modelVersion": version,
+                "status": "success"}
+    item = GRADES[digest[0] % len(GRADES)]
+    return {"detectedGrade": item,
+            "insight": f"등급 판정 {item}이 {0.5 + digest[1] / 512:.2f} 확률로 감지되었습니다.",
+            "modelVersion": version,
+            "status": "success"}
+
+
+def single(model_type):
+    file = request.files.get('file')
+    if file is None or file.filename == '':
+        return jsonify({"error": "No file part"}), 400
+    return jsonify(fake_result(file.read(), model_type))
+
+
+def batch(model_type):
+    files = request.files.getlist('files')
+    if not files:
+        return jsonify({"error": "No file part"}), 400
+    results = [fake_result(f.read(), model_type) if f.filename else {"error": "No selected file"} for f in files]
+    return jsonify({"results": results, "modelVersion": OPTIONS["model_version"], "status": "success"})
+
+
+def analyze_frame(image_bytes, want_part, want_grade):
+    # 프레임 요청에도 HTTP와 같은 지연/오류 주입을 적용
+    if OPTIONS["delay_ms"]:
+        time.sleep(OPTIONS["delay_ms"] / 1000)
+    if random.random() < OPTIONS["error_rate"]:
+        raise RuntimeError("injected failure")
+    result = {"modelVersion": OPTIONS["model_version"]}
+    if want_part:
+        part = fake_result(image_bytes, 'part')
+        result.update(detectedPart=part["detectedPart"], partInsight=part["insight"])
+    if want_grade:
+        grade = fake_result(image_bytes, 'grade')
+        result.update(detectedGrade=grade["detectedGrade"], gradeInsight=grade["insight"])
+    return result
+
+
+@app.route('/health', methods=['GET'])
+def health():
+    if OPTIONS["unhealthy"]:
+        return jsonify({"status": "DOWN"}), 503
+    return jsonify({"status": "UP", "modelVersion": OPTIONS["model_version"]})
+
+
+@app.route('/analyze/part', methods=['POST'])
+def analyze_part():
+    return single('part')
+
+
+@app.route('/analyze/grade', methods=['POST'])
+def analyze_grade():
+    return single('grade')
+
+
+@app.route('/analyze/part/batch', methods=['POST'])
+def analyze_part_batch():
+    return batch('part')
+
+
+@app.route('/analyze/grade/batch', methods=['POST'])
+def analyze_grade_batch():
+    return batch('grade')
+
+
+if __name__ == '__main__':
+    parser = argparse.ArgumentParser()
+    parser.add_argument('--port', type=int, default=5000)
+    parser.add_argument('--delay-ms', type=int, default=0, help='모든 분석 요청에 추가할 지연')
+    parser.add_argument('--error-rate', type=float, default=0.0, help='500으로 실패시킬 요청 비율 (0~1)')
+    parser.add_argument('--unhealthy', action='store_true', help='/health 가 503을 반환')
+    parser.add_argument('--model-version', default='stub-v1', help='응답에 넣을 모델 버전 (바꾸면 결과도 바뀜)')
+    parser.add_argument('--frame-port', type=int, default=5100, help='바이너리 프레임 서버 포트 (0이면 끔)')
+    args = parser.parse_args()
+    OPTIONS.update(delay_ms=args.delay_ms, error_rate=args.error_rate, unhealthy=args.unhealthy,
+                   model_version=args.model_version)
+    if args.frame_port:
+        frame_protocol.serve(args.frame_port, analyze_frame, log_prefix='stub-frame')
+    app.run(host='0.0.0.0', port=args.port, threaded=True)
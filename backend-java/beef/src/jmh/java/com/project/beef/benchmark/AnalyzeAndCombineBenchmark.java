@@ -0,0 +1,109 @@
+package com.project.beef.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import com.project.beef.client.AiFrameClient;
+import com.project.beef.client.AiServerClient;
+import com.project.beef.client.AiServerPool;
+import com.project.beef.client.AiServerPools;
+import com.project.beef.config.AppConfig;
+import com.project.beef.dto.CutDto;
+import com.project.beef.service.AiResultCache;
+import com.project.beef.service.CutService;
+import com.project.beef.service.ImagePreprocessor;
+import com.project.beef.util.SpooledImage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * CutService.analyzeAndCombine 전체 경로 (부위/등급 병렬 호출 → 결합)를 프로세스 내 AI 서버 대역에 대고 측정합니다.
+ * 스프링 컨텍스트 없이 AppConfig의 빈 메서드로 실제와 같은 커넥션 풀 / RestTemplate / aiExecutor를 만들고,
+ * 결과 캐시는 끄고(매번 AI 호출) DB는 사용하지 않습니다.
+ * transport=http 는 multipart 요청 2번(부위/등급 병렬), frame 은 영속 연결의 바이너리 프레임 1번입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class AnalyzeAndCombineBenchmark {
+
+    @Param({ "262144" })
+    public int imageBytes;
+
+    @Param({ "http", "frame" })
+    public String transport;
+
+    private StubAiServer stub;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private ThreadPoolTaskExecutor aiExecutor;
+    private AiFrameClient aiFrameClient;
+    private CutService cutService;
+    private SpooledImage image;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        stub = StubAiServer.start();
+
+        AppConfig appConfig = new AppConfig();
+        connectionManager = appConfig.aiConnectionManager(64, 32, 2000, 30000, 300);
+        httpClient = appConfig.aiHttpClient(connectionManager, 1000, 30000, 30);
+        RestTemplate restTemplate = appConfig.restTemplate(new RestTemplateBuilder(), httpClient);
+        aiExecutor = (ThreadPoolTaskExecutor) appConfig.aiExecutor(16, 64, false);
+
+        AiServerPools pools = new AiServerPools(stub.url(), "", "", AiServerPool.Balancer.LEAST_OUTSTANDING,
+                5, 30000, 50, false, "/health", 5000, 1000, 2);
+        aiFrameClient = new AiFrameClient(transport, stub.framePort(), 2000, 30000, 32, 30);
+        AiServerClient aiServerClient = new AiServerClient(restTemplate, pools, ObservationRegistry.NOOP, new SimpleMeterRegistry(), aiFrameClient,
+                20, 10, 50, 10000, 80, 30000, 3, 64, 64, 500);
+
+        cutService = new CutService(null, aiServerClient, aiExecutor,
+                new AiResultCache(new SimpleMeterRegistry(), false, 1, 1), new ImagePreprocessor(false, 1280, 0.9f, 100_000_000L), null, ObservationRegistry.NOOP, null);
+        setField(cutService, "aiTimeoutMs", 30000L);
+
+        byte[] bytes = new byte[imageBytes];
+        new Random(42).nextBytes(bytes);
+        image = SpooledImage.of(bytes, "bench.jpg");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        aiExecutor.shutdown();
+        aiFrameClient.close();
+        httpClient.close();
+        connectionManager.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public CutDto analyzeAndCombine() throws Exception {
+        return cutService.analyzeAndCombine(image);
+    }
+
+    // @Value 필드는 스프링 없이 만들면 0이므로 직접 설정
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.beef.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.beef.domain.Cut;
+import com.project.beef.dto.CutDto;
+
+/**
+ * Cut / CutDto 빌더 생성과 Jackson 직렬화 비용 (분석 응답 및 저장 경로에서 매 요청 발생).
+ * ObjectMapper 설정은 스프링 부트 기본값(JavaTimeModule, 날짜를 문자열로)과 맞춥니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CutSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final CutDto dto = buildDto();
+    private final Cut cut = buildCut();
+
+    @Benchmark
+    public CutDto buildDto() {
+        return CutDto.builder()
+            .status("success")
+            .detectedPart("등심")
+            .detectedGrade("1+")
+            .insight("부위 판정 등심가 0.93의 확률로 감지되었습니다.\n(등급 분석: 등급 판정 1+이 0.88 확률로 감지되었습니다.)")
+            .imageHash("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+            .build();
+    }
+
+    @Benchmark
+    public Cut buildCut() {
+        return Cut.builder()
+            .detectedPart("등심")
+            .detectedGrade("1+")
+            .marblingRatio(23)
+            .insight("부위 판정 등심가 0.93의 확률로 감지되었습니다.")
+            .fileName("IMG_0001.jpg")
+            .memberId("bench@example.com")
+            .imageHash("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+            .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+            .build();
+    }
+
+    @Benchmark
+    public byte[] serializeDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public byte[] serializeCut() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cut);
+    }
+}
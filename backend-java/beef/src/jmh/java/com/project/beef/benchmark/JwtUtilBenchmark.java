@@ -0,0 +1,48 @@
+package com.project.beef.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.project.beef.util.JwtUtil;
+
+/**
+ * JWT 발급 / 검증 비용. cache=false는 매 요청 HMAC 검증, cache=true는 검증된 토큰 캐시 적중 경로입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "QkY2RkYyODczMzk1NkREREM4RjZGNkY3OTg1NjEzNzY0MzQxMTU4Nzc1MzMxM0MyQTc4MkE4RDc0RkU3QzU5Ng==";
+
+    @Param({ "false", "true" })
+    public boolean cache;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, cache, 10_000);
+        token = jwtUtil.generateToken("bench@example.com");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("bench@example.com");
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtUtil.extractEmail(token);
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.beef.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.support.AllEncompassingFormHttpMessageConverter;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import com.project.beef.util.SpooledImage;
+
+/**
+ * AI 서버 호출 본문(multipart 'file') 인코딩 비용.
+ * RestTemplate이 쓰는 것과 같은 AllEncompassingFormHttpMessageConverter로, 메모리에 있는 이미지와
+ * 임시 파일로 보관된 이미지를 각각 인코딩합니다. (네트워크 없이 버퍼에 씀)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultipartEncodingBenchmark {
+
+    @Param({ "65536", "1048576", "4194304" })
+    public int imageBytes;
+
+    @Param({ "memory", "file" })
+    public String storage;
+
+    private final AllEncompassingFormHttpMessageConverter converter = new AllEncompassingFormHttpMessageConverter();
+    private SpooledImage image;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] bytes = new byte[imageBytes];
+        new Random(42).nextBytes(bytes);
+        long threshold = "memory".equals(storage) ? Long.MAX_VALUE : 0;
+        image = SpooledImage.spool(new MockMultipartFile("file", "bench.jpg", "image/jpeg", bytes), threshold);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        image.close();
+    }
+
+    @Benchmark
+    public long encode() throws IOException {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", image.asResource());
+        BufferedOutputMessage message = new BufferedOutputMessage();
+        converter.write(body, MediaType.MULTIPART_FORM_DATA, message);
+        return message.body.size();
+    }
+
+    /**
+     * 실제 소켓 대신 버퍼에 쓰는 HttpOutputMessage
+     */
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(64 * 1024);
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.project.beef.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 벤치마크용 프로세스 내 AI 서버 대역 (JDK HttpServer).
+ * 요청 본문은 끝까지 읽어 버리고 고정된 JSON을 바로 돌려주므로, 측정값은 백엔드 쪽 비용(인코딩, 커넥션 풀, 스레드 전환)만 반영합니다.
+ * 같은 방식으로 바이너리 프레임(ai.transport=frame) 요청도 받습니다 (framePort).
+ */
+final class StubAiServer implements AutoCloseable {
+
+    private static final byte[] PART = ("{\"detectedPart\":\"등심\",\"insight\":\"부위 판정 등심가 0.93의 확률로 감지되었습니다.\","
+            + "\"status\":\"success\"}").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] GRADE = ("{\"detectedGrade\":\"1+\",\"insight\":\"등급 판정 1+이 0.88 확률로 감지되었습니다.\","
+            + "\"status\":\"success\"}").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FRAME = frameResponse("등심", "부위 판정 등심가 0.93의 확률로 감지되었습니다.",
+            "1+", "등급 판정 1+이 0.88 확률로 감지되었습니다.");
+
+    private final HttpServer server;
+    private final ServerSocket frameServer;
+    private final ExecutorService frameExecutor;
+
+    private StubAiServer(HttpServer server, ServerSocket frameServer, ExecutorService frameExecutor) {
+        this.server = server;
+        this.frameServer = frameServer;
+        this.frameExecutor = frameExecutor;
+    }
+
+    static StubAiServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+        server.createContext("/analyze/part", exchange -> respond(exchange, PART));
+        server.createContext("/analyze/grade", exchange -> respond(exchange, GRADE));
+        server.createContext("/health", exchange -> respond(exchange, "{\"status\":\"UP\"}".getBytes(StandardCharsets.UTF_8)));
+        server.setExecutor(Executors.newFixedThreadPool(32));
+        server.start();
+
+        ServerSocket frameServer = new ServerSocket(0, 256, InetAddress.getLoopbackAddress());
+        ExecutorService frameExecutor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "stub-frame");
+            thread.setDaemon(true);
+            return thread;
+        });
+        frameExecutor.execute(() -> acceptFrames(frameServer, frameExecutor));
+        return new StubAiServer(server, frameServer, frameExecutor);
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    int framePort() {
+        return frameServer.getLocalPort();
+    }
+
+    private static void acceptFrames(ServerSocket frameServer, ExecutorService executor) {
+        while (!frameServer.isClosed()) {
+            try {
+                Socket socket = frameServer.accept();
+                executor.execute(() -> serveFrames(socket));
+            } catch (IOException e) {
+                return; // close()
+            }
+        }
+    }
+
+    // 연결 하나에서 요청 프레임을 순서대로 읽어 버리고 고정 응답을 보냄 (백엔드가 연결을 닫을 때까지)
+    private static void serveFrames(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 64 * 1024));
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            while (true) {
+                in.skipNBytes(in.readInt());
+                out.write(FRAME);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // 연결 종료
+        }
+    }
+
+    private static byte[] frameResponse(String... values) {
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            DataOutputStream data = new DataOutputStream(payload);
+            data.writeByte(0);
+            for (String value : values) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                data.writeShort(bytes.length);
+                data.write(bytes);
+            }
+            data.writeShort(0); // modelVersion 없음
+
+            ByteArrayOutputStream frame = new ByteArrayOutputStream();
+            new DataOutputStream(frame).writeInt(payload.size());
+            payload.writeTo(frame);
+            return frame.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        try {
+            frameServer.close();
+        } catch (IOException e) {
+            // 종료 중
+        }
+        frameExecutor.shutdownNow();
+    }
+}
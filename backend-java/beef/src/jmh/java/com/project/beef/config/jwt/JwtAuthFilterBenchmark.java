@@ -0,0 +1,77 @@
+package com.project.beef.config.jwt;
+
+import java.security.Key;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import com.project.beef.util.JwtUtil;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JWT 인증 필터의 요청당 비용.
+ * 요청마다 파서를 새로 만드는 방식(변경 전)과, 공용 경로 판별(AntPathRequestMatcher stream vs 미리 분해한 prefix 매칭)을 비교합니다.
+ * 재사용 파서 / 검증 캐시 비교는 JwtUtilBenchmark를 참고하세요.
+ * protected인 shouldNotFilter를 호출하기 위해 JwtAuthenticationFilter와 같은 패키지에 둡니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthFilterBenchmark {
+
+    private static final String SECRET = "QkY2RkYyODczMzk1NkREREM4RjZGNkY3OTg1NjEzNzY0MzQxMTU4Nzc1MzMxM0MyQTc4MkE4RDc0RkU3QzU5Ng==";
+
+    // JwtAuthenticationFilter.PUBLIC_ROUTES와 같은 경로를 AntPathRequestMatcher로 표현 (변경 전 방식)
+    private static final List<RequestMatcher> LEGACY_MATCHERS = Arrays.asList(
+            new AntPathRequestMatcher("/auth/**", HttpMethod.POST.name()),
+            new AntPathRequestMatcher("/**", HttpMethod.OPTIONS.name()));
+
+    private Key key;
+    private String token;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3_600_000L, true, 10_000);
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        token = jwtUtil.generateToken("bench@example.com");
+        filter = new JwtAuthenticationFilter(jwtUtil, new SimpleMeterRegistry(), "");
+
+        // 인증이 필요한 요청 (모든 매처를 끝까지 확인하는 최악의 경우)
+        request = new MockHttpServletRequest("GET", "/api/member/me");
+        request.setServletPath("/api/member/me");
+    }
+
+    @Benchmark
+    public String extractEmailNewParserPerCall() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public boolean shouldNotFilterAntPathMatchers() {
+        return LEGACY_MATCHERS.stream().anyMatch(matcher -> matcher.matches(request));
+    }
+
+    @Benchmark
+    public boolean shouldNotFilterPrecompiledRoutes() throws Exception {
+        return filter.shouldNotFilter(request);
+    }
+}
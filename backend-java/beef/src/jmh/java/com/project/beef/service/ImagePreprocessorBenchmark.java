@@ -0,0 +1,68 @@
+package com.project.beef.service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.project.beef.util.SpooledImage;
+
+/**
+ * 해상도별 이미지 전처리(디코딩 → 회전/축소 → JPEG 재인코딩) 비용.
+ * 원본 대비 전송 크기는 Setup에서 한 번 출력합니다.
+ * package-private인 encodeJpeg를 쓰기 위해 ImagePreprocessor와 같은 패키지에 둡니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImagePreprocessorBenchmark {
+
+    @Param({ "1280x960", "1920x1440", "3024x2268", "4032x3024" })
+    public String resolution;
+
+    private final ImagePreprocessor preprocessor = new ImagePreprocessor(true, 1280, 0.9f, 100_000_000L);
+    private byte[] original;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String[] size = resolution.split("x");
+        original = ImagePreprocessor.encodeJpeg(
+                syntheticPhoto(Integer.parseInt(size[0]), Integer.parseInt(size[1])), 0.95f);
+
+        long sent = preprocessor.preprocess(SpooledImage.of(original, "bench.jpg")).getSize();
+        System.out.printf("%n%s: original %d B → sent %d B (%.1f%% 절감)%n", resolution, original.length, sent,
+                100.0 * (original.length - sent) / original.length);
+    }
+
+    @Benchmark
+    public SpooledImage preprocess() throws IOException {
+        return preprocessor.preprocess(SpooledImage.of(original, "bench.jpg"));
+    }
+
+    /**
+     * 단색 이미지는 JPEG로 너무 잘 압축되므로, 그라데이션 + 노이즈로 실제 사진과 비슷한 크기를 만듭니다.
+     */
+    private static BufferedImage syntheticPhoto(int width, int height) {
+        Random random = new Random(42);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int r = Math.min(255, 140 + (x * 80 / width) + random.nextInt(24));
+                int g = Math.min(255, 40 + (y * 60 / height) + random.nextInt(24));
+                int b = Math.min(255, 50 + random.nextInt(24));
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        return image;
+    }
+}
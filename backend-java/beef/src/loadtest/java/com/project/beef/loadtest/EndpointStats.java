@@ -0,0 +1,75 @@
+package com.project.beef.loadtest;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트 하나의 응답 시간 분포와 결과(상태 코드 / 예외) 집계.
+ * 응답 시간은 "보내기로 예정된 시각"부터 재므로, 서버가 밀려 요청이 늦게 나가도 그 대기 시간이 포함됩니다 (coordinated omission 보정).
+ */
+final class EndpointStats {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+    private final ConcurrentHashMap<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long latencyNanos, String outcome, boolean success) {
+        latency.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        (success ? ok : errors).increment();
+    }
+
+    /**
+     * 요청을 보내지도 못한 경우 (클라이언트 in-flight 상한 초과)
+     */
+    void recordDropped() {
+        outcomes.computeIfAbsent("client-overload", key -> new LongAdder()).increment();
+        errors.increment();
+    }
+
+    void print(PrintStream out, double measuredSeconds) {
+        long total = ok.sum() + errors.sum();
+        out.printf("%n[%s]%n", name);
+        out.printf("  requests=%d ok=%d errors=%d (%.2f%%) throughput=%.1f req/s (ok %.1f req/s)%n",
+                total, ok.sum(), errors.sum(), total == 0 ? 0.0 : 100.0 * errors.sum() / total,
+                total / measuredSeconds, ok.sum() / measuredSeconds);
+        if (latency.getTotalCount() > 0) {
+            out.printf("  latency ms: mean=%.1f p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                    latency.getMean() / 1e6, ms(50), ms(90), ms(99), ms(99.9), latency.getMaxValue() / 1e6);
+        }
+        Map<String, Long> sorted = new TreeMap<>();
+        outcomes.forEach((key, count) -> sorted.put(key, count.sum()));
+        out.println("  outcomes: " + sorted);
+    }
+
+    void writeHgrm(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        try (PrintStream out = new PrintStream(new FileOutputStream(dir.resolve(name.replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm").toFile()))) {
+            // 단위: ms
+            latency.outputPercentileDistribution(out, 1_000_000.0);
+        }
+    }
+
+    private double ms(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1e6;
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.beef.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * /analyze/part, /analyze/grade 를 흉내내는 가짜 AI 서버 (GPU 없이 부하 테스트용).
+ *
+ * 응답 지연은 중앙값/p99로 지정한 로그정규분포에서 뽑고, error-rate 비율만큼 500을 돌려줍니다.
+ * (p99 == 중앙값이면 고정 지연)
+ */
+final class FakeAiServer implements AutoCloseable {
+
+    private static final double Z_99 = 2.326;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final double mu;
+    private final double sigma;
+    private final double errorRate;
+
+    private FakeAiServer(HttpServer server, ExecutorService executor, double medianMs, double p99Ms, double errorRate) {
+        this.server = server;
+        this.executor = executor;
+        this.mu = Math.log(Math.max(medianMs, 0.001));
+        this.sigma = Math.max(0, (Math.log(Math.max(p99Ms, medianMs)) - mu) / Z_99);
+        this.errorRate = errorRate;
+    }
+
+    static FakeAiServer start(double medianMs, double p99Ms, double errorRate) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        // 지연은 sleep으로 흉내내므로 동시 요청 수만큼 스레드가 필요
+        ExecutorService executor = Executors.newCachedThreadPool();
+        FakeAiServer fake = new FakeAiServer(server, executor, medianMs, p99Ms, errorRate);
+        server.createContext("/analyze/part", exchange -> fake.analyze(exchange,
+                "{\"detectedPart\":\"등심\",\"insight\":\"부위 판정 등심가 0.93의 확률로 감지되었습니다.\",\"status\":\"success\"}"));
+        server.createContext("/analyze/grade", exchange -> fake.analyze(exchange,
+                "{\"detectedGrade\":\"1+\",\"insight\":\"등급 판정 1+이 0.88 확률로 감지되었습니다.\",\"status\":\"success\"}"));
+        server.createContext("/health", exchange -> respond(exchange, 200, "{\"status\":\"UP\"}"));
+        server.setExecutor(executor);
+        server.start();
+        return fake;
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void analyze(HttpExchange exchange, String body) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delayMs = Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (random.nextDouble() < errorRate) {
+            respond(exchange, 500, "{\"error\":\"injected failure\"}");
+        } else {
+            respond(exchange, 200, body);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,277 @@
+package com.project.beef.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.project.beef.BeefApplication;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+/**
+ * 종단 간 부하 테스트 (GPU 없이 Tomcat 스레드 / DB 풀 / AI 동시성 크기를 정하기 위한 용도).
+ *
+ * 1. 가짜 AI 서버(지연 분포 / 오류율 조절)와 내장 MariaDB를 띄우고
+ * 2. 같은 프로세스에서 스프링 부트 앱을 임의 포트로 실행한 뒤 (--target을 주면 1, 2는 건너뛰고 그 서버를 대상으로 함)
+ * 3. 목표 RPS로 /auth/login 과 /api/cut/analyze 를 보냅니다.
+ *
+ * 요청 간격은 포아송 도착(지수 분포)이며, 응답을 기다리지 않고 예정 시각마다 비동기로 보내는 open model입니다.
+ * (closed loop처럼 서버가 느려지면 부하도 같이 줄어드는 착시가 없음)
+ *
+ * 실행: ./gradlew loadTest -PloadTest.args="--rps=50 --duration-seconds=120 --ai-latency-median-ms=400 --db-pool=20"
+ *
+ * 플랫폼 스레드 풀 vs 가상 스레드 비교: 같은 부하로 --virtual-threads=false / true 를 각각 실행하고
+ * 끝에 출력되는 "서버 자원"(최대 동시 분석 수, 요청당 메모리)과 지연 분포를 비교합니다.
+ * (가상 스레드 쪽은 --ai-concurrency, --db-pool 이 실제 상한이 되므로 함께 키워 봐야 함)
+ */
+public final class LoadTestMain {
+
+    private static final String EMAIL = "loadtest@example.com";
+    private static final String PASSWORD = "loadtest-password";
+    private static final String BOUNDARY = "----beef-loadtest-boundary";
+
+    public static void main(String[] argv) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(argv);
+        System.out.println("부하 테스트 설정: " + options);
+
+        FakeAiServer fakeAi = null;
+        DB db = null;
+        ConfigurableApplicationContext app = null;
+        try {
+            String target = options.target;
+            if (target == null) {
+                fakeAi = FakeAiServer.start(options.aiLatencyMedianMs, options.aiLatencyP99Ms, options.aiErrorRate);
+                String dbUrl = options.dbUrl;
+                if (dbUrl == null) {
+                    DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+                    config.setPort(0);
+                    db = DB.newEmbeddedDB(config.build());
+                    db.start();
+                    db.createDB("beef");
+                    dbUrl = config.getURL("beef");
+                }
+                app = startApplication(options, fakeAi.url(), dbUrl);
+                target = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+            }
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            register(client, target);
+            ServerResourceSampler sampler = app == null ? null : new ServerResourceSampler(app.getBean(MeterRegistry.class), 100);
+            try {
+                run(client, target, options, sampler);
+            } finally {
+                if (sampler != null) {
+                    sampler.close();
+                }
+            }
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+            if (db != null) {
+                db.stop();
+            }
+            if (fakeAi != null) {
+                fakeAi.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options, String aiUrl, String dbUrl)
+            throws IOException {
+        Path imageStoreDir = Files.createTempDirectory("beef-loadtest-images");
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", dbUrl);
+        properties.put("spring.datasource.username", "root");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.hikari.maximum-pool-size", options.dbPool);
+        properties.put("server.tomcat.threads.max", options.tomcatThreads);
+        properties.put("spring.threads.virtual.enabled", options.virtualThreads);
+        properties.put("ai.server.urls", aiUrl);
+        properties.put("ai.executor.pool-size", options.aiExecutorThreads);
+        properties.put("ai.bulkhead.part.max-concurrent", options.aiConcurrency);
+        properties.put("ai.bulkhead.grade.max-concurrent", options.aiConcurrency);
+        // 요청마다 이미지가 달라 전부 저장되므로 실행이 끝나면 지울 수 있는 임시 디렉터리 사용
+        properties.put("cut.image.store.dir", imageStoreDir.toString());
+        // 한 IP / 한 회원으로 목표 RPS를 보내므로 요청 제한(429)은 끔 (제한이 아닌 처리 용량을 재는 용도)
+        properties.put("rate-limit.enabled", "false");
+        // 부하 중 SQL 로그가 측정을 왜곡하지 않도록
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.springframework", "WARN");
+        return new SpringApplicationBuilder(BeefApplication.class).properties(properties).run();
+    }
+
+    private static void register(HttpClient client, String target) throws Exception {
+        String body = "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\",\"name\":\"loadtest\"}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(target + "/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        // 이미 가입된 경우(외부 대상 서버 재사용)는 로그인만 되면 되므로 무시
+        System.out.println("테스트 회원 가입: HTTP " + response.statusCode());
+    }
+
+    private static void run(HttpClient client, String target, LoadTestOptions options, ServerResourceSampler sampler)
+            throws Exception {
+        EndpointStats login = new EndpointStats("POST /auth/login");
+        EndpointStats analyze = new EndpointStats("POST /api/cut/analyze");
+
+        URI loginUri = URI.create(target + "/auth/login");
+        URI analyzeUri = URI.create(target + "/api/cut/analyze");
+        String loginBody = "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}";
+        MultipartTemplate multipart = new MultipartTemplate(options.imageBytes);
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicLong sequence = new AtomicLong();
+        Random arrivals = new Random();
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+        double meanGapNanos = 1e9 / options.rps;
+        double offset = 0;
+
+        if (sampler != null) {
+            sampler.captureBaseline();
+            sampler.start(measureFrom);
+        }
+        System.out.printf("워밍업 %ds 후 %ds 측정합니다...%n", options.warmupSeconds, options.durationSeconds);
+        while (true) {
+            // 포아송 도착: 다음 요청까지의 간격 ~ 지수 분포
+            offset += -Math.log(1 - arrivals.nextDouble()) * meanGapNanos;
+            long intended = start + (long) offset;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean isLogin = ThreadLocalRandom.current().nextDouble() < options.loginRatio;
+            EndpointStats stats = isLogin ? login : analyze;
+            boolean measured = intended >= measureFrom;
+            if (inFlight.get() >= options.maxInFlight) {
+                if (measured) {
+                    stats.recordDropped();
+                }
+                continue;
+            }
+
+            HttpRequest request = isLogin
+                    ? HttpRequest.newBuilder(loginUri)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(loginBody))
+                            .build()
+                    : HttpRequest.newBuilder(analyzeUri)
+                            .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(multipart.next(sequence.incrementAndGet())))
+                            .build();
+
+            inFlight.incrementAndGet();
+            CompletableFuture<HttpResponse<Void>> future = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+            future.whenComplete((response, error) -> {
+                inFlight.decrementAndGet();
+                if (!measured) {
+                    return;
+                }
+                long latency = System.nanoTime() - intended;
+                if (error != null) {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    stats.record(latency, cause.getClass().getSimpleName(), false);
+                } else {
+                    int status = response.statusCode();
+                    stats.record(latency, "HTTP " + status, status >= 200 && status < 300);
+                }
+            });
+        }
+
+        if (sampler != null) {
+            sampler.close(); // 드레인 구간은 부하가 줄어드므로 제외
+        }
+
+        // 남은 응답을 최대 30초 기다림
+        long drainUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainUntil) {
+            Thread.sleep(50);
+        }
+
+        double measuredSeconds = options.durationSeconds;
+        System.out.printf("%n===== 결과 (측정 %ds, 목표 %.1f req/s, 미완료 %d건) =====%n", options.durationSeconds, options.rps, inFlight.get());
+        for (EndpointStats stats : List.of(login, analyze)) {
+            stats.print(System.out, measuredSeconds);
+            if (options.hgrmDir != null) {
+                stats.writeHgrm(Path.of(options.hgrmDir));
+            }
+        }
+        if (sampler != null) {
+            sampler.print(System.out, options.virtualThreads);
+        }
+    }
+
+    /**
+     * /api/cut/analyze multipart 본문. 매 요청 이미지 끝 16바이트를 바꿔 SHA-256이 달라지게 하므로
+     * AI 결과 캐시에 적중하지 않고 매번 (가짜) AI 서버까지 호출됩니다.
+     */
+    private static final class MultipartTemplate {
+
+        private final byte[] template;
+        private final int uniqueOffset;
+
+        MultipartTemplate(int imageBytes) {
+            byte[] image = new byte[imageBytes + 16];
+            new Random(42).nextBytes(image);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(image.length + 512);
+            out.writeBytes(("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"file\"; filename=\"loadtest.jpg\"\r\n"
+                    + "Content-Type: image/jpeg\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+            uniqueOffset = out.size() + imageBytes;
+            out.writeBytes(image);
+            out.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+            template = out.toByteArray();
+        }
+
+        byte[] next(long sequence) {
+            byte[] body = template.clone();
+            UUID unique = new UUID(sequence, System.nanoTime());
+            long most = unique.getMostSignificantBits();
+            long least = unique.getLeastSignificantBits();
+            for (int i = 0; i < 8; i++) {
+                body[uniqueOffset + i] = (byte) (most >>> (8 * i));
+                body[uniqueOffset + 8 + i] = (byte) (least >>> (8 * i));
+            }
+            return body;
+        }
+    }
+}
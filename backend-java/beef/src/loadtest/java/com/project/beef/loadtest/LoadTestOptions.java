@@ -0,0 +1,77 @@
+package com.project.beef.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션. 인자는 --key=value 형식입니다. (./gradlew loadTest -PloadTest.args="--rps=50 --duration-seconds=120")
+ */
+final class LoadTestOptions {
+
+    // 부하
+    final double rps;
+    final int durationSeconds;
+    final int warmupSeconds;
+    final double loginRatio;          // 전체 요청 중 /auth/login 비율 (나머지는 /api/cut/analyze)
+    final int imageBytes;
+    final int maxInFlight;            // 클라이언트 메모리 보호용 상한 (넘으면 요청을 보내지 않고 client-overload로 집계)
+
+    // 가짜 AI 서버
+    final double aiLatencyMedianMs;
+    final double aiLatencyP99Ms;
+    final double aiErrorRate;
+
+    // 대상 애플리케이션 설정 (--target이 없을 때만 사용)
+    final String target;              // 이미 떠 있는 서버 주소. 없으면 이 프로세스에서 앱을 띄움
+    final String dbUrl;               // 없으면 내장 MariaDB(MariaDB4j)
+    final int tomcatThreads;
+    final int dbPool;
+    final int aiExecutorThreads;
+    final int aiConcurrency;          // 부위/등급 엔드포인트별 bulkhead
+    final boolean virtualThreads;     // spring.threads.virtual.enabled (켜면 tomcat-threads / ai-executor-threads 무시)
+
+    final String hgrmDir;             // 지정하면 엔드포인트별 HdrHistogram 분포(.hgrm) 파일 저장
+
+    private LoadTestOptions(Map<String, String> args) {
+        rps = Double.parseDouble(args.getOrDefault("rps", "20"));
+        durationSeconds = Integer.parseInt(args.getOrDefault("duration-seconds", "60"));
+        warmupSeconds = Integer.parseInt(args.getOrDefault("warmup-seconds", "10"));
+        loginRatio = Double.parseDouble(args.getOrDefault("login-ratio", "0.1"));
+        imageBytes = Integer.parseInt(args.getOrDefault("image-bytes", "200000"));
+        maxInFlight = Integer.parseInt(args.getOrDefault("max-in-flight", "10000"));
+
+        aiLatencyMedianMs = Double.parseDouble(args.getOrDefault("ai-latency-median-ms", "300"));
+        aiLatencyP99Ms = Double.parseDouble(args.getOrDefault("ai-latency-p99-ms", "1200"));
+        aiErrorRate = Double.parseDouble(args.getOrDefault("ai-error-rate", "0"));
+
+        target = args.get("target");
+        dbUrl = args.get("db-url");
+        tomcatThreads = Integer.parseInt(args.getOrDefault("tomcat-threads", "200"));
+        dbPool = Integer.parseInt(args.getOrDefault("db-pool", "10"));
+        aiExecutorThreads = Integer.parseInt(args.getOrDefault("ai-executor-threads", "16"));
+        aiConcurrency = Integer.parseInt(args.getOrDefault("ai-concurrency", "16"));
+        virtualThreads = Boolean.parseBoolean(args.getOrDefault("virtual-threads", "false"));
+
+        hgrmDir = args.get("hgrm-dir");
+    }
+
+    static LoadTestOptions parse(String[] argv) {
+        Map<String, String> args = new LinkedHashMap<>();
+        for (String arg : argv) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            args.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return new LoadTestOptions(args);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rps=%.1f duration=%ds warmup=%ds login-ratio=%.2f image=%dB | ai median=%.0fms p99=%.0fms error=%.3f"
+                        + " | tomcat=%d db-pool=%d ai-executor=%d ai-concurrency=%d virtual-threads=%s target=%s",
+                rps, durationSeconds, warmupSeconds, loginRatio, imageBytes, aiLatencyMedianMs, aiLatencyP99Ms, aiErrorRate,
+                tomcatThreads, dbPool, aiExecutorThreads, aiConcurrency, virtualThreads, target == null ? "(in-process)" : target);
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.beef.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 프로세스에서 띄운 앱의 자원 사용량을 측정 구간 동안 주기적으로 기록합니다 (--target 없이 실행할 때만).
+ *
+ * 플랫폼 스레드 풀과 가상 스레드 모드(--virtual-threads=true)를 같은 부하로 돌려
+ * 동시에 처리한 분석 요청 수(beef.analyze.in.flight)와 처리 중 요청 1건당 메모리를 비교하는 용도입니다.
+ * 요청당 메모리 = (측정 중 평균 사용량 - 부하 전 기준값) / 평균 동시 요청 수. 힙에는 가비지가 섞이므로 대략적인 값이며,
+ * 플랫폼 스레드 스택은 힙 밖(네이티브)에 있으므로 RSS도 함께 봅니다.
+ * 부하 클라이언트도 같은 프로세스이므로 보내는 중인 요청 본문(image-bytes)이 포함됩니다 (두 모드에 똑같이 더해짐).
+ */
+final class ServerResourceSampler implements AutoCloseable {
+
+    private static final Path PROC_STATUS = Path.of("/proc/self/status");
+
+    private final MeterRegistry meterRegistry;
+    private final long intervalMillis;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private long baselineHeap;
+    private long baselineRss;
+
+    private int samples;
+    private double inFlightSum;
+    private int inFlightMax;
+    private double heapSum;
+    private double rssSum;
+    private int platformThreadsMax;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    ServerResourceSampler(MeterRegistry meterRegistry, long intervalMillis) {
+        this.meterRegistry = meterRegistry;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * 부하를 걸기 전 기준값 (GC 후 힙, RSS)
+     */
+    void captureBaseline() throws InterruptedException {
+        System.gc();
+        Thread.sleep(200);
+        baselineHeap = memory.getHeapMemoryUsage().getUsed();
+        baselineRss = rss();
+        threads.resetPeakThreadCount();
+    }
+
+    /**
+     * measureFrom(System.nanoTime 기준) 이후의 샘플만 기록합니다.
+     */
+    void start(long measureFrom) {
+        running = true;
+        thread = new Thread(() -> {
+            while (running) {
+                if (System.nanoTime() >= measureFrom) {
+                    sample();
+                }
+                try {
+                    Thread.sleep(intervalMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "loadtest-sampler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private synchronized void sample() {
+        Gauge gauge = meterRegistry.find("beef.analyze.in.flight").gauge();
+        int inFlight = gauge == null ? 0 : (int) gauge.value();
+        samples++;
+        inFlightSum += inFlight;
+        inFlightMax = Math.max(inFlightMax, inFlight);
+        heapSum += memory.getHeapMemoryUsage().getUsed();
+        rssSum += rss();
+        platformThreadsMax = Math.max(platformThreadsMax, threads.getThreadCount());
+    }
+
+    // Linux가 아니면 0
+    private static long rss() {
+        try {
+            for (String line : Files.readAllLines(PROC_STATUS)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 측정 불가
+        }
+        return 0;
+    }
+
+    synchronized void print(PrintStream out, boolean virtualThreads) {
+        out.printf("%n===== 서버 자원 (가상 스레드 %s, 샘플 %d개) =====%n", virtualThreads ? "ON" : "OFF", samples);
+        if (samples == 0) {
+            out.println("샘플 없음");
+            return;
+        }
+        double inFlightMean = inFlightSum / samples;
+        double heapMean = heapSum / samples;
+        double rssMean = rssSum / samples;
+        out.printf("동시 분석 요청   최대 %d  평균 %.1f%n", inFlightMax, inFlightMean);
+        out.printf("플랫폼 스레드    최대 %d (JVM 전체, 가상 스레드 제외)%n", Math.max(platformThreadsMax, threads.getPeakThreadCount()));
+        out.printf("힙 사용          기준 %.1fMB  평균 %.1fMB  → 처리 중 요청당 약 %s%n",
+                mb(baselineHeap), mb(heapMean), perRequest(heapMean - baselineHeap, inFlightMean));
+        if (baselineRss > 0) {
+            out.printf("RSS              기준 %.1fMB  평균 %.1fMB  → 처리 중 요청당 약 %s%n",
+                    mb(baselineRss), mb(rssMean), perRequest(rssMean - baselineRss, inFlightMean));
+        }
+    }
+
+    private static String perRequest(double bytes, double inFlight) {
+        if (inFlight < 1) {
+            return "- (동시 요청이 거의 없음)";
+        }
+        return String.format("%.0fKB", bytes / inFlight / 1024);
+    }
+
+    private static double mb(double bytes) {
+        return bytes / (1024 * 1024);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(1));
+        }
+    }
+}
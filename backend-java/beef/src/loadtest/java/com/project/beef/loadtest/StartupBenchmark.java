@@ -0,0 +1,238 @@
+package com.project.beef.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+/**
+ * 기동 시간 / 메모리 비교 (일반 jar vs AOT + CDS vs 네이티브 이미지).
+ *
+ * 각 방식으로 앱을 별도 프로세스로 띄워 "Started BeefApplication" 로그가 찍힐 때까지의 시간(프로세스 생성부터, JVM 기동 포함)과
+ * 그 시점의 RSS(/proc/&lt;pid&gt;/status VmRSS)를 잽니다. 방식마다 --runs 번 반복해 중앙값을 출력하고,
+ * 처음 한 번은 디스크 캐시를 데우는 용도로 버립니다. DB는 내장 MariaDB (--db-url로 외부 DB 지정 가능).
+ *
+ * 준비: ./gradlew bootJar                       (일반 jar, 비교 기준)
+ *       ./gradlew bootJar cdsArchive -Paot     (AOT jar + CDS 아카이브 → build/cds, 학습 실행에 DB 필요)
+ *       ./gradlew nativeCompile -Pnative       (네이티브 실행 파일, GraalVM 필요)
+ * 실행: ./gradlew startupBench -PstartupBench.args="--jar=build/libs/beef-0.0.1-SNAPSHOT.jar --cds-dir=build/cds
+ *           --native=build/native/nativeCompile/beef --runs=5"
+ *
+ * 주의: -Paot 로 만든 jar는 AOT 코드를 포함하지만 -Dspring.aot.enabled=true 없이 실행하면 일반 jar와 같게 동작하므로,
+ * 기준 jar는 -Paot 없이 빌드한 것을 (다른 경로로 복사해) 쓰는 편이 정확합니다.
+ */
+public final class StartupBenchmark {
+
+    private static final Pattern STARTED = Pattern.compile("Started BeefApplication in ([0-9.]+) seconds");
+    private static final Path PROC = Path.of("/proc");
+
+    public static void main(String[] argv) throws Exception {
+        Map<String, String> args = parse(argv);
+        String jar = args.getOrDefault("jar", "build/libs/beef-0.0.1-SNAPSHOT.jar");
+        String cdsDir = args.get("cds-dir");
+        String nativeImage = args.get("native");
+        int runs = Integer.parseInt(args.getOrDefault("runs", "5"));
+        int port = Integer.parseInt(args.getOrDefault("port", "18080"));
+        long timeoutSeconds = Long.parseLong(args.getOrDefault("timeout-seconds", "120"));
+        String java = args.getOrDefault("java", Path.of(System.getProperty("java.home"), "bin", "java").toString());
+
+        DB db = null;
+        try {
+            String dbUrl = args.get("db-url");
+            if (dbUrl == null) {
+                DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+                config.setPort(0);
+                db = DB.newEmbeddedDB(config.build());
+                db.start();
+                db.createDB("beef");
+                dbUrl = config.getURL("beef");
+            }
+            Path imageStoreDir = Files.createTempDirectory("beef-startup-images");
+            List<String> appArgs = List.of(
+                    "--server.port=" + port,
+                    "--spring.datasource.url=" + dbUrl,
+                    "--spring.datasource.username=" + args.getOrDefault("db-user", "root"),
+                    "--spring.datasource.password=" + args.getOrDefault("db-password", ""),
+                    "--cut.image.store.dir=" + imageStoreDir,
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.project.beef.BeefApplication=INFO");
+
+            Map<String, List<String>> variants = new LinkedHashMap<>();
+            variants.put("jar", List.of(java, "-jar", jar));
+            if (cdsDir != null) {
+                variants.put("aot+cds", List.of(java,
+                        "-XX:SharedArchiveFile=" + Path.of(cdsDir, "beef.jsa"),
+                        "-Dspring.aot.enabled=true",
+                        "-jar", Path.of(cdsDir, Path.of(jar).getFileName().toString()).toString()));
+            }
+            if (nativeImage != null) {
+                variants.put("native", List.of(nativeImage));
+            }
+
+            Map<String, Result> results = new LinkedHashMap<>();
+            for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+                List<String> command = new ArrayList<>(variant.getValue());
+                command.addAll(appArgs);
+                System.out.println("측정: " + variant.getKey() + " → " + String.join(" ", variant.getValue()));
+                Result result = new Result();
+                for (int i = 0; i <= runs; i++) {
+                    Sample sample = launch(command, timeoutSeconds);
+                    if (i == 0) {
+                        continue; // 디스크 캐시 워밍업
+                    }
+                    System.out.printf("  #%d  준비 %dms  (Spring 보고 %.2fs)  RSS %.1fMB%n",
+                            i, sample.readyMillis, sample.reportedSeconds, mb(sample.rssBytes));
+                    result.add(sample);
+                }
+                results.put(variant.getKey(), result);
+            }
+            print(results);
+        } finally {
+            if (db != null) {
+                db.stop();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static Sample launch(List<String> command, long timeoutSeconds) throws Exception {
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        CompletableFuture<Double> started = new CompletableFuture<>();
+        List<String> tail = new ArrayList<>();
+        Thread reader = new Thread(() -> readOutput(process, started, tail), "startup-output");
+        reader.setDaemon(true);
+        reader.start();
+        try {
+            double reported = started.get(timeoutSeconds, TimeUnit.SECONDS);
+            long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            return new Sample(readyMillis, reported, rss(process.pid()));
+        } catch (TimeoutException e) {
+            throw new IllegalStateException(timeoutSeconds + "초 안에 기동하지 않았습니다. 마지막 출력:\n" + lastLines(tail));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static void readOutput(Process process, CompletableFuture<Double> started, List<String> tail) {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                synchronized (tail) {
+                    tail.add(line);
+                    if (tail.size() > 30) {
+                        tail.remove(0);
+                    }
+                }
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    started.complete(Double.parseDouble(matcher.group(1)));
+                }
+            }
+        } catch (IOException e) {
+            // 프로세스 종료
+        }
+        started.completeExceptionally(new IllegalStateException(
+                "앱이 기동 전에 종료되었습니다. 마지막 출력:\n" + lastLines(tail)));
+    }
+
+    private static String lastLines(List<String> tail) {
+        synchronized (tail) {
+            return String.join("\n", tail);
+        }
+    }
+
+    // Linux가 아니면 0
+    private static long rss(long pid) {
+        try {
+            for (String line : Files.readAllLines(PROC.resolve(Long.toString(pid)).resolve("status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // 측정 불가
+        }
+        return 0;
+    }
+
+    private static void print(Map<String, Result> results) {
+        Result baseline = results.get("jar");
+        System.out.printf("%n===== 기동 시간 / 메모리 (중앙값) =====%n");
+        System.out.printf("%-10s %12s %14s %12s %10s %10s%n", "방식", "준비(ms)", "Spring 보고(s)", "RSS(MB)", "시간 대비", "RSS 대비");
+        results.forEach((name, result) -> System.out.printf("%-10s %12d %14.2f %12.1f %10s %10s%n",
+                name, result.readyMillis(), result.reportedSeconds(), mb(result.rssBytes()),
+                ratio(result.readyMillis(), baseline.readyMillis()), ratio(result.rssBytes(), baseline.rssBytes())));
+    }
+
+    private static String ratio(double value, double baseline) {
+        return baseline <= 0 ? "-" : String.format("%.0f%%", value * 100 / baseline);
+    }
+
+    private static double mb(double bytes) {
+        return bytes / (1024 * 1024);
+    }
+
+    private static Map<String, String> parse(String[] argv) {
+        Map<String, String> args = new LinkedHashMap<>();
+        for (String arg : argv) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자는 --key=value 형식이어야 합니다: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            args.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return args;
+    }
+
+    private record Sample(long readyMillis, double reportedSeconds, long rssBytes) {
+    }
+
+    private static final class Result {
+        private final List<Sample> samples = new ArrayList<>();
+
+        void add(Sample sample) {
+            samples.add(sample);
+        }
+
+        long readyMillis() {
+            return (long) median(samples.stream().mapToDouble(Sample::readyMillis).toArray());
+        }
+
+        double reportedSeconds() {
+            return median(samples.stream().mapToDouble(Sample::reportedSeconds).toArray());
+        }
+
+        long rssBytes() {
+            return (long) median(samples.stream().mapToDouble(Sample::rssBytes).toArray());
+        }
+
+        private static double median(double[] values) {
+            if (values.length == 0) {
+                return 0;
+            }
+            Arrays.sort(values);
+            int mid = values.length / 2;
+            return values.length % 2 == 1 ? values[mid] : (values[mid - 1] + values[mid]) / 2;
+        }
+    }
+}
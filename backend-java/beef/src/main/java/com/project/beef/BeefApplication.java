@@ -2,8 +2,12 @@ package com.project.beef;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.project.beef.config.BeefRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(BeefRuntimeHints.class)
 public class BeefApplication {
 
 	public static void main(String[] args) {
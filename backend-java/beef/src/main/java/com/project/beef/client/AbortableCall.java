@@ -0,0 +1,93 @@
+package com.project.beef.client;
+
+import java.util.concurrent.Callable;
+
+import org.apache.hc.core5.concurrent.Cancellable;
+
+/**
+ * 다른 스레드에서 실행 중인 AI 호출 하나를 중단하기 위한 핸들.
+ *
+ * Future.cancel(true)는 작업 스레드를 interrupt할 뿐이라, 소켓 read에서 막혀 있는 HttpClient 5(classic) 요청은
+ * 응답이 오거나 소켓 타임아웃이 날 때까지 커넥션과 AI 서버 자원을 계속 잡고 있습니다.
+ * wrap()으로 감싼 작업이 보내는 HTTP 요청은 AbortableHttpRequestFactory가 여기에 등록하고,
+ * abort()를 호출하면 진행 중인 요청을 cancel()하여 커넥션을 바로 끊습니다. abort() 이후에 시작하는 요청(failover 등)도 즉시 취소됩니다.
+ */
+public final class AbortableCall {
+
+    private static final ThreadLocal<AbortableCall> CURRENT = new ThreadLocal<>();
+
+    private Cancellable request;
+    private boolean aborted;
+
+    /**
+     * 작업 스레드에서 task를 실행하는 동안 이 핸들을 현재 호출로 등록합니다.
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> {
+            AbortableCall previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return task.call();
+            } finally {
+                clear();
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * 진행 중인 요청을 끊고, 이후 요청도 보내지 않게 합니다. 이미 끝난 호출에는 영향이 없습니다.
+     */
+    public void abort() {
+        Cancellable current;
+        synchronized (this) {
+            aborted = true;
+            current = request;
+            request = null;
+        }
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    /**
+     * 현재 스레드의 호출이 abort()되었는지. 중단된 호출의 실패를 AI 서버 장애로 집계하지 않기 위해 사용합니다.
+     */
+    public static boolean isCurrentAborted() {
+        AbortableCall call = CURRENT.get();
+        if (call == null) {
+            return false;
+        }
+        synchronized (call) {
+            return call.aborted;
+        }
+    }
+
+    /**
+     * 현재 스레드의 호출에 HTTP 요청을 등록합니다. wrap() 밖이면 아무것도 하지 않습니다.
+     */
+    static void register(Cancellable request) {
+        AbortableCall call = CURRENT.get();
+        if (call == null) {
+            return;
+        }
+        boolean cancelNow;
+        synchronized (call) {
+            cancelNow = call.aborted;
+            if (!cancelNow) {
+                call.request = request;
+            }
+        }
+        if (cancelNow) {
+            request.cancel();
+        }
+    }
+
+    private synchronized void clear() {
+        request = null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.beef.client;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * 만든 요청(HttpUriRequestBase는 Cancellable)을 현재 AbortableCall에 등록하는 요청 팩토리.
+ * AbortableCall 밖에서 보내는 요청은 기존과 똑같이 동작합니다.
+ */
+public class AbortableHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    public AbortableHttpRequestFactory(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    @Override
+    protected void postProcessHttpRequest(ClassicHttpRequest request) {
+        if (request instanceof Cancellable cancellable) {
+            AbortableCall.register(cancellable);
+        }
+    }
+}
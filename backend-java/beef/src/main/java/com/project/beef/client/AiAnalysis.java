@@ -0,0 +1,39 @@
+package com.project.beef.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부위 + 등급을 한 번에 요청한 결과 (바이너리 프레임 응답을 그대로 담은 값, JSON/Map 변환 없음).
+ * 요청하지 않은 쪽의 값은 null입니다.
+ */
+public record AiAnalysis(
+        String detectedPart,
+        String partInsight,
+        String detectedGrade,
+        String gradeInsight,
+        String modelVersion) {
+
+    /**
+     * HTTP 응답과 같은 형태의 부위 결과 (HTTP 경로와 AI 결과 캐시를 공유하기 위해 사용)
+     */
+    public Map<String, Object> partResponse() {
+        return response("detectedPart", detectedPart, partInsight);
+    }
+
+    /**
+     * HTTP 응답과 같은 형태의 등급 결과
+     */
+    public Map<String, Object> gradeResponse() {
+        return response("detectedGrade", detectedGrade, gradeInsight);
+    }
+
+    private Map<String, Object> response(String key, String detected, String insight) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put(key, detected);
+        result.put("insight", insight);
+        result.put("modelVersion", modelVersion);
+        result.put("status", "success");
+        return result;
+    }
+}
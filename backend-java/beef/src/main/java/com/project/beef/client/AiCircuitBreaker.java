@@ -0,0 +1,208 @@
+package com.project.beef.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 N회 호출 결과(개수 기반 슬라이딩 윈도우)로 동작하는 서킷 브레이커.
+ *
+ * CLOSED    : 정상. 실패율 또는 느린 호출 비율이 임계값을 넘으면 OPEN
+ * OPEN      : open-duration 동안 호출하지 않고 바로 실패 (fail fast)
+ * HALF_OPEN : open-duration이 지나면 제한된 수의 시험 호출만 허용. 모두 성공하면 CLOSED, 하나라도 실패/지연이면 다시 OPEN
+ *
+ * 상태 변경은 짧은 계산뿐이므로 synchronized로 보호합니다. (HTTP 호출 자체는 락 밖에서 실행)
+ *
+ * 허용(Permit)에는 발급 당시의 세대(generation)가 붙습니다. 상태가 바뀔 때마다 세대가 올라가므로,
+ * 이전 상태에서 나간 호출의 늦은 결과나 반납은 현재 윈도우와 HALF_OPEN 시험 호출 수에 섞이지 않습니다.
+ */
+public class AiCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * tryAcquire()가 발급한 호출 허용. 결과 기록(onResult)이나 반납(release)에 그대로 돌려줍니다.
+     */
+    public static final class Permit {
+        private final long generation;
+
+        private Permit(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallNanos;
+    private final int slowCallRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenPermittedCalls;
+    private final LongSupplier nanoClock;
+
+    // 슬라이딩 윈도우 (링 버퍼)
+    private final boolean[] failures;
+    private final boolean[] slows;
+    private int index;
+    private int recorded;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAtNanos;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    private final AtomicLong notPermitted = new AtomicLong();
+    private final AtomicLong openedCount = new AtomicLong();
+
+    public AiCircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+            long slowCallMs, int slowCallRateThreshold, long openDurationMs, int halfOpenPermittedCalls) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, slowCallMs, slowCallRateThreshold,
+                openDurationMs, halfOpenPermittedCalls, System::nanoTime);
+    }
+
+    /**
+     * nanoClock: open-duration 계산에 쓰는 시계 (테스트에서 시간을 직접 움직이기 위해 주입)
+     */
+    public AiCircuitBreaker(String name, int windowSize, int minimumCalls, int failureRateThreshold,
+            long slowCallMs, int slowCallRateThreshold, long openDurationMs, int halfOpenPermittedCalls,
+            LongSupplier nanoClock) {
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMs);
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+        this.nanoClock = nanoClock;
+        this.failures = new boolean[windowSize];
+        this.slows = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 전에 허용 여부를 확인합니다. null이면 호출하지 말고 바로 실패해야 합니다.
+     */
+    public synchronized Permit tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+                notPermitted.incrementAndGet();
+                return null;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenPermittedCalls) {
+                notPermitted.incrementAndGet();
+                return null;
+            }
+            halfOpenInFlight++;
+        }
+        return new Permit(generation);
+    }
+
+    /**
+     * tryAcquire()가 true였지만 호출하지 않고 끝난 경우 (함께 확인한 다른 브레이커가 열려 있는 등) 허용을 반납합니다.
+     */
+    public synchronized void release(Permit permit) {
+        if (permit.generation == generation && state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+        }
+    }
+
+    /**
+     * tryAcquire()가 true였던 호출이 끝나면 반드시 결과를 기록합니다.
+     */
+    public synchronized void onResult(Permit permit, long elapsedNanos, boolean failed) {
+        if (permit.generation != generation) {
+            return; // 상태가 바뀌기 전에 나간 호출의 늦은 결과는 무시
+        }
+        boolean slow = elapsedNanos >= slowCallNanos;
+
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+            if (failed || slow) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSucceeded >= halfOpenPermittedCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (recorded == windowSize) {
+            // 가장 오래된 결과를 밀어냄
+            if (failures[index]) {
+                failureCount--;
+            }
+            if (slows[index]) {
+                slowCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[index] = failed;
+        slows[index] = slow;
+        if (failed) {
+            failureCount++;
+        }
+        if (slow) {
+            slowCount++;
+        }
+        index = (index + 1) % windowSize;
+
+        if (recorded >= minimumCalls
+                && (failureCount * 100 >= failureRateThreshold * recorded
+                    || slowCount * 100 >= slowCallRateThreshold * recorded)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        generation++;
+        halfOpenInFlight = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+            openedCount.incrementAndGet();
+        }
+        if (next != State.HALF_OPEN) {
+            // OPEN/CLOSED로 바뀌면 새 윈도우에서 다시 집계
+            recorded = 0;
+            index = 0;
+            failureCount = 0;
+            slowCount = 0;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getNotPermittedCount() {
+        return notPermitted.get();
+    }
+
+    public long getOpenedCount() {
+        return openedCount.get();
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("state", state.name());
+        result.put("bufferedCalls", recorded);
+        result.put("failureRate", recorded == 0 ? 0.0 : failureCount * 100.0 / recorded);
+        result.put("slowCallRate", recorded == 0 ? 0.0 : slowCount * 100.0 / recorded);
+        result.put("notPermittedCalls", notPermitted.get());
+        result.put("openedCount", openedCount.get());
+        return result;
+    }
+}
@@ -0,0 +1,279 @@
+package com.project.beef.client;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.project.beef.util.SpooledImage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 서버 바이너리 프레임 클라이언트 (ai.transport=frame).
+ *
+ * 이미지 1장과 분석 종류(부위/등급)를 길이 접두 프레임 하나로 보내고, 결과를 Map이 아닌 AiAnalysis로 바로 읽습니다.
+ * multipart 경계/헤더 인코딩과 JSON 파싱이 없고, 부위/등급 요청 두 번이 한 번으로 줄어듭니다.
+ * 프로토콜 정의는 ai-server/frame_protocol.py 참고.
+ *
+ * 연결은 인스턴스(호스트)별로 유휴 목록에 보관해 재사용합니다. 한 연결에는 동시에 요청 1개만 보내고,
+ * idle-timeout보다 오래 쉰 연결은 버립니다. 재사용한 연결이 이미 끊겨 있던 경우(서버 재시작 등)는 새 연결로 한 번 더 보냅니다.
+ * 그 밖의 I/O 오류는 ResourceAccessException으로 던져 HTTP와 같은 인스턴스 장애 처리(다른 인스턴스 재시도, 제외)를 받습니다.
+ */
+@Component
+@Slf4j
+public class AiFrameClient {
+
+    static final int VERSION = 1;
+    static final int TASK_PART = 1;
+    static final int TASK_GRADE = 2;
+    private static final int STATUS_OK = 0;
+    private static final int MAX_RESPONSE_BYTES = 1024 * 1024;
+
+    private final boolean enabled;
+    private final int port;
+    private final int connectTimeoutMs;
+    private final int readTimeoutMs;
+    private final int maxIdlePerHost;
+    private final long idleTimeoutNanos;
+
+    private final Map<String, Deque<Connection>> idle = new ConcurrentHashMap<>();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong staleRetries = new AtomicLong();
+
+    public AiFrameClient(
+            @Value("${ai.transport:http}") String transport,
+            @Value("${ai.transport.frame.port:5100}") int port,
+            @Value("${ai.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${ai.server.timeout-ms:30000}") int readTimeoutMs,
+            @Value("${ai.transport.frame.max-idle-per-host:32}") int maxIdlePerHost,
+            @Value("${ai.transport.frame.idle-timeout-seconds:30}") long idleTimeoutSeconds) {
+        this.enabled = "frame".equalsIgnoreCase(transport.trim());
+        this.port = port;
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
+        this.maxIdlePerHost = maxIdlePerHost;
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * baseUrl 인스턴스(같은 호스트의 프레임 포트)에 부위/등급 분석을 한 번에 요청합니다.
+     */
+    public AiAnalysis analyze(String baseUrl, SpooledImage image, boolean part, boolean grade, String requestId) {
+        String host = URI.create(baseUrl).getHost();
+        int tasks = (part ? TASK_PART : 0) | (grade ? TASK_GRADE : 0);
+        requests.incrementAndGet();
+
+        Connection connection = borrow(host);
+        if (connection != null) {
+            try {
+                return exchange(host, connection, tasks, requestId, image);
+            } catch (SocketTimeoutException e) {
+                throw new ResourceAccessException("AI 프레임 응답 시간 초과 (" + host + ":" + port + ")", e);
+            } catch (IOException e) {
+                // 유휴 중 서버가 닫은 연결일 수 있으므로 새 연결로 한 번 더 (분석은 부작용이 없음)
+                staleRetries.incrementAndGet();
+            }
+        }
+        try {
+            return exchange(host, open(host), tasks, requestId, image);
+        } catch (IOException e) {
+            throw new ResourceAccessException("AI 프레임 통신 오류 (" + host + ":" + port + "): " + e.getMessage(), e);
+        }
+    }
+
+    private AiAnalysis exchange(String host, Connection connection, int tasks, String requestId, SpooledImage image)
+            throws IOException {
+        boolean healthy = false;
+        try {
+            writeRequest(connection.out, tasks, requestId, image);
+            AiAnalysis result = readResponse(connection.in);
+            healthy = true;
+            return result;
+        } catch (AiFrameErrorException e) {
+            healthy = true; // 서버가 오류 응답을 보낸 것뿐이므로 연결은 계속 사용
+            throw new IllegalStateException(e.getMessage());
+        } finally {
+            if (healthy) {
+                release(host, connection);
+            } else {
+                connection.close();
+            }
+        }
+    }
+
+    private static void writeRequest(DataOutputStream out, int tasks, String requestId, SpooledImage image) throws IOException {
+        byte[] id = requestId == null ? new byte[0] : requestId.getBytes(StandardCharsets.UTF_8);
+        long size = image.getSize();
+        if (size > Integer.MAX_VALUE - 1024) {
+            throw new IllegalArgumentException("이미지가 너무 큽니다: " + size + " bytes");
+        }
+        out.writeInt(1 + 1 + 2 + id.length + 4 + (int) size);
+        out.writeByte(VERSION);
+        out.writeByte(tasks);
+        out.writeShort(id.length);
+        out.write(id);
+        out.writeInt((int) size);
+        try (InputStream in = image.openStream()) {
+            in.transferTo(out);
+        }
+        out.flush();
+    }
+
+    private static AiAnalysis readResponse(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length <= 0 || length > MAX_RESPONSE_BYTES) {
+            throw new IOException("잘못된 AI 프레임 응답 길이: " + length);
+        }
+        ByteBuffer payload = ByteBuffer.wrap(in.readNBytes(length));
+        if (payload.remaining() != length) {
+            throw new IOException("AI 프레임 응답이 중간에 끊겼습니다.");
+        }
+        int status = payload.get() & 0xFF;
+        if (status != STATUS_OK) {
+            throw new AiFrameErrorException(readString(payload));
+        }
+        return new AiAnalysis(readString(payload), readString(payload), readString(payload), readString(payload),
+                readString(payload));
+    }
+
+    // u16 길이 + UTF-8, 길이 0은 null. 프레임보다 긴 길이는 깨진 응답이므로 IOException (연결을 닫고 다른 인스턴스로)
+    private static String readString(ByteBuffer payload) throws IOException {
+        if (payload.remaining() < 2) {
+            throw new IOException("AI 프레임 응답 필드가 부족합니다.");
+        }
+        int length = payload.getShort() & 0xFFFF;
+        if (length > payload.remaining()) {
+            throw new IOException("잘못된 AI 프레임 문자열 길이: " + length);
+        }
+        if (length == 0) {
+            return null;
+        }
+        String value = new String(payload.array(), payload.position(), length, StandardCharsets.UTF_8);
+        payload.position(payload.position() + length);
+        return value;
+    }
+
+    // ----------------------------------------------------
+    // 연결 재사용
+    // ----------------------------------------------------
+
+    private Connection borrow(String host) {
+        Deque<Connection> connections = idle.get(host);
+        if (connections == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        Connection connection;
+        while ((connection = connections.pollFirst()) != null) {
+            if (now - connection.lastUsedNanos < idleTimeoutNanos && !connection.socket.isClosed()) {
+                reused.incrementAndGet();
+                return connection;
+            }
+            connection.close();
+        }
+        return null;
+    }
+
+    private void release(String host, Connection connection) {
+        Deque<Connection> connections = idle.computeIfAbsent(host, h -> new ConcurrentLinkedDeque<>());
+        if (connections.size() >= maxIdlePerHost) {
+            connection.close();
+            return;
+        }
+        connection.lastUsedNanos = System.nanoTime();
+        connections.offerFirst(connection); // 최근에 쓴 연결부터 다시 사용 (오래된 연결은 뒤에서 만료)
+    }
+
+    private Connection open(String host) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setKeepAlive(true);
+            socket.setSoTimeout(readTimeoutMs);
+            socket.connect(new InetSocketAddress(host, port), connectTimeoutMs);
+            opened.incrementAndGet();
+            return new Connection(socket);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        idle.values().forEach(connections -> {
+            Connection connection;
+            while ((connection = connections.pollFirst()) != null) {
+                connection.close();
+            }
+        });
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("port", port);
+        result.put("requests", requests.get());
+        result.put("connectionsOpened", opened.get());
+        result.put("connectionsReused", reused.get());
+        result.put("staleRetries", staleRetries.get());
+        result.put("idleConnections", idle.values().stream().mapToInt(Deque::size).sum());
+        return result;
+    }
+
+    private static final class Connection {
+        final Socket socket;
+        final DataInputStream in;
+        final DataOutputStream out;
+        volatile long lastUsedNanos = System.nanoTime();
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 8 * 1024));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 64 * 1024));
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                log.debug("AI 프레임 연결 종료 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    // AI 서버가 보낸 오류 응답 (통신은 정상)
+    private static final class AiFrameErrorException extends IOException {
+        AiFrameErrorException(String message) {
+            super(message);
+        }
+    }
+}
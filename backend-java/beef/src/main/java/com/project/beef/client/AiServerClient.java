@@ -0,0 +1,342 @@
+package com.project.beef.client;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.project.beef.config.RequestIdFilter;
+import com.project.beef.util.SpooledImage;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * AI 서버(Flask) HTTP 클라이언트.
+ *
+ * 부위/등급 엔드포인트마다 서킷 브레이커와 동시 호출 한도(bulkhead)를 따로 둡니다.
+ * AI 서버가 죽거나 느려지면 브레이커가 열려 소켓에서 기다리지 않고 바로 AiServerUnavailableException으로 실패하고,
+ * 한쪽 엔드포인트가 밀려도 다른 쪽 호출 스레드까지 모두 묶이지 않습니다.
+ *
+ * 실제 요청은 AiServerPools가 고른 인스턴스로 보내며, 연결 실패/타임아웃(ResourceAccessException)이면
+ * 같은 풀의 다른 인스턴스로 한 번 더 시도합니다. (분석 요청은 부작용이 없으므로 재시도해도 안전)
+ *
+ * ai.transport=frame 이고 부위/등급이 같은 인스턴스 풀을 쓰면, 단건 분석은 AiFrameClient로 부위+등급을 한 요청에 보냅니다.
+ * 이때는 두 작업의 bulkhead와 브레이커를 모두 통과해야 하고 결과도 둘 다에 기록합니다.
+ *
+ * 병렬 호출 중 한쪽이 실패해 CutService가 남은 호출을 AbortableCall로 끊으면, 그 실패는 브레이커와 인스턴스 통계에 기록하지 않습니다.
+ */
+@Component
+public class AiServerClient {
+
+    private final RestTemplate restTemplate;
+    private final AiServerPools aiServerPools;
+    private final ObservationRegistry observationRegistry;
+    private final AiFrameClient aiFrameClient;
+    private final long bulkheadMaxWaitMs;
+    private final Map<AiTask, AiCircuitBreaker> breakers = new EnumMap<>(AiTask.class);
+    private final Map<AiTask, Semaphore> bulkheads = new EnumMap<>(AiTask.class);
+    private final Map<AiTask, Integer> bulkheadLimits = new EnumMap<>(AiTask.class);
+
+    public AiServerClient(
+            RestTemplate restTemplate,
+            AiServerPools aiServerPools,
+            ObservationRegistry observationRegistry,
+            MeterRegistry meterRegistry,
+            AiFrameClient aiFrameClient,
+            @Value("${ai.breaker.window-size:20}") int windowSize,
+            @Value("${ai.breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${ai.breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${ai.breaker.slow-call-duration-ms:10000}") long slowCallMs,
+            @Value("${ai.breaker.slow-call-rate-threshold:80}") int slowCallRateThreshold,
+            @Value("${ai.breaker.open-duration-ms:30000}") long openDurationMs,
+            @Value("${ai.breaker.half-open-calls:3}") int halfOpenCalls,
+            @Value("${ai.bulkhead.part.max-concurrent:16}") int partMaxConcurrent,
+            @Value("${ai.bulkhead.grade.max-concurrent:16}") int gradeMaxConcurrent,
+            @Value("${ai.bulkhead.max-wait-ms:500}") long bulkheadMaxWaitMs) {
+        this.restTemplate = restTemplate;
+        this.aiServerPools = aiServerPools;
+        this.observationRegistry = observationRegistry;
+        this.aiFrameClient = aiFrameClient;
+        this.bulkheadMaxWaitMs = bulkheadMaxWaitMs;
+        for (AiTask task : AiTask.values()) {
+            breakers.put(task, new AiCircuitBreaker(task.name().toLowerCase(), windowSize, minimumCalls,
+                    failureRateThreshold, slowCallMs, slowCallRateThreshold, openDurationMs, halfOpenCalls));
+        }
+        bulkheadLimits.put(AiTask.PART, partMaxConcurrent);
+        bulkheadLimits.put(AiTask.GRADE, gradeMaxConcurrent);
+        bulkheadLimits.forEach((task, limit) -> bulkheads.put(task, new Semaphore(limit)));
+        registerMeters(meterRegistry);
+    }
+
+    /**
+     * stats()의 브레이커 상태 / 차단 횟수 / bulkhead 사용량을 task 태그별 지표로도 노출합니다.
+     * "beef.ai.breaker.state"는 상태마다 하나씩 등록하고 현재 상태만 1입니다.
+     */
+    private void registerMeters(MeterRegistry meterRegistry) {
+        for (AiTask task : AiTask.values()) {
+            String taskTag = task.name().toLowerCase();
+            AiCircuitBreaker breaker = breakers.get(task);
+            for (AiCircuitBreaker.State state : AiCircuitBreaker.State.values()) {
+                Gauge.builder("beef.ai.breaker.state", breaker, b -> b.getState() == state ? 1 : 0)
+                        .description("서킷 브레이커 현재 상태 (해당 상태이면 1)")
+                        .tag("task", taskTag)
+                        .tag("state", state.name().toLowerCase())
+                        .register(meterRegistry);
+            }
+            FunctionCounter.builder("beef.ai.breaker.not.permitted", breaker, AiCircuitBreaker::getNotPermittedCount)
+                    .description("브레이커가 열려 있어 호출하지 않고 실패한 횟수")
+                    .tag("task", taskTag)
+                    .register(meterRegistry);
+            FunctionCounter.builder("beef.ai.breaker.opened", breaker, AiCircuitBreaker::getOpenedCount)
+                    .description("브레이커가 OPEN으로 바뀐 횟수")
+                    .tag("task", taskTag)
+                    .register(meterRegistry);
+            Gauge.builder("beef.ai.bulkhead.in.use", bulkheads.get(task), bulkhead -> bulkheadLimits.get(task) - bulkhead.availablePermits())
+                    .description("AI 엔드포인트 동시 호출 수 (bulkhead 사용량)")
+                    .tag("task", taskTag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 이미지 1장 분석 (multipart 'file')
+     */
+    public Map<String, Object> analyze(AiTask task, SpooledImage image) throws Exception {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", image.asResource());
+
+        return guarded(task, baseUrl -> {
+            Map<String, Object> aiResponse = post(baseUrl + task.getPath(), body);
+            if (aiResponse == null) {
+                throw new IllegalStateException("AI 서버로부터 유효한 응답을 받지 못했습니다.");
+            }
+            return aiResponse;
+        });
+    }
+
+    /**
+     * 여러 장을 한 번에 분석 (multipart 'files'). 결과는 images와 같은 순서입니다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> analyzeBatch(AiTask task, List<SpooledImage> images) throws Exception {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        for (SpooledImage image : images) {
+            body.add("files", image.asResource());
+        }
+
+        return guarded(task, baseUrl -> {
+            Map<String, Object> aiResponse = post(baseUrl + task.getBatchPath(), body);
+            Object results = aiResponse == null ? null : aiResponse.get("results");
+            if (!(results instanceof List) || ((List<?>) results).size() != images.size()) {
+                throw new IllegalStateException("AI 서버로부터 유효한 일괄 응답을 받지 못했습니다.");
+            }
+            return (List<Map<String, Object>>) results;
+        });
+    }
+
+    /**
+     * 부위 + 등급을 바이너리 프레임 요청 한 번으로 분석합니다. isCombinedTransport()가 true일 때만 사용합니다.
+     */
+    public AiAnalysis analyzeCombined(SpooledImage image) throws Exception {
+        String requestId = MDC.get(RequestIdFilter.MDC_KEY);
+        return guarded(List.of(AiTask.PART, AiTask.GRADE), "combined",
+                baseUrl -> aiFrameClient.analyze(baseUrl, image, true, true, requestId));
+    }
+
+    /**
+     * 단건 분석을 프레임 요청 한 번으로 보낼 수 있는지 (ai.transport=frame + 부위/등급 풀이 같음)
+     */
+    public boolean isCombinedTransport() {
+        return aiFrameClient != null && aiFrameClient.isEnabled() && aiServerPools.isShared();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> post(String url, MultiValueMap<String, Object> body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        // 백엔드 요청과 AI 서버 로그를 맞춰 보기 위한 요청 id (AI 호출 스레드에도 MDC가 전달되어 있음)
+        String requestId = MDC.get(RequestIdFilter.MDC_KEY);
+        if (requestId != null) {
+            headers.set(RequestIdFilter.HEADER, requestId);
+        }
+        return restTemplate.postForObject(url, new HttpEntity<>(body, headers), Map.class);
+    }
+
+    /**
+     * bulkhead → 서킷 브레이커 → 실제 호출 순서로 감싸고, 결과(성공/실패/소요 시간)를 브레이커에 기록합니다.
+     * 전체 구간은 "beef.ai.call" 관측(task, outcome 태그)으로 기록되어 Prometheus 타이머와 trace span이 됩니다.
+     */
+    private <T> T guarded(AiTask task, AiCall<T> call) throws Exception {
+        return guarded(List.of(task), task.name().toLowerCase(), call);
+    }
+
+    /**
+     * 한 요청이 여러 작업을 함께 처리하면(프레임 전송) 작업마다 bulkhead/브레이커를 모두 통과해야 하며,
+     * 인스턴스는 첫 작업의 풀에서 고릅니다 (isCombinedTransport()이면 두 풀의 인스턴스 목록이 같음).
+     */
+    private <T> T guarded(List<AiTask> tasks, String taskTag, AiCall<T> call) throws Exception {
+        Observation observation = Observation.createNotStarted("beef.ai.call", observationRegistry)
+                .contextualName("ai " + taskTag)
+                .lowCardinalityKeyValue("task", taskTag);
+        String requestId = MDC.get(RequestIdFilter.MDC_KEY);
+        if (requestId != null) {
+            observation.highCardinalityKeyValue("request.id", requestId);
+        }
+        observation.start();
+
+        String outcome = "error";
+        try (Observation.Scope scope = observation.openScope()) {
+            List<Semaphore> heldBulkheads = new ArrayList<>(tasks.size());
+            try {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(bulkheadMaxWaitMs);
+                for (AiTask task : tasks) {
+                    Semaphore bulkhead = bulkheads.get(task);
+                    if (!bulkhead.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                        outcome = "bulkhead-full";
+                        throw new AiServerUnavailableException("AI " + task.name().toLowerCase() + " 분석 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+                    }
+                    heldBulkheads.add(bulkhead);
+                }
+
+                List<AiCircuitBreaker.Permit> permits = new ArrayList<>(tasks.size());
+                for (AiTask task : tasks) {
+                    AiCircuitBreaker.Permit permit = breakers.get(task).tryAcquire();
+                    if (permit == null) {
+                        for (int i = 0; i < permits.size(); i++) {
+                            breakers.get(tasks.get(i)).release(permits.get(i));
+                        }
+                        outcome = "breaker-open";
+                        throw new AiServerUnavailableException("AI 분석 서버가 일시적으로 응답하지 않아 요청을 중단했습니다. 잠시 후 다시 시도해 주세요.");
+                    }
+                    permits.add(permit);
+                }
+
+                long start = System.nanoTime();
+                boolean failed = true;
+                try {
+                    T result = callWithFailover(aiServerPools.get(tasks.get(0)), call);
+                    failed = false;
+                    outcome = "success";
+                    return result;
+                } catch (HttpClientErrorException e) {
+                    // 4xx는 요청 자체의 문제이므로 서버 장애로 집계하지 않음
+                    failed = false;
+                    outcome = "client-error";
+                    throw new AiServerException("AI 분석 서버 통신 오류: " + e.getMessage(), outcome, e);
+                } catch (Exception e) {
+                    outcome = AbortableCall.isCurrentAborted() ? "cancelled"
+                            : e instanceof ResourceAccessException ? "io-error" : "error";
+                    throw new AiServerException("AI 분석 서버 통신 오류: " + e.getMessage(), outcome, e);
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    for (int i = 0; i < permits.size(); i++) {
+                        AiCircuitBreaker breaker = breakers.get(tasks.get(i));
+                        if ("cancelled".equals(outcome)) {
+                            // 우리가 끊은 요청은 AI 서버 상태와 무관하므로 결과로 기록하지 않고 허용만 반납
+                            breaker.release(permits.get(i));
+                        } else {
+                            breaker.onResult(permits.get(i), elapsed, failed);
+                        }
+                    }
+                }
+            } finally {
+                heldBulkheads.forEach(Semaphore::release);
+            }
+        } catch (Exception e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.lowCardinalityKeyValue("outcome", outcome);
+            observation.stop();
+        }
+    }
+
+    private <T> T callWithFailover(AiServerPool pool, AiCall<T> call) throws Exception {
+        AiServerInstance instance = pool.choose(null);
+        try {
+            return callInstance(pool, instance, call);
+        } catch (ResourceAccessException e) {
+            AiServerInstance other = AbortableCall.isCurrentAborted() ? null : pool.choose(instance);
+            if (other == null) {
+                throw e;
+            }
+            return callInstance(pool, other, call);
+        }
+    }
+
+    /**
+     * 인스턴스 1대 호출. 소요 시간과 성공/실패를 인스턴스 통계와 outlier 제외 판단에 기록합니다.
+     */
+    private <T> T callInstance(AiServerPool pool, AiServerInstance instance, AiCall<T> call) throws Exception {
+        pool.onStart(instance);
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.call(instance.getBaseUrl());
+            failed = false;
+            return result;
+        } catch (HttpClientErrorException e) {
+            failed = false;
+            throw e;
+        } finally {
+            // 중단된 호출은 인스턴스 실패로 세지 않음 (outlier 제외 판단이 흔들리지 않도록)
+            pool.onFinish(instance, System.nanoTime() - start, failed && !AbortableCall.isCurrentAborted());
+        }
+    }
+
+    @FunctionalInterface
+    private interface AiCall<T> {
+        T call(String baseUrl) throws Exception;
+    }
+
+    /**
+     * 엔드포인트별 브레이커 상태 / bulkhead 사용량 / 인스턴스별 상태와 응답 시간 (GET /api/cut/ai/stats)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (AiTask task : AiTask.values()) {
+            Map<String, Object> taskStats = new LinkedHashMap<>();
+            taskStats.put("circuitBreaker", breakers.get(task).stats());
+            int limit = bulkheadLimits.get(task);
+            taskStats.put("bulkheadMaxConcurrent", limit);
+            taskStats.put("bulkheadInUse", limit - bulkheads.get(task).availablePermits());
+            taskStats.put("pool", aiServerPools.get(task).stats());
+            result.put(task.name().toLowerCase(), taskStats);
+        }
+        if (aiFrameClient != null) {
+            result.put("frameTransport", aiFrameClient.stats());
+        }
+        return result;
+    }
+
+    public AiCircuitBreaker.State breakerState(AiTask task) {
+        return breakers.get(task).getState();
+    }
+
+    /**
+     * 엔드포인트 bulkhead 사용률 (0.0 ~ 1.0). 백그라운드 작업이 실시간 요청에 자리를 양보할 때 사용합니다.
+     */
+    public double bulkheadUtilization(AiTask task) {
+        int limit = bulkheadLimits.get(task);
+        return (double) (limit - bulkheads.get(task).availablePermits()) / limit;
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.beef.client;
+
+/**
+ * AI 서버 호출이 실패했을 때(연결/타임아웃, 5xx, 4xx, 잘못된 응답) 던집니다.
+ * 원인 예외를 cause로 유지하므로 로그의 스택 트레이스와 "beef.errors" 지표의 cause 태그에서 실제 원인을 볼 수 있습니다.
+ * outcome은 "beef.ai.call" 관측의 outcome 태그와 같은 값입니다 (client-error, io-error, error, cancelled).
+ */
+public class AiServerException extends Exception {
+
+    private final String outcome;
+
+    public AiServerException(String message, String outcome, Throwable cause) {
+        super(message, cause);
+        this.outcome = outcome;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+}
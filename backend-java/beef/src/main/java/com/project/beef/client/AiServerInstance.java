@@ -0,0 +1,195 @@
+package com.project.beef.client;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * AI 서버 풀에 속한 인스턴스 1대의 상태.
+ *
+ * 진행 중 요청 수(least-outstanding 선택용), 헬스 체크 결과, 연속 실패에 따른 일시 제외(outlier ejection),
+ * 최근 응답 시간 샘플(p50/p95/p99)을 보관합니다.
+ *
+ * 제외 횟수(ejectionCount)는 제외 기간의 배수로 쓰이며, 제외가 끝난 뒤 base 기간만큼 다시 제외되지 않을 때마다
+ * 1씩 줄어듭니다. (한 번 흔들렸던 인스턴스가 계속 긴 제외 기간을 받지 않도록)
+ */
+public class AiServerInstance {
+
+    private static final int LATENCY_SAMPLES = 256;
+
+    private final String baseUrl;
+    private final int weight;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    private volatile boolean healthy = true;
+    private int consecutiveHealthFailures;   // 헬스 체크 스레드만 변경
+
+    private volatile long ejectedUntilNanos;
+    private final AtomicInteger ejectionCount = new AtomicInteger();
+    private volatile long ejectionBaseNanos;
+    private volatile long decayFromNanos;     // 이 시각부터 ejectionBaseNanos가 지나면 ejectionCount 1 감소
+
+    // 최근 응답 시간 링 버퍼 (stats 조회 시에만 정렬)
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyIndex;
+    private int latencyCount;
+
+    // 부드러운 가중 라운드 로빈(smooth weighted round-robin)용 현재 가중치 (AiServerPool의 락 안에서만 사용)
+    int currentWeight;
+
+    public AiServerInstance(String baseUrl, int weight) {
+        this(baseUrl, weight, System::nanoTime);
+    }
+
+    /**
+     * nanoClock: 제외 기간 계산에 쓰는 시계 (테스트에서 시간을 직접 움직이기 위해 주입)
+     */
+    public AiServerInstance(String baseUrl, int weight, LongSupplier nanoClock) {
+        this.baseUrl = baseUrl;
+        this.weight = Math.max(1, weight);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * "http://host:5000" 또는 "http://host:5000;weight=3" 형식을 파싱합니다.
+     */
+    public static AiServerInstance parse(String spec) {
+        String[] parts = spec.trim().split(";");
+        int weight = 1;
+        for (int i = 1; i < parts.length; i++) {
+            String option = parts[i].trim();
+            if (option.startsWith("weight=")) {
+                weight = Integer.parseInt(option.substring("weight=".length()).trim());
+            }
+        }
+        String url = parts[0].trim();
+        return new AiServerInstance(url.endsWith("/") ? url.substring(0, url.length() - 1) : url, weight);
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public boolean isEjected() {
+        return isEjected(nanoClock.getAsLong());
+    }
+
+    private boolean isEjected(long now) {
+        return ejectedUntilNanos != 0 && now - ejectedUntilNanos < 0;
+    }
+
+    /**
+     * 헬스 체크 통과 + 제외 기간이 아닌 경우에만 요청을 보냅니다.
+     */
+    public boolean isAvailable() {
+        return healthy && !isEjected();
+    }
+
+    void onStart() {
+        outstanding.incrementAndGet();
+        requests.incrementAndGet();
+    }
+
+    /**
+     * 요청이 끝나면 호출합니다. 연속 실패 수를 반환합니다 (성공이면 0).
+     */
+    int onFinish(long elapsedNanos, boolean failed) {
+        outstanding.decrementAndGet();
+        synchronized (latencies) {
+            latencies[latencyIndex] = elapsedNanos;
+            latencyIndex = (latencyIndex + 1) % LATENCY_SAMPLES;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+        }
+        if (!failed) {
+            consecutiveFailures.set(0);
+            decayEjections();
+            return 0;
+        }
+        failures.incrementAndGet();
+        return consecutiveFailures.incrementAndGet();
+    }
+
+    /**
+     * 제외할 때마다 기간이 base의 배수로 늘어납니다 (최대 10배). 다시 들어오면 연속 실패 수는 초기화합니다.
+     */
+    void eject(long baseEjectionMs) {
+        int times = Math.min(ejectionCount.incrementAndGet(), 10);
+        ejectionBaseNanos = TimeUnit.MILLISECONDS.toNanos(baseEjectionMs);
+        ejectedUntilNanos = nanoClock.getAsLong() + ejectionBaseNanos * times;
+        decayFromNanos = ejectedUntilNanos;
+        consecutiveFailures.set(0);
+    }
+
+    // 제외가 끝난 뒤 base 기간마다 배수를 1씩 되돌림 (성공한 요청이 끝날 때 확인)
+    private void decayEjections() {
+        int count = ejectionCount.get();
+        if (count == 0) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        long from = decayFromNanos;
+        if (!isEjected(now) && now - from >= ejectionBaseNanos && ejectionCount.compareAndSet(count, count - 1)) {
+            decayFromNanos = now;
+        }
+    }
+
+    void onHealthCheck(boolean ok, int unhealthyThreshold) {
+        if (ok) {
+            consecutiveHealthFailures = 0;
+            healthy = true;
+        } else if (++consecutiveHealthFailures >= unhealthyThreshold) {
+            healthy = false;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long[] samples;
+        synchronized (latencies) {
+            samples = Arrays.copyOf(latencies, latencyCount);
+        }
+        Arrays.sort(samples);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("url", baseUrl);
+        result.put("weight", weight);
+        result.put("healthy", healthy);
+        result.put("ejected", isEjected());
+        result.put("ejectionCount", ejectionCount.get());
+        result.put("outstanding", outstanding.get());
+        result.put("requests", requests.get());
+        result.put("failures", failures.get());
+        result.put("latencyP50Ms", percentileMs(samples, 0.50));
+        result.put("latencyP95Ms", percentileMs(samples, 0.95));
+        result.put("latencyP99Ms", percentileMs(samples, 0.99));
+        return result;
+    }
+
+    private static double percentileMs(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
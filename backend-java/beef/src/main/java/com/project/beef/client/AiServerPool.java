@@ -0,0 +1,139 @@
+package com.project.beef.client;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 분석 작업(부위 또는 등급)을 처리하는 AI 서버 인스턴스 묶음.
+ *
+ * 선택 방식(balancer):
+ *  - LEAST_OUTSTANDING    : (진행 중 요청 수 + 1) / weight 가 가장 작은 인스턴스
+ *  - WEIGHTED_ROUND_ROBIN : nginx 방식의 부드러운 가중 라운드 로빈
+ * 헬스 체크에 실패했거나 제외(ejected)된 인스턴스는 건너뛰고,
+ * 모두 사용할 수 없으면 전체 인스턴스 중에서 선택합니다 (panic 모드: 헬스 체크 설정 오류로 전체가 막히지 않도록).
+ */
+@Slf4j
+public class AiServerPool {
+
+    public enum Balancer { LEAST_OUTSTANDING, WEIGHTED_ROUND_ROBIN }
+
+    private final String name;
+    private final List<AiServerInstance> instances;
+    private final Balancer balancer;
+    private final int consecutiveFailuresToEject;
+    private final long baseEjectionMs;
+    private final int maxEjectionPercent;
+
+    // least-outstanding 동률일 때 항상 첫 인스턴스로 몰리지 않도록 탐색 시작 위치를 돌림
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public AiServerPool(String name, List<AiServerInstance> instances, Balancer balancer,
+            int consecutiveFailuresToEject, long baseEjectionMs, int maxEjectionPercent) {
+        if (instances.isEmpty()) {
+            throw new IllegalArgumentException("AI 서버 풀 '" + name + "'에 인스턴스가 없습니다.");
+        }
+        this.name = name;
+        this.instances = List.copyOf(instances);
+        this.balancer = balancer;
+        this.consecutiveFailuresToEject = consecutiveFailuresToEject;
+        this.baseEjectionMs = baseEjectionMs;
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+
+    /**
+     * 요청을 보낼 인스턴스를 고릅니다. exclude는 재시도 시 방금 실패한 인스턴스이며, 다른 후보가 없으면 null을 반환합니다.
+     */
+    public AiServerInstance choose(AiServerInstance exclude) {
+        List<AiServerInstance> candidates = new ArrayList<>(instances.size());
+        for (AiServerInstance instance : instances) {
+            if (instance != exclude && instance.isAvailable()) {
+                candidates.add(instance);
+            }
+        }
+        if (candidates.isEmpty()) {
+            if (exclude != null) {
+                return null;
+            }
+            candidates = instances; // panic 모드
+        }
+        return balancer == Balancer.WEIGHTED_ROUND_ROBIN ? weightedRoundRobin(candidates) : leastOutstanding(candidates);
+    }
+
+    private AiServerInstance leastOutstanding(List<AiServerInstance> candidates) {
+        int size = candidates.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        AiServerInstance best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            AiServerInstance instance = candidates.get((start + i) % size);
+            double score = (instance.getOutstanding() + 1.0) / instance.getWeight();
+            if (score < bestScore) {
+                best = instance;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private synchronized AiServerInstance weightedRoundRobin(List<AiServerInstance> candidates) {
+        AiServerInstance best = null;
+        int totalWeight = 0;
+        for (AiServerInstance instance : candidates) {
+            instance.currentWeight += instance.getWeight();
+            totalWeight += instance.getWeight();
+            if (best == null || instance.currentWeight > best.currentWeight) {
+                best = instance;
+            }
+        }
+        best.currentWeight -= totalWeight;
+        return best;
+    }
+
+    public void onStart(AiServerInstance instance) {
+        instance.onStart();
+    }
+
+    /**
+     * 요청 결과를 기록하고, 연속 실패가 기준을 넘으면 인스턴스를 일정 시간 제외합니다.
+     * 단, 제외된 인스턴스 비율이 max-ejection-percent를 넘지 않는 범위에서만 제외합니다.
+     */
+    public void onFinish(AiServerInstance instance, long elapsedNanos, boolean failed) {
+        int consecutiveFailures = instance.onFinish(elapsedNanos, failed);
+        if (consecutiveFailures < consecutiveFailuresToEject || instance.isEjected()) {
+            return;
+        }
+        boolean ejectedNow = false;
+        synchronized (this) {
+            long ejected = instances.stream().filter(AiServerInstance::isEjected).count();
+            if ((ejected + 1) * 100 <= (long) maxEjectionPercent * instances.size()) {
+                instance.eject(baseEjectionMs);
+                ejectedNow = true;
+            }
+        }
+        // 로그(I/O)는 락 밖에서
+        if (ejectedNow) {
+            log.warn("AI 서버 인스턴스 일시 제외 ({}): {} - 연속 실패 {}회", name, instance.getBaseUrl(), consecutiveFailures);
+        }
+    }
+
+    public List<AiServerInstance> getInstances() {
+        return instances;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("balancer", balancer.name());
+        result.put("available", instances.stream().filter(AiServerInstance::isAvailable).count());
+        result.put("instances", instances.stream().map(AiServerInstance::stats).toList());
+        return result;
+    }
+}
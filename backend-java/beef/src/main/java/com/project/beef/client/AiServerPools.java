@@ -0,0 +1,163 @@
+package com.project.beef.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분석 종류(부위/등급)별 AI 서버 인스턴스 풀과 주기적 헬스 체크.
+ *
+ * ai.server.urls 를 기본으로 쓰고, ai.server.part.urls / ai.server.grade.urls 가 있으면 해당 작업만 다른 풀로 보냅니다.
+ * (예: 등급 분석만 GPU 서버로) 각 항목은 "http://host:5000;weight=3" 처럼 가중치를 붙일 수 있습니다.
+ *
+ * 헬스 체크는 분석 호출과 커넥션 풀을 공유하지 않도록 짧은 타임아웃의 별도 클라이언트로 GET {url}{health.path} 합니다.
+ * 같은 URL이 여러 풀에 있으면 한 번만 확인해서 모두에 반영합니다.
+ */
+@Component
+@Slf4j
+public class AiServerPools implements SmartLifecycle {
+
+    private final Map<AiTask, AiServerPool> pools = new EnumMap<>(AiTask.class);
+    // 부위/등급이 같은 인스턴스 목록을 쓰는지 (그래야 한 요청으로 둘 다 분석할 수 있음)
+    private final boolean shared;
+
+    private final boolean healthEnabled;
+    private final String healthPath;
+    private final long healthIntervalMs;
+    private final int unhealthyThreshold;
+    private final RestTemplate healthClient;
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    public AiServerPools(
+            @Value("${ai.server.urls:http://localhost:5000}") String defaultUrls,
+            @Value("${ai.server.part.urls:}") String partUrls,
+            @Value("${ai.server.grade.urls:}") String gradeUrls,
+            @Value("${ai.server.balancer:LEAST_OUTSTANDING}") AiServerPool.Balancer balancer,
+            @Value("${ai.server.outlier.consecutive-failures:5}") int consecutiveFailures,
+            @Value("${ai.server.outlier.base-ejection-ms:30000}") long baseEjectionMs,
+            @Value("${ai.server.outlier.max-ejection-percent:50}") int maxEjectionPercent,
+            @Value("${ai.server.health.enabled:true}") boolean healthEnabled,
+            @Value("${ai.server.health.path:/health}") String healthPath,
+            @Value("${ai.server.health.interval-ms:5000}") long healthIntervalMs,
+            @Value("${ai.server.health.timeout-ms:1000}") int healthTimeoutMs,
+            @Value("${ai.server.health.unhealthy-threshold:2}") int unhealthyThreshold) {
+        Map<AiTask, String> urls = new EnumMap<>(AiTask.class);
+        urls.put(AiTask.PART, partUrls.isBlank() ? defaultUrls : partUrls);
+        urls.put(AiTask.GRADE, gradeUrls.isBlank() ? defaultUrls : gradeUrls);
+        this.shared = urls.get(AiTask.PART).trim().equals(urls.get(AiTask.GRADE).trim());
+        urls.forEach((task, specs) -> pools.put(task, new AiServerPool(task.name().toLowerCase(), parse(specs),
+                balancer, consecutiveFailures, baseEjectionMs, maxEjectionPercent)));
+
+        this.healthEnabled = healthEnabled;
+        this.healthPath = healthPath;
+        this.healthIntervalMs = healthIntervalMs;
+        this.unhealthyThreshold = unhealthyThreshold;
+
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(healthTimeoutMs);
+        factory.setReadTimeout(healthTimeoutMs);
+        this.healthClient = new RestTemplate(factory);
+    }
+
+    private static List<AiServerInstance> parse(String specs) {
+        return Arrays.stream(specs.split(","))
+                .filter(spec -> !spec.isBlank())
+                .map(AiServerInstance::parse)
+                .toList();
+    }
+
+    public AiServerPool get(AiTask task) {
+        return pools.get(task);
+    }
+
+    public boolean isShared() {
+        return shared;
+    }
+
+    private void checkAll() {
+        Map<String, List<AiServerInstance>> byUrl = new LinkedHashMap<>();
+        for (AiServerPool pool : pools.values()) {
+            for (AiServerInstance instance : pool.getInstances()) {
+                byUrl.computeIfAbsent(instance.getBaseUrl(), url -> new ArrayList<>()).add(instance);
+            }
+        }
+        byUrl.forEach((url, instances) -> {
+            boolean ok = check(url);
+            for (AiServerInstance instance : instances) {
+                boolean wasHealthy = instance.isHealthy();
+                instance.onHealthCheck(ok, unhealthyThreshold);
+                if (wasHealthy != instance.isHealthy()) {
+                    log.warn("AI 서버 인스턴스 상태 변경: {} → {}", url, instance.isHealthy() ? "UP" : "DOWN");
+                }
+            }
+        });
+    }
+
+    private boolean check(String url) {
+        try {
+            return healthClient.getForEntity(url + healthPath, String.class).getStatusCode().is2xxSuccessful();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        pools.forEach((task, pool) -> result.put(task.name().toLowerCase(), pool.stats()));
+        return result;
+    }
+
+    // ----------------------------------------------------
+    // SmartLifecycle: 헬스 체크 스케줄러 시작/종료
+    // ----------------------------------------------------
+
+    @Override
+    public void start() {
+        if (!healthEnabled || running) {
+            return;
+        }
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ai-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkAll();
+            } catch (RuntimeException e) {
+                log.warn("AI 서버 헬스 체크 오류", e);
+            }
+        }, 0, healthIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.beef.client;
+
+/**
+ * 서킷 브레이커가 열려 있거나 동시 호출 한도(bulkhead)를 넘어 AI 서버를 호출하지 않고 바로 실패할 때 던집니다.
+ * 컨트롤러는 이 예외를 503 + status "error"로 응답합니다.
+ */
+public class AiServerUnavailableException extends RuntimeException {
+
+    public AiServerUnavailableException(String message) {
+        super(message);
+    }
+}
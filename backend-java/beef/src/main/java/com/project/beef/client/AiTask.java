@@ -0,0 +1,24 @@
+package com.project.beef.client;
+
+/**
+ * AI 서버 분석 종류별 엔드포인트.
+ */
+public enum AiTask {
+
+    PART("/analyze/part"),
+    GRADE("/analyze/grade");
+
+    private final String path;
+
+    AiTask(String path) {
+        this.path = path;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getBatchPath() {
+        return path + "/batch";
+    }
+}
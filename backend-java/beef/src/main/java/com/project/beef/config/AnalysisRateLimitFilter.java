@@ -0,0 +1,140 @@
+package com.project.beef.config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.project.beef.service.AnalysisRateLimiter;
+import com.project.beef.util.JwtUtil;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 서버를 호출하는 분석 API의 요청 제한 (AnalysisRateLimiter).
+ *
+ * 보안 필터(JwtAuthenticationFilter)보다 먼저 실행되어 아직 인증 정보가 없으므로, 여기서 Authorization 헤더의 토큰을 직접 확인해
+ * 유효하면 회원별, 없거나 유효하지 않으면 접속 IP별 버킷을 씁니다. (토큰 검증 결과는 JwtUtil 캐시를 공유)
+ * 보안 필터와 multipart 파싱보다 먼저 실행되므로 거절할 요청은 업로드 본문을 읽기 전에 429로 끝납니다.
+ * 비동기 작업 제출(/api/cut/jobs)은 바로 응답하고 작업 큐가 따로 동시성을 제한하므로 버킷만 적용합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3) // RequestIdFilter 다음 (429 응답에도 X-Request-Id), 보안 필터보다 먼저
+@Slf4j
+public class AnalysisRateLimitFilter extends OncePerRequestFilter {
+
+    private final AnalysisRateLimiter rateLimiter;
+    private final JwtUtil jwtUtil;
+    private final int batchCost;
+
+    public AnalysisRateLimitFilter(
+            AnalysisRateLimiter rateLimiter,
+            JwtUtil jwtUtil,
+            @Value("${rate-limit.batch-cost:10}") int batchCost) {
+        this.rateLimiter = rateLimiter;
+        this.jwtUtil = jwtUtil;
+        this.batchCost = batchCost;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled() || !"POST".equals(request.getMethod()) || route(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Route route = route(request);
+
+        // 프록시 헤더(X-Forwarded-For)는 위조할 수 있으므로 실제 접속 주소만 사용
+        long retryAfter = rateLimiter.tryConsume(memberId(request), request.getRemoteAddr(), cost(route));
+        if (retryAfter != AnalysisRateLimiter.ALLOWED) {
+            reject(response, retryAfter, "요청이 너무 많습니다. " + retryAfter + "초 후 다시 시도해 주세요.");
+            return;
+        }
+        if (!route.limitConcurrency) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!rateLimiter.tryAcquire()) {
+            reject(response, 1, "분석 요청이 몰려 있습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            rateLimiter.release();
+        }
+    }
+
+    // 유효한 토큰이면 회원 이메일, 아니면 null (IP 기준으로 제한)
+    private String memberId(HttpServletRequest request) {
+        String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            return jwtUtil.extractEmail(authorizationHeader.substring(7));
+        } catch (Exception e) {
+            log.debug("요청 제한: 유효하지 않은 토큰은 IP 기준으로 처리 ({})", e.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    private int cost(Route route) {
+        return route == Route.BATCH ? batchCost : route.cost;
+    }
+
+    private static void reject(HttpServletResponse response, long retryAfterSeconds, String message) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"status\":\"error\",\"insight\":\"" + message + "\"}");
+    }
+
+    // JwtAuthenticationFilter와 같은 기준 (servletPath + pathInfo)
+    private static Route route(HttpServletRequest request) {
+        String path = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        if (pathInfo != null) {
+            path = path + pathInfo;
+        }
+        return switch (path) {
+            case "/api/cut/analyze" -> Route.ANALYZE;
+            case "/api/cut/analyze/batch" -> Route.BATCH;
+            case "/api/cut/grade" -> Route.GRADE;
+            case "/api/cut/jobs" -> Route.JOB;
+            default -> null;
+        };
+    }
+
+    /**
+     * 제한 대상 경로와 요청 1건이 쓰는 토큰 수(예상 AI 호출 수)
+     */
+    private enum Route {
+        ANALYZE(2, true),
+        BATCH(0, true),   // rate-limit.batch-cost
+        GRADE(1, true),
+        JOB(2, false);
+
+        final int cost;
+        final boolean limitConcurrency;
+
+        Route(int cost, boolean limitConcurrency) {
+            this.cost = cost;
+            this.limitConcurrency = limitConcurrency;
+        }
+    }
+}
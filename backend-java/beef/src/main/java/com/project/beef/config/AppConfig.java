@@ -1,14 +1,159 @@
 package com.project.beef.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
+import com.project.beef.client.AbortableHttpRequestFactory;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
 @Configuration
 public class AppConfig {
 
+    /**
+     * AI 서버 호출용 커넥션 풀.
+     * 기본 RestTemplate(SimpleClientHttpRequestFactory)은 매 요청마다 새 TCP 연결을 만들고 타임아웃도 없으므로
+     * 풀링 + 타임아웃이 설정된 Apache HttpClient 5를 사용합니다.
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager aiConnectionManager(
+            @Value("${ai.http.max-total:64}") int maxTotal,
+            @Value("${ai.http.max-per-route:32}") int maxPerRoute,
+            @Value("${ai.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${ai.http.read-timeout-ms:30000}") long readTimeoutMs,
+            @Value("${ai.http.time-to-live-seconds:300}") long timeToLiveSeconds) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+    }
+
+    /**
+     * AI 커넥션 풀 사용량 지표 (httpcomponents.httpclient.pool.total.leased / pending / available, httpclient="ai-server").
+     * MeterBinder 빈은 스프링 부트가 MeterRegistry에 자동으로 등록합니다.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public MeterBinder aiConnectionPoolMetrics(PoolingHttpClientConnectionManager aiConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(aiConnectionManager, "ai-server");
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient aiHttpClient(
+            PoolingHttpClientConnectionManager aiConnectionManager,
+            @Value("${ai.http.pool-acquire-timeout-ms:1000}") long poolAcquireTimeoutMs,
+            @Value("${ai.http.response-timeout-ms:30000}") long responseTimeoutMs,
+            @Value("${ai.http.idle-evict-seconds:30}") long idleEvictSeconds) {
+        return HttpClients.custom()
+                .setConnectionManager(aiConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .build())
+                // 유휴/만료 연결은 백그라운드 스레드가 정리
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .evictExpiredConnections()
+                .build();
+    }
+
+    /**
+     * 스프링 부트가 관리하는 RestTemplateBuilder로 만들어야 관측(Observation)이 붙어
+     * AI 서버 호출마다 http.client.requests 지표와 client span이 기록되고 traceparent 헤더가 전달됩니다.
+     * 요청 팩토리는 병렬 호출 중 한쪽이 실패하면 남은 요청의 커넥션을 끊을 수 있도록 AbortableCall에 요청을 등록합니다.
+     */
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient aiHttpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new AbortableHttpRequestFactory(aiHttpClient))
+                .build();
+    }
+
+    /**
+     * 부위/등급 AI 호출을 병렬로 보내기 위한 전용 스레드 풀.
+     * 요청 하나당 2개의 작업이 들어가므로 풀 크기는 동시 분석 수의 2배 정도로 잡습니다.
+     *
+     * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 호출마다 가상 스레드를 만들고 풀/큐 한도를 두지 않습니다.
+     * AI 동시 호출 수는 AiServerClient의 bulkhead와 HTTP 커넥션 풀이 제한합니다.
+     */
+    @Bean(name = "aiExecutor")
+    public AsyncTaskExecutor aiExecutor(
+            @Value("${ai.executor.pool-size:16}") int poolSize,
+            @Value("${ai.executor.queue-capacity:64}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ai-call-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(new RequestContextTaskDecorator());
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-call-");
+        // 요청 스레드의 trace / requestId를 AI 호출 스레드로 전달
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비동기 분석 작업(POST /api/cut/jobs) 워커 풀.
+     * 큐가 가득 차면 거절(TaskRejectedException → 503)하여 대기열이 끝없이 늘어나지 않게 합니다.
+     */
+    @Bean(name = "analysisJobExecutor")
+    public ThreadPoolTaskExecutor analysisJobExecutor(
+            @Value("${ai.job.workers:4}") int workers,
+            @Value("${ai.job.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("analysis-job-");
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해시(BCrypt) 계산 전용 스레드 풀.
+     * 로그인 폭주 시에도 해시에 쓰는 CPU를 스레드 수만큼으로 제한하고, 큐가 가득 차면 거절(→ 503)합니다.
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${auth.password.hash-threads:2}") int threads,
+            @Value("${auth.password.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor;
     }
-}
\ No newline at end of file
+}
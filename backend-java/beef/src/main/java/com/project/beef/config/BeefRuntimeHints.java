@@ -0,0 +1,70 @@
+package com.project.beef.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import com.project.beef.client.AiAnalysis;
+import com.project.beef.domain.Cut;
+import com.project.beef.domain.Member;
+import com.project.beef.dto.CutDto;
+import com.project.beef.dto.CutHistoryDto;
+import com.project.beef.dto.CutHistoryPageDto;
+import com.project.beef.dto.LoginRequestDTO;
+import com.project.beef.dto.LoginResponseDTO;
+import com.project.beef.dto.SaveRequestDto;
+import com.project.beef.service.AnalysisJob;
+
+/**
+ * AOT 처리 / 네이티브 이미지 빌드(./gradlew bootJar -Paot, nativeCompile -Pnative)에서
+ * 정적 분석으로 찾을 수 없는 리플렉션 사용을 알려 줍니다. (일반 jar 실행에는 영향 없음)
+ *
+ * - Jackson: 컨트롤러 시그니처에 드러나지 않는 타입 (ResponseEntity&lt;?&gt;, SSE로 보내는 AnalysisJob, 템플릿 모델의 Cut 등)
+ * - QueryDSL: Projections.constructor(CutHistoryDto.class, ...) 는 생성자를 리플렉션으로 호출
+ * - JJWT 0.11: api 모듈이 구현 클래스(jjwt-impl, jjwt-jackson)를 이름으로 찾아 생성 (Classes.newInstance, ServiceLoader)
+ *
+ * JDK 프록시 힌트는 따로 두지 않습니다. 리포지토리 프록시는 Spring Data AOT가, @Transactional 등은
+ * 빌드 시점에 만든 CGLIB 클래스가 처리하고, 엔티티에는 지연 로딩 연관관계가 없어 Hibernate 프록시도 생기지 않습니다.
+ */
+public class BeefRuntimeHints implements RuntimeHintsRegistrar {
+
+    // JJWT가 Classes.newInstance / Classes.forName 으로 여는 구현 클래스
+    private static final String[] JJWT_IMPL_TYPES = {
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.impl.io.RuntimeClasspathSerializerLocator",
+            "io.jsonwebtoken.impl.io.RuntimeClasspathDeserializerLocator",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+    };
+
+    private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // JSON 응답/요청 및 Thymeleaf 템플릿에서 getter로 읽는 타입
+        bindingHints.registerReflectionHints(hints.reflection(),
+                Cut.class, Member.class,
+                CutDto.class, CutHistoryDto.class, CutHistoryPageDto.class, SaveRequestDto.class,
+                LoginRequestDTO.class, LoginResponseDTO.class,
+                AnalysisJob.class, AiAnalysis.class);
+
+        // QueryDSL 생성자 projection
+        hints.reflection().registerType(CutHistoryDto.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        for (String type : JJWT_IMPL_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+    }
+}
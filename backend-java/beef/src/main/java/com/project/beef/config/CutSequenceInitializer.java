@@ -0,0 +1,29 @@
+package com.project.beef.config;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Cut.id를 IDENTITY(auto_increment)에서 시퀀스(cut_seq)로 바꾸면서, 이미 쌓인 행의 id와 겹치지 않도록
+ * 시작 시 cut_seq를 MAX(id) 이후로 당겨 둡니다. MariaDB의 SETVAL은 현재 값보다 작은 값은 무시하므로 매번 실행해도 안전합니다.
+ * (ddl-auto로 시퀀스가 만들어진 뒤, 웹 서버가 요청을 받기 전에 실행)
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class CutSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequence() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cut", Long.class);
+        if (maxId != null && maxId > 0) {
+            jdbcTemplate.queryForObject("SELECT SETVAL(cut_seq, " + maxId + ")", Long.class);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.beef.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * 요청마다 찍히는 DEBUG/TRACE 로그를 rate 비율만 남기는 logback 필터 (logback-spring.xml에서 등록).
+ * 로그 이벤트 객체를 만들기 전에 판단하므로 버려지는 로그는 할당이 없습니다.
+ * INFO 이상과 loggerPrefix 밖의 로거는 건드리지 않습니다.
+ */
+public class DebugSamplingTurboFilter extends TurboFilter {
+
+    private String loggerPrefix = "com.project.beef";
+    private double rate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format == null 은 isDebugEnabled() 같은 레벨 확인 호출 → 실제 로그 호출에서 한 번만 샘플링
+        if (rate >= 1.0 || format == null || level == null || level.isGreaterOrEqual(Level.INFO)) {
+            return FilterReply.NEUTRAL;
+        }
+        // 꺼진 레벨은 원래대로 거절되도록 둠
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel()) || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.beef.config;
+
+import java.util.Map;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * 요청 스레드의 관측 컨텍스트(현재 trace/span)와 MDC(requestId 등)를 작업 스레드로 넘겨줍니다.
+ * 부위/등급 AI 호출은 aiExecutor 스레드에서 실행되므로, 이것이 없으면 AI 호출 span이 요청 trace와 끊기고
+ * AI 서버로 보내는 X-Request-Id도 비게 됩니다.
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    private final ContextPropagatingTaskDecorator contextPropagation = new ContextPropagatingTaskDecorator();
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Runnable withContext = contextPropagation.decorate(runnable);
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setMdc(mdc);
+            try {
+                withContext.run();
+            } finally {
+                setMdc(previous);
+            }
+        };
+    }
+
+    private static void setMdc(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.beef.config;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청마다 request id를 정해 MDC("requestId")와 응답 헤더(X-Request-Id)에 넣습니다.
+ * 클라이언트가 보낸 X-Request-Id가 있으면 그대로 쓰고, 없거나 형식이 이상하면 새로 만듭니다.
+ * AI 서버 호출에도 같은 헤더로 전달되므로(AiServerClient) 백엔드 로그와 AI 서버 로그를 한 요청 단위로 맞춰 볼 수 있습니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2) // 톰캣 http.server.requests 관측 필터 바로 다음, 보안 필터보다 먼저
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    // 헤더/로그에 그대로 찍히므로 짧은 토큰 형태만 허용
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String requestId = request.getHeader(HEADER);
+        if (requestId == null || !VALID_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
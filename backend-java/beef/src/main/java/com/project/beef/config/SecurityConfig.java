@@ -1,14 +1,17 @@
 package com.project.beef.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter; 
 import com.project.beef.config.jwt.JwtAuthenticationFilter; 
 
@@ -21,9 +24,13 @@ public class SecurityConfig {
     
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    // BCrypt cost (log rounds). 바꾸면 기존 회원은 다음 로그인 성공 시 새 cost로 다시 해시됩니다.
+    @Value("${auth.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
     
     @Bean
@@ -48,9 +55,21 @@ public class SecurityConfig {
                     // 로그인 및 회원가입 경로를 permitAll()로 허용
                     // 기존: .requestMatchers("/api/member/login", "/api/member/signup").permitAll()
                     .requestMatchers("/auth/login", "/auth/register").permitAll()
+
+                    // 로그인 제한 / 회원 캐시 현황은 운영자만 (auth.admin-members → ROLE_ADMIN, JwtAuthenticationFilter)
+                    .requestMatchers(HttpMethod.GET, "/auth/password/stats").hasRole("ADMIN")
                     
-                    // /api/cut/**도 permitAll()로 설정 (분석 API 허용)
-                    .requestMatchers("/api/cut/**").permitAll()
+                    // 운영 통계(/api/cut/{cache,pool,persist,ai,ratelimit,image,jobs,export}/stats)는
+                    // 서버 내부 상태(저장소 경로, 커넥션 풀, 브레이커 등)가 드러나므로 운영자(ROLE_ADMIN)만.
+                    // 사용자용 통계 GET /api/cut/stats는 경로 깊이가 달라 여기에 해당하지 않음
+                    .requestMatchers(HttpMethod.GET, "/api/cut/*/stats").hasRole("ADMIN")
+
+                    // 사용자용 통계(전체 건수)만 공개. 분석/이력/사진/작업/내보내기 등 나머지 /api/cut/**는
+                    // 아래 anyRequest().authenticated()로 로그인이 필요 (토큰 없이 AI 서버를 쓰지 못하도록)
+                    .requestMatchers(HttpMethod.GET, "/api/cut/stats").permitAll()
+
+                    // 헬스 체크 / Prometheus 수집 (외부에 노출하지 않도록 방화벽이나 management.server.port로 분리 권장)
+                    .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
                     
                     // 나머지 요청은 인증 필요
                     .anyRequest().authenticated() 
@@ -59,6 +78,10 @@ public class SecurityConfig {
             // 4. JWT 인증 필터 주입
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
             
+            // 토큰 없이 인증이 필요한 경로를 호출하면 403이 아닌 401 (권한이 모자란 경우는 그대로 403)
+            .exceptionHandling(exceptions -> exceptions
+                    .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+
             // 5. formLogin 및 httpBasic 비활성화
             .formLogin(formLogin -> formLogin.disable())
             .httpBasic(httpBasic -> httpBasic.disable());
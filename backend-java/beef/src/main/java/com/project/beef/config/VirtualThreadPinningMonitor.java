@@ -0,0 +1,140 @@
+package com.project.beef.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 고정(pinning) 감시 (spring.threads.virtual.enabled=true 일 때만 동작).
+ *
+ * synchronized 블록 안에서 I/O나 락 대기로 막힌 가상 스레드는 캐리어(플랫폼) 스레드까지 붙잡아,
+ * 몇 군데만 있어도 캐리어 수(CPU 코어 수)만큼의 요청에서 전체 처리가 멈춥니다.
+ * JFR의 jdk.VirtualThreadPinned 이벤트를 프로세스 안에서 스트리밍으로 받아, 고정된 위치(애플리케이션 코드의 첫 프레임)별로
+ * "beef.vthread.pinned" 타이머에 기록하고 위치마다 처음 한 번은 스택을 경고 로그로 남깁니다.
+ */
+@Component
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.project.beef.";
+    // 위치 태그가 끝없이 늘지 않도록 (넘으면 "other")
+    private static final int MAX_SITES = 100;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration threshold;
+
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${virtual-threads.pinning.monitor-enabled:true}") boolean monitorEnabled,
+            @Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = virtualThreads && monitorEnabled;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String site = site(frames);
+        if (!reportedSites.contains(site) && reportedSites.size() >= MAX_SITES) {
+            site = "other";
+        }
+        Timer.builder("beef.vthread.pinned")
+                .description("캐리어 스레드에 고정된 채 막힌 시간 (위치별)")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedSites.add(site)) {
+            log.warn("가상 스레드 고정(pinning) {}ms at {}\n{}", event.getDuration().toMillis(), site, format(event.getStackTrace()));
+        }
+    }
+
+    /**
+     * 고정을 일으킨 애플리케이션 코드 위치. 우리 코드가 없으면 JDK가 아닌 첫 프레임(라이브러리).
+     */
+    private static String site(List<RecordedFrame> frames) {
+        RecordedFrame library = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return describe(frame);
+            }
+            if (library == null && !type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                library = frame;
+            }
+        }
+        return library != null ? describe(library) : "unknown";
+    }
+
+    private static String describe(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(스택 없음)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    // ----------------------------------------------------
+    // SmartLifecycle: JFR 스트림 시작/종료
+    // ----------------------------------------------------
+
+    @Override
+    public void start() {
+        if (!enabled || stream != null) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("가상 스레드 고정 감시 시작 (기준 {}ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        if (recording == null) {
+            return;
+        }
+        stream = null;
+        recording.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+}
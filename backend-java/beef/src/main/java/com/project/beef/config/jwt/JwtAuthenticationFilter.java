@@ -2,54 +2,122 @@ package com.project.beef.config.jwt;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod; 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher; 
-import org.springframework.security.web.util.matcher.RequestMatcher; // RequestMatcher import 추가
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.project.beef.util.JwtUtil;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String MDC_MEMBER_ID = "memberId";
+
+    private static final List<GrantedAuthority> USER = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final List<GrantedAuthority> ADMIN =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final JwtUtil jwtUtil;
 
+    // 운영 API(통계 등, SecurityConfig hasRole("ADMIN"))를 호출할 수 있는 회원 (auth.admin-members)
+    private final Set<String> adminMembers;
+
+    // 토큰 검증(서명 확인 또는 검증 캐시 조회) 시간 "beef.jwt.verify" (outcome: valid | invalid)
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, MeterRegistry meterRegistry,
+            @Value("${auth.admin-members:}") String adminMembers) {
+        this.jwtUtil = jwtUtil;
+        this.adminMembers = Arrays.stream(adminMembers.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.validTokenTimer = Timer.builder("beef.jwt.verify").tag("outcome", "valid").register(meterRegistry);
+        this.invalidTokenTimer = Timer.builder("beef.jwt.verify").tag("outcome", "invalid").register(meterRegistry);
+    }
+
     // ⭐ 1. 필터링을 건너뛸 공용 경로 정의 ⭐
     // 이 경로들은 토큰 검증 없이 바로 통과됩니다.
-    private static final List<RequestMatcher> PUBLIC_MATCHERS = Arrays.asList(
+    // 모두 "메서드 + /prefix/**" 형태이므로 AntPathRequestMatcher 대신 미리 풀어 둔 prefix 비교로 매칭합니다.
+    //
+    // 분석 API(/api/cut/**)는 여기 넣지 않습니다. 로그인이 필요하고(SecurityConfig), 검증한 토큰의 회원 이력으로 저장됩니다.
+    // (공개된 GET /api/cut/stats도 토큰을 보냈으면 그 회원의 통계를 함께 돌려주므로 검증해야 함)
+    private static final PublicRoute[] PUBLIC_ROUTES = {
             // 로그인, 회원가입 경로 (POST 요청)
-            new AntPathRequestMatcher("/auth/**", HttpMethod.POST.name()),
-            
-            // ⭐⭐⭐ 분석 API 경로 추가 (POST 요청) ⭐⭐⭐
-            new AntPathRequestMatcher("/api/cut/**", HttpMethod.POST.name()),
-            
+            new PublicRoute(HttpMethod.POST, "/auth/**"),
+
             // 모든 OPTIONS 요청 허용 (CORS Preflight)
-            new AntPathRequestMatcher("/**", HttpMethod.OPTIONS.name())
-    );
+            new PublicRoute(HttpMethod.OPTIONS, "/**")
+    };
 
     /**
-     * PUBLIC_MATCHERS에 정의된 경로에 대해서는 이 필터를 건너뜁니다.
+     * PUBLIC_ROUTES에 정의된 경로에 대해서는 이 필터를 건너뜁니다.
      * 이는 permitAll() 설정이 적용될 수 있도록 보장합니다.
      */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        // 현재 요청이 PUBLIC_MATCHERS 중 하나와 일치하는지 확인합니다.
-        return PUBLIC_MATCHERS.stream().anyMatch(matcher -> matcher.matches(request));
+        // 현재 요청이 PUBLIC_ROUTES 중 하나와 일치하는지 확인합니다. (요청마다 stream/패턴 파싱 없음)
+        String method = request.getMethod();
+        String path = requestPath(request);
+        for (PublicRoute route : PUBLIC_ROUTES) {
+            if (route.matches(method, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // AntPathRequestMatcher와 같은 기준 (servletPath + pathInfo)
+    private static String requestPath(HttpServletRequest request) {
+        String path = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        return pathInfo != null ? path + pathInfo : path;
+    }
+
+    /**
+     * "/prefix/**" 패턴 하나를 미리 분해해 둔 매처. "/prefix" 자체와 그 하위 경로에 일치합니다.
+     */
+    private static final class PublicRoute {
+
+        private final String method;
+        private final String prefix;          // 예: "/auth" ("/**"이면 빈 문자열 → 모든 경로)
+        private final String prefixWithSlash; // 예: "/auth/"
+
+        PublicRoute(HttpMethod method, String pattern) {
+            if (!pattern.endsWith("/**")) {
+                throw new IllegalArgumentException("'/prefix/**' 형태의 패턴만 지원합니다: " + pattern);
+            }
+            this.method = method.name();
+            this.prefix = pattern.substring(0, pattern.length() - 3);
+            this.prefixWithSlash = prefix + "/";
+        }
+
+        boolean matches(String requestMethod, String path) {
+            if (!method.equals(requestMethod)) {
+                return false;
+            }
+            return prefix.isEmpty() || path.equals(prefix) || path.startsWith(prefixWithSlash);
+        }
     }
     
     // 이 필터가 처리할 로직 (토큰 검증 및 인증)
@@ -57,31 +125,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        // shouldNotFilter()에서 공용 경로는 이미 건너뛰었으므로, 여기는 토큰이 필요한 요청만 들어옵니다.
+        // shouldNotFilter()에서 공용 경로는 이미 건너뛰었습니다.
+        // Authorization 헤더가 없으면 인증 없이 통과 (permitAll 경로는 익명으로 처리, 나머지는 Security가 거절)
         
         String authorizationHeader = request.getHeader("Authorization");
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             String token = authorizationHeader.substring(7); // 'Bearer ' 제거
 
+            long start = System.nanoTime();
             try {
                 String email = jwtUtil.extractEmail(token);
+                validTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
                 if (email != null) {
+                    List<GrantedAuthority> authorities = adminMembers.contains(email) ? ADMIN : USER;
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            new User(email, "", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))),
+                            new User(email, "", authorities),
                             null,
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+                            authorities);
                     
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    // 이후 로그에 회원 식별자를 함께 남김 (JSON 로그의 memberId 필드)
+                    MDC.put(MDC_MEMBER_ID, email);
                 }
             } catch (Exception e) {
+                invalidTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
                 // 토큰 만료 등 오류 발생 시 401 반환
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid Token or Token Expired");
                 return;
             }
         }
         
-        filterChain.doFilter(request, response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_MEMBER_ID);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.project.beef.controller;
+
+import java.net.URI;
+import java.security.Principal;
+import java.util.Map;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.project.beef.service.AnalysisJob;
+import com.project.beef.service.AnalysisJobService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 분석 작업 API.
+ * POST /api/cut/analyze 와 같은 분석 + 저장을 하지만, 요청 스레드를 잡아 두지 않고 jobId를 바로 돌려줍니다.
+ */
+@RestController
+@RequestMapping("/api/cut/jobs")
+@RequiredArgsConstructor
+public class AnalysisJobController {
+
+    private final AnalysisJobService analysisJobService;
+
+    /**
+     * POST /api/cut/jobs : 분석 작업 등록 → 202 Accepted + jobId
+     */
+    @PostMapping
+    public ResponseEntity<?> submit(@RequestParam("file") MultipartFile file, Principal principal) {
+
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body("업로드할 파일이 없습니다.");
+        }
+
+        try {
+            AnalysisJob job = analysisJobService.submit(file, memberId(principal));
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/cut/jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (TaskRejectedException e) {
+            // 작업 큐가 가득 참 → 잠시 후 재시도
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body("분석 요청이 많아 잠시 후 다시 시도해 주세요.");
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body("분석 작업 등록 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * GET /api/cut/jobs/{jobId} : 작업 상태(QUEUED/RUNNING/DONE/FAILED) 및 결과 조회 (등록한 회원만)
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<AnalysisJob> status(@PathVariable("jobId") String jobId, Principal principal) {
+        AnalysisJob job = findOwned(jobId, principal);
+        return job == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(job);
+    }
+
+    /**
+     * GET /api/cut/jobs/{jobId}/events : 작업이 끝나면 SSE로 결과 1건을 보내고 연결을 닫습니다.
+     */
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@PathVariable("jobId") String jobId, Principal principal) {
+        AnalysisJob job = findOwned(jobId, principal);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(analysisJobService.subscribe(job));
+    }
+
+    /**
+     * GET /api/cut/jobs/stats : 큐 대기 수, 처리 중 수 등 (운영자만, SecurityConfig)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> stats() {
+        return ResponseEntity.ok(analysisJobService.stats());
+    }
+
+    // 다른 회원의 작업은 있는지도 드러나지 않도록 없는 작업과 똑같이 404
+    private AnalysisJob findOwned(String jobId, Principal principal) {
+        AnalysisJob job = analysisJobService.find(jobId);
+        return job != null && job.getMemberId().equals(memberId(principal)) ? job : null;
+    }
+
+    private static String memberId(Principal principal) {
+        return (principal != null && principal.getName() != null) ? principal.getName() : "ANONYMOUS";
+    }
+}
@@ -1,6 +1,19 @@
 package com.project.beef.controller;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -8,21 +21,61 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.project.beef.client.AiServerClient;
+import com.project.beef.client.AiServerUnavailableException;
 import com.project.beef.domain.Cut;
 import com.project.beef.dto.CutDto;
+import com.project.beef.dto.CutHistoryPageDto;
 import com.project.beef.dto.SaveRequestDto;
+import com.project.beef.service.AiResultCache;
+import com.project.beef.service.AnalysisRateLimiter;
 import com.project.beef.service.CutService;
+import com.project.beef.service.CutStatistics;
+import com.project.beef.service.CutWriteBehindQueue;
+import com.project.beef.util.SpooledImage;
 
 import java.security.Principal;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping("/api/cut")
 @RequiredArgsConstructor
+@Slf4j
 public class CutController {
 
 	private final CutService cutService;
+	private final AiResultCache aiResultCache;
+	private final PoolingHttpClientConnectionManager aiConnectionManager;
+	private final CutWriteBehindQueue cutWriteBehindQueue;
+	private final AiServerClient aiServerClient;
+	private final AnalysisRateLimiter analysisRateLimiter;
+	private final CutStatistics cutStatistics;
+	private final MeterRegistry meterRegistry;
+
+	// 일괄 분석 한 번에 받을 수 있는 최대 파일 수
+	@Value("${ai.batch.max-files:50}")
+	private int maxBatchFiles;
+
+	// 이력 조회 한 페이지 최대 건수
+	@Value("${cut.history.max-page-size:100}")
+	private int maxHistoryPageSize;
+
+	// 지금 처리 중인 /analyze 요청 수 (플랫폼 스레드 풀 / 가상 스레드 모드의 동시 처리량 비교용)
+	private final AtomicInteger analysesInFlight = new AtomicInteger();
+
+	@PostConstruct
+	void registerGauges() {
+		Gauge.builder("beef.analyze.in.flight", analysesInFlight, AtomicInteger::get)
+			.description("처리 중인 분석 요청 수")
+			.register(meterRegistry);
+	}
 
 	/**
      * POST /api/cut/analyze : 부위 측정 + 등급 측정 + Insight 결합 + DB 저장 통합 API
@@ -35,16 +88,18 @@ public class CutController {
                 CutDto.builder().status("error").insight("업로드할 파일이 없습니다.").build()
             ); 
         }
+        recordUploadSize("analyze", file.getSize());
 
         String memberId = null;
         if (principal != null && principal.getName() != null) {
         	memberId = principal.getName();
-        	System.out.println("DEBUG: 현재 로그인 사용자 ID: " + memberId);
         } else {
         	memberId = "ANONYMOUS"; // 익명 사용자 처리
-        	System.err.println("경고: 인증 정보(Principal)가 없어 memberId를 ANONYMOUS 처리합니다.");
         }
+        // 요청마다 찍히는 로그이므로 DEBUG (운영에서는 샘플링됨)
+        log.debug("분석 요청: memberId={}, size={}", memberId, file.getSize());
         
+        analysesInFlight.incrementAndGet();
         try {
             CutDto resultDto = cutService.analyzeAndCombine(file);
             
@@ -54,52 +109,252 @@ public class CutController {
                 .insight(resultDto.getInsight())
                 .fileName(file.getOriginalFilename())
                 .memberId(memberId)
+                .imageHash(resultDto.getImageHash())
+                .modelVersion(resultDto.getModelVersion())
                 .build();
                 
-            cutService.saveAnalysisResult(saveRequest);
+            // write-behind 모드이면 큐에 넣고 바로 응답 (DB insert를 기다리지 않음)
+            cutService.persistAnalysisResult(saveRequest);
 
             // 3. 최종 결과 반환
             return ResponseEntity.ok(resultDto);
+        } catch (AiServerUnavailableException e) {
+            // 서킷 브레이커 OPEN / bulkhead 초과: AI 서버를 기다리지 않고 바로 503
+            countError("analyze", e);
+            log.warn("AI 서버 호출 차단: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                CutDto.builder()
+                    .status("error")
+                    .insight(e.getMessage())
+                    .build()
+            );
         } catch (Exception e) {
-            System.err.println("❌ 분석 및 저장 중 치명적인 오류 발생: " + e.getMessage());
-            e.printStackTrace(); 
+            countError("analyze", e);
+            log.error("분석 및 저장 중 오류 발생", e);
             return ResponseEntity.internalServerError().body(
                 CutDto.builder()
                     .status("error")
                     .insight("분석 서버 통신 오류 또는 처리 중 오류가 발생했습니다: " + e.getMessage())
                     .build()
             );
+        } finally {
+            analysesInFlight.decrementAndGet();
         }
     }
 
+	/**
+	 * POST /api/cut/analyze/batch : 여러 장을 한 번에 분석 + 저장
+	 * 결과는 업로드 순서와 같고, 실패한 항목만 status "error"로 표시됩니다 (나머지는 정상 저장).
+	 */
+	@PostMapping("/analyze/batch")
+	public ResponseEntity<?> analyzeBatch(@RequestParam("files") List<MultipartFile> files, Principal principal) {
+
+		if (files == null || files.isEmpty()) {
+			return ResponseEntity.badRequest().body("업로드할 파일이 없습니다.");
+		}
+		if (files.size() > maxBatchFiles) {
+			return ResponseEntity.badRequest().body("한 번에 최대 " + maxBatchFiles + "장까지 분석할 수 있습니다.");
+		}
+
+		String memberId = (principal != null && principal.getName() != null) ? principal.getName() : "ANONYMOUS";
+
+		// 1. 업로드 보관 (빈 파일/읽기 실패는 해당 항목만 오류 처리)
+		CutDto[] results = new CutDto[files.size()];
+		List<Integer> indexes = new ArrayList<>();
+		List<SpooledImage> images = new ArrayList<>();
+		try {
+			for (int i = 0; i < files.size(); i++) {
+				MultipartFile file = files.get(i);
+				recordUploadSize("batch", file.getSize());
+				if (file.isEmpty()) {
+					results[i] = CutDto.builder().status("error").insight("빈 파일입니다.").build();
+					continue;
+				}
+				try {
+					images.add(cutService.prepareForSave(file));
+					indexes.add(i);
+				} catch (Exception e) {
+					countError("batch", e);
+					results[i] = CutDto.builder().status("error").insight("파일 처리 중 오류: " + e.getMessage()).build();
+				}
+			}
+
+			// 2. micro-batch 분석
+			List<CutDto> analyzed = cutService.analyzeBatch(images);
+
+			// 3. 성공한 항목만 한 번의 batch insert로 저장
+			List<SaveRequestDto> saveRequests = new ArrayList<>();
+			for (int k = 0; k < analyzed.size(); k++) {
+				int i = indexes.get(k);
+				CutDto resultDto = analyzed.get(k);
+				results[i] = resultDto;
+				if ("success".equals(resultDto.getStatus())) {
+					saveRequests.add(SaveRequestDto.builder()
+						.detectedPart(resultDto.getDetectedPart())
+						.detectedGrade(resultDto.getDetectedGrade())
+						.insight(resultDto.getInsight())
+						.fileName(files.get(i).getOriginalFilename())
+						.memberId(memberId)
+						.imageHash(resultDto.getImageHash())
+						.modelVersion(resultDto.getModelVersion())
+						.build());
+				}
+			}
+			cutService.saveAnalysisResults(saveRequests);
+
+			return ResponseEntity.ok(List.of(results));
+		} catch (Exception e) {
+			countError("batch", e);
+			log.error("일괄 분석 중 오류 발생", e);
+			return ResponseEntity.internalServerError().body("일괄 분석 처리 중 오류가 발생했습니다: " + e.getMessage());
+		} finally {
+			images.forEach(SpooledImage::close);
+		}
+	}
+
 	@PostMapping("/grade")
 	public ResponseEntity<?> analyzeGrade(@RequestParam("file") MultipartFile file, HttpServletRequest request) {
 
 		if (file.isEmpty()) {
 			return ResponseEntity.badRequest().body("업로드할 파일이 없습니다.");
 		}
+		recordUploadSize("grade", file.getSize());
 
 		try {
-			final byte[] fileBytes = file.getBytes();
-			final String filename = file.getOriginalFilename();
-
-			CutDto gradeResult = cutService.analyzeGrade(fileBytes, filename);
-			return ResponseEntity.ok(gradeResult);
+			try (SpooledImage image = cutService.prepare(file)) {
+				CutDto gradeResult = cutService.analyzeGrade(image);
+				return ResponseEntity.ok(gradeResult);
+			}
 
+		} catch (AiServerUnavailableException e) {
+			countError("grade", e);
+			log.warn("AI 서버 호출 차단: {}", e.getMessage());
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+				CutDto.builder().status("error").insight(e.getMessage()).build());
 		} catch (Exception e) {
-			System.err.println("등급 분석 중 오류 발생: " + e.getMessage());
+			countError("grade", e);
+			log.error("등급 분석 중 오류 발생", e);
 			return ResponseEntity.internalServerError().body("등급 분석 처리 중 오류가 발생했습니다: " + e.getMessage());
 		}
 	}
 
+	/**
+	 * GET /api/cut/history?cursor=&size= : 로그인한 회원의 분석 이력 (최신순, keyset 페이지네이션)
+	 * 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다.
+	 */
+	@GetMapping("/history")
+	public ResponseEntity<?> history(
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "size", defaultValue = "20") int size,
+			Principal principal) {
+
+		if (principal == null || principal.getName() == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+		}
+		if (size < 1 || size > maxHistoryPageSize) {
+			return ResponseEntity.badRequest().body("size는 1 ~ " + maxHistoryPageSize + " 사이여야 합니다.");
+		}
+
+		try {
+			CutHistoryPageDto page = cutService.findHistory(principal.getName(), cursor, size);
+			return ResponseEntity.ok(page);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+
+	/**
+	 * GET /api/cut/stats : 부위 × 등급 건수, 평균 마블링, 일별 건수 (전체 + 로그인한 회원)
+	 * 메모리 카운터에서 바로 읽으므로 Cut 테이블 크기와 관계없이 일정한 시간에 응답합니다.
+	 */
+	@GetMapping("/stats")
+	public ResponseEntity<Map<String, Object>> stats(Principal principal) {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("global", cutStatistics.global());
+		if (principal != null && principal.getName() != null) {
+			result.put("member", cutStatistics.member(principal.getName()));
+		}
+		return ResponseEntity.ok(result);
+	}
+
 	@PostMapping("/save")
 	public ResponseEntity<?> saveResult(@RequestBody SaveRequestDto saveRequest) {
 		try {
 			Cut savedCut = cutService.saveAnalysisResult(saveRequest);
 			return ResponseEntity.ok(savedCut.getId());
 		} catch (Exception e) {
-			System.err.println("저장 중 오류 발생: " + e.getMessage());
+			countError("save", e);
+			log.error("저장 중 오류 발생", e);
 			return ResponseEntity.internalServerError().body("결과 저장 처리 중 오류가 발생했습니다: " + e.getMessage());
 		}
 	}
+
+	/**
+	 * 업로드 크기 분포 "beef.upload.size" (bytes, endpoint 태그)
+	 */
+	private void recordUploadSize(String endpoint, long bytes) {
+		DistributionSummary.builder("beef.upload.size")
+			.baseUnit("bytes")
+			.tag("endpoint", endpoint)
+			.register(meterRegistry)
+			.record(bytes);
+	}
+
+	/**
+	 * 오류 원인별 카운터 "beef.errors" (endpoint, exception = 던져진 예외 클래스, cause = 가장 안쪽 원인 예외 클래스)
+	 * AiServerException처럼 감싼 예외도 cause 태그로 실제 원인(SocketTimeoutException, HttpServerErrorException 등)을 구분합니다.
+	 */
+	private void countError(String endpoint, Exception e) {
+		meterRegistry.counter("beef.errors",
+				"endpoint", endpoint,
+				"exception", e.getClass().getSimpleName(),
+				"cause", NestedExceptionUtils.getMostSpecificCause(e).getClass().getSimpleName())
+			.increment();
+	}
+
+	/**
+	 * GET /api/cut/cache/stats : AI 결과 캐시 적중률 확인용 (운영자만, SecurityConfig)
+	 */
+	@GetMapping("/cache/stats")
+	public ResponseEntity<Map<String, Object>> cacheStats() {
+		return ResponseEntity.ok(aiResultCache.stats());
+	}
+
+	/**
+	 * GET /api/cut/pool/stats : AI 서버 HTTP 커넥션 풀 사용 현황 (운영자만)
+	 */
+	@GetMapping("/pool/stats")
+	public ResponseEntity<Map<String, Object>> poolStats() {
+		PoolStats stats = aiConnectionManager.getTotalStats();
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("leased", stats.getLeased());
+		result.put("pending", stats.getPending());
+		result.put("available", stats.getAvailable());
+		result.put("max", stats.getMax());
+		return ResponseEntity.ok(result);
+	}
+
+	/**
+	 * GET /api/cut/persist/stats : 지연 저장(write-behind) 큐 상태 (운영자만)
+	 */
+	@GetMapping("/persist/stats")
+	public ResponseEntity<Map<String, Object>> persistStats() {
+		return ResponseEntity.ok(cutWriteBehindQueue.stats());
+	}
+
+	/**
+	 * GET /api/cut/ai/stats : AI 서버 엔드포인트별 서킷 브레이커 상태와 bulkhead 사용량 (운영자만)
+	 */
+	@GetMapping("/ai/stats")
+	public ResponseEntity<Map<String, Object>> aiStats() {
+		return ResponseEntity.ok(aiServerClient.stats());
+	}
+
+	/**
+	 * GET /api/cut/ratelimit/stats : 분석 요청 제한 (동시 처리 수, 사유별 429 횟수) (운영자만)
+	 */
+	@GetMapping("/ratelimit/stats")
+	public ResponseEntity<Map<String, Object>> rateLimitStats() {
+		return ResponseEntity.ok(analysisRateLimiter.stats());
+	}
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.project.beef.controller;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.beef.service.CutExportService;
+import com.project.beef.service.CutExportService.Format;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분석 이력 전체 내보내기 (QA 오프라인 모델 평가용).
+ * 모든 회원의 결과가 나가므로 cut.export.allowed-members 에 등록된 회원만 호출할 수 있습니다.
+ *
+ * 행은 DB 커서에서 읽는 대로 응답에 쓰며(CutExportService), 클라이언트가 gzip을 받으면(Accept-Encoding)
+ * 압축해서 보냅니다. 예: curl --compressed -H "Authorization: Bearer ..." "/api/cut/export?format=csv&from=2025-01-01"
+ */
+@RestController
+@RequestMapping("/api/cut")
+@Slf4j
+public class CutExportController {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final CutExportService cutExportService;
+    private final Set<String> allowedMembers;
+
+    public CutExportController(
+            CutExportService cutExportService,
+            @Value("${cut.export.allowed-members:}") String allowedMembers) {
+        this.cutExportService = cutExportService;
+        this.allowedMembers = Arrays.stream(allowedMembers.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * GET /api/cut/export?format=ndjson|csv&from=yyyy-MM-dd&to=yyyy-MM-dd&memberId=&part=&grade=
+     * from/to는 생성일 기준이며 둘 다 포함합니다. 조건을 주지 않으면 전체.
+     */
+    @GetMapping("/export")
+    public void export(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "memberId", required = false) String memberId,
+            @RequestParam(value = "part", required = false) String part,
+            @RequestParam(value = "grade", required = false) String grade,
+            Principal principal,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        if (principal == null || !allowedMembers.contains(principal.getName())) {
+            response.sendError(HttpStatus.FORBIDDEN.value(), "내보내기 권한이 없습니다.");
+            return;
+        }
+        Format exportFormat;
+        try {
+            exportFormat = Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "format은 ndjson 또는 csv 입니다.");
+            return;
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "from이 to보다 늦습니다.");
+            return;
+        }
+        if (!cutExportService.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "30");
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "이미 진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+
+        try {
+            boolean gzip = acceptsGzip(request);
+            String extension = exportFormat == Format.CSV ? "csv" : "ndjson";
+            response.setContentType(exportFormat == Format.CSV ? "text/csv" : "application/x-ndjson");
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"cut-export-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "." + extension + "\"");
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+
+            OutputStream body = gzip ? new GZIPOutputStream(response.getOutputStream(), BUFFER_SIZE) : response.getOutputStream();
+            Writer out = new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8), BUFFER_SIZE);
+            cutExportService.export(from, to, blankToNull(memberId), blankToNull(part), blankToNull(grade), exportFormat, out);
+            // 끝까지 쓴 경우에만 닫음 (gzip 트레일러) → 중간에 실패한 응답이 완전한 파일처럼 보이지 않음
+            out.close();
+        } catch (IOException e) {
+            // 클라이언트가 받는 도중 연결을 끊음 (이미 보낸 부분은 되돌릴 수 없음)
+            log.info("Cut 내보내기 중단: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Cut 내보내기 실패", e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpStatus.INTERNAL_SERVER_ERROR.value(), "내보내기 중 오류가 발생했습니다.");
+                return;
+            }
+            // 이미 일부를 보냈으면 정상 종료로 보이지 않도록 예외를 그대로 던져 연결을 끊음
+            throw e;
+        } finally {
+            cutExportService.release();
+        }
+    }
+
+    /**
+     * GET /api/cut/export/stats : 내보내기 횟수 / 출력 행 수 / 진행 중인 내보내기 (운영자만, SecurityConfig)
+     */
+    @GetMapping("/export/stats")
+    public ResponseEntity<Map<String, Object>> stats() {
+        return ResponseEntity.ok(cutExportService.stats());
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
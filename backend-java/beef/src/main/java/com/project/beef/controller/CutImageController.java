@@ -0,0 +1,203 @@
+package com.project.beef.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.Principal;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.beef.domain.Cut;
+import com.project.beef.repository.CutRepository;
+import com.project.beef.service.ImageStore;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 분석한 원본 사진 조회 (이미지 저장소의 파일을 그대로 전송).
+ *
+ * 파일 내용이 바뀌지 않으므로 ETag는 이미지 SHA-256이며, 브라우저 캐시(If-None-Match → 304)와
+ * 이어 받기/부분 요청(Range → 206)을 지원합니다. 본문은 톰캣 sendfile(커널 zero-copy)로 보내고,
+ * sendfile을 쓸 수 없는 커넥터에서는 FileChannel.transferTo로 보냅니다 (힙에 파일 내용을 올리지 않음).
+ */
+@RestController
+@RequestMapping("/api/cut")
+@RequiredArgsConstructor
+public class CutImageController {
+
+	// 톰캣 NIO 커넥터의 sendfile 요청 속성 (org.apache.tomcat.util.net.SendfileState 참고)
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	private final CutRepository cutRepository;
+	private final ImageStore imageStore;
+
+	/**
+	 * GET /api/cut/{id}/image : 본인이 분석한 Cut의 원본 사진
+	 * 다른 회원의 사진이거나 사진이 저장되지 않은 Cut(저장소 도입 이전 등)은 404입니다.
+	 */
+	@GetMapping("/{id}/image")
+	public void image(@PathVariable("id") Long id, Principal principal,
+			HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+		if (principal == null || principal.getName() == null) {
+			response.sendError(HttpStatus.UNAUTHORIZED.value(), "로그인이 필요합니다.");
+			return;
+		}
+		Optional<Cut> cut = cutRepository.findById(id);
+		// 남의 Cut인지 여부도 드러내지 않도록 없는 경우와 같은 404
+		if (cut.isEmpty() || !principal.getName().equals(cut.get().getMemberId())) {
+			response.sendError(HttpStatus.NOT_FOUND.value());
+			return;
+		}
+		String hash = cut.get().getImageHash();
+		Optional<Path> stored = imageStore.find(hash);
+		if (stored.isEmpty()) {
+			response.sendError(HttpStatus.NOT_FOUND.value());
+			return;
+		}
+		Path path = stored.get();
+
+		String etag = "\"" + hash + "\"";
+		response.setHeader(HttpHeaders.ETAG, etag);
+		response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+		if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+			response.setStatus(HttpStatus.NOT_MODIFIED.value());
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long length = channel.size();
+			long start = 0;
+			long end = length - 1;
+
+			// If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 보냄
+			String range = request.getHeader(HttpHeaders.RANGE);
+			String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+			if (range != null && (ifRange == null || ifRange.equals(etag))) {
+				long[] parsed = parseRange(range, length);
+				if (parsed != null && parsed.length == 0) {
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+					response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+					return;
+				}
+				if (parsed != null) {
+					start = parsed[0];
+					end = parsed[1];
+					response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+				}
+			}
+
+			long count = end - start + 1;
+			response.setContentType(imageStore.contentType(path));
+			response.setContentLengthLong(count);
+			if ("HEAD".equals(request.getMethod()) || count == 0) {
+				return;
+			}
+
+			if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+				// 응답 본문은 톰캣이 요청 처리 후 커널 sendfile로 직접 전송
+				request.setAttribute(SENDFILE_FILENAME, path.toString());
+				request.setAttribute(SENDFILE_START, start);
+				request.setAttribute(SENDFILE_END, end + 1);
+				return;
+			}
+
+			WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+			long position = start;
+			long remaining = count;
+			while (remaining > 0) {
+				long sent = channel.transferTo(position, remaining, out);
+				if (sent <= 0) {
+					break;
+				}
+				position += sent;
+				remaining -= sent;
+			}
+		}
+	}
+
+	/**
+	 * GET /api/cut/image/stats : 이미지 저장소 저장/중복 제거 건수 (운영자만, SecurityConfig)
+	 */
+	@GetMapping("/image/stats")
+	public ResponseEntity<Map<String, Object>> imageStats() {
+		return ResponseEntity.ok(imageStore.stats());
+	}
+
+	private static boolean etagMatches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String value = candidate.trim();
+			if (value.startsWith("W/")) {
+				value = value.substring(2);
+			}
+			if (value.equals("*") || value.equals(etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * "bytes=a-b", "bytes=a-", "bytes=-n" 단일 구간만 지원합니다.
+	 * @return {start, end} (end 포함), 만족할 수 없는 구간이면 빈 배열,
+	 *         해석할 수 없거나 여러 구간이면 null (→ 전체 전송, RFC 9110 허용)
+	 */
+	static long[] parseRange(String header, long length) {
+		if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+			return null;
+		}
+		String spec = header.substring(6).trim();
+		int dash = spec.indexOf('-');
+		if (dash < 0) {
+			return null;
+		}
+		try {
+			String first = spec.substring(0, dash).trim();
+			String last = spec.substring(dash + 1).trim();
+			if (first.isEmpty()) {
+				// 마지막 n바이트
+				if (last.isEmpty()) {
+					return null;
+				}
+				long suffix = Long.parseLong(last);
+				if (suffix <= 0 || length == 0) {
+					return new long[0];
+				}
+				return new long[] { Math.max(0, length - suffix), length - 1 };
+			}
+			long start = Long.parseLong(first);
+			long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+			if (end < start) {
+				return null;
+			}
+			if (start >= length) {
+				return new long[0];
+			}
+			return new long[] { start, Math.min(end, length - 1) };
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.project.beef.controller;
+
+import java.security.Principal;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.project.beef.service.CutReanalysisService;
+
+/**
+ * 모델 교체 후 과거 Cut 재분석 관리 API.
+ * 회원 역할(ROLE) 구분이 없으므로 cut.reanalysis.admin-members 에 등록된 회원만 호출할 수 있습니다.
+ */
+@RestController
+@RequestMapping("/admin/reanalysis")
+public class CutReanalysisController {
+
+    private final CutReanalysisService cutReanalysisService;
+    private final Set<String> adminMembers;
+
+    public CutReanalysisController(
+            CutReanalysisService cutReanalysisService,
+            @Value("${cut.reanalysis.admin-members:}") String adminMembers) {
+        this.cutReanalysisService = cutReanalysisService;
+        this.adminMembers = Arrays.stream(adminMembers.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * POST /admin/reanalysis/start?modelVersion=... : 재분석 시작 (같은 목표 버전이면 체크포인트부터 이어서)
+     * restart=true 이면 처음 id부터 다시 훑습니다 (이미 목표 버전인 Cut은 어느 쪽이든 건너뜀).
+     */
+    @PostMapping("/start")
+    public ResponseEntity<?> start(@RequestParam("modelVersion") String modelVersion,
+            @RequestParam(value = "restart", defaultValue = "false") boolean restart,
+            Principal principal) {
+        if (!isAdmin(principal)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("재분석 권한이 없습니다.");
+        }
+        if (modelVersion.isBlank() || modelVersion.length() > 100) {
+            return ResponseEntity.badRequest().body("modelVersion은 1~100자여야 합니다.");
+        }
+        try {
+            cutReanalysisService.start(modelVersion.trim(), restart);
+            return ResponseEntity.accepted().body(cutReanalysisService.stats());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    /**
+     * POST /admin/reanalysis/pause : 진행 중인 chunk까지 쓰고 멈춤
+     */
+    @PostMapping("/pause")
+    public ResponseEntity<?> pause(Principal principal) {
+        if (!isAdmin(principal)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("재분석 권한이 없습니다.");
+        }
+        cutReanalysisService.pause();
+        return ResponseEntity.accepted().body(cutReanalysisService.stats());
+    }
+
+    /**
+     * GET /admin/reanalysis/status : 진행 상태 (처리/갱신/실패 건수, 마지막 Cut id)
+     */
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status(Principal principal) {
+        if (!isAdmin(principal)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(cutReanalysisService.stats());
+    }
+
+    private boolean isAdmin(Principal principal) {
+        return principal != null && principal.getName() != null && adminMembers.contains(principal.getName());
+    }
+}
@@ -2,8 +2,14 @@ package com.project.beef.controller;
 
 import com.project.beef.util.JwtUtil;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody; 
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -12,17 +18,25 @@ import org.springframework.web.bind.annotation.RestController;
 import com.project.beef.domain.Member; 
 import com.project.beef.dto.LoginRequestDTO;
 import com.project.beef.dto.LoginResponseDTO;
+import com.project.beef.service.LoginAttemptLimiter;
+import com.project.beef.service.MemberCache;
 import com.project.beef.service.MemberService;
+import com.project.beef.service.PasswordHashService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping("/auth") 
 @RequiredArgsConstructor
+@Slf4j
 public class MemberController {
 
     private final MemberService memberService;
-    private final PasswordEncoder passwordEncoder; 
+    private final PasswordHashService passwordHashService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final MemberCache memberCache;
     private final JwtUtil jwtUtil;
 
     @PostMapping("/register") 
@@ -32,15 +46,46 @@ public class MemberController {
     }
     
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDTO> login(@RequestBody LoginRequestDTO loginRequestDTO) {
-        
-        // 1. 이메일로 사용자 찾기
-        Member member = memberService.findByEmail(loginRequestDTO.getEmail());
-
-        // 2. 사용자 존재 여부 및 비밀번호 일치 확인
-        if (member == null || !passwordEncoder.matches(loginRequestDTO.getPassword(), member.getPassword())) {
-            // 실패 시 401 Unauthorized 반환
-            return ResponseEntity.status(401).body(new LoginResponseDTO(null, "이메일 또는 비밀번호가 잘못되었습니다."));
+    public ResponseEntity<LoginResponseDTO> login(@RequestBody LoginRequestDTO loginRequestDTO, HttpServletRequest request) {
+
+        String email = loginRequestDTO.getEmail();
+        // 프록시 헤더(X-Forwarded-For)는 위조할 수 있으므로 실제 접속 주소만 사용
+        String ip = request.getRemoteAddr();
+
+        // 0. 최근 실패가 너무 많으면 비밀번호 검증(BCrypt) 전에 바로 거절. 허용되면 이번 시도를 실패로 미리 기록
+        LoginAttemptLimiter.Attempt attempt = loginAttemptLimiter.tryAcquire(email, ip);
+        if (!attempt.isAllowed()) {
+            long retryAfter = attempt.getRetryAfterSeconds();
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .body(new LoginResponseDTO(null, "로그인 시도가 너무 많습니다. " + retryAfter + "초 후 다시 시도해 주세요."));
+        }
+
+        Member member;
+        try {
+            // 1. 이메일로 사용자 찾기
+            member = memberService.findByEmail(email);
+
+            // 2. 사용자 존재 여부 및 비밀번호 일치 확인 (전용 해시 스레드 풀에서 검증)
+            if (!memberService.matchesPassword(member, loginRequestDTO.getPassword())) {
+                // 미리 기록한 실패를 그대로 둠
+                // 실패 시 401 Unauthorized 반환
+                return ResponseEntity.status(401).body(new LoginResponseDTO(null, "이메일 또는 비밀번호가 잘못되었습니다."));
+            }
+            loginAttemptLimiter.onSuccess(attempt);
+
+            // 2-1. BCrypt cost 설정이 바뀌었으면 새 cost로 다시 해시 (실패해도 로그인은 계속)
+            try {
+                memberService.rehashIfNeeded(member, loginRequestDTO.getPassword());
+            } catch (Exception e) {
+                log.warn("비밀번호 재해시 실패 (memberId={})", member.getMno(), e);
+            }
+        } catch (TaskRejectedException e) {
+            // 해시 스레드 풀이 가득 참 → 비밀번호를 확인하지 못했으므로 실패 기록은 취소하고 잠시 후 재시도
+            loginAttemptLimiter.cancel(attempt);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new LoginResponseDTO(null, "로그인 요청이 많아 잠시 후 다시 시도해 주세요."));
         }
 
         // 3. 비밀번호 일치 시 JWT 토큰 생성
@@ -49,4 +94,17 @@ public class MemberController {
         // 4. 토큰과 성공 메시지 반환
         return ResponseEntity.ok(new LoginResponseDTO(token, "로그인 성공"));
     }
-}
\ No newline at end of file
+
+    /**
+     * GET /auth/password/stats : 비밀번호 해시 시간 / 해시 스레드 풀 큐 / 로그인 제한 / 회원 조회 캐시 현황
+     * (auth.admin-members 에 등록된 회원만, SecurityConfig)
+     */
+    @GetMapping("/password/stats")
+    public ResponseEntity<Map<String, Object>> passwordStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hash", passwordHashService.stats());
+        result.put("throttle", loginAttemptLimiter.stats());
+        result.put("memberCache", memberCache.stats());
+        return ResponseEntity.ok(result);
+    }
+}
@@ -5,11 +5,18 @@ import java.time.LocalDateTime;
 
 import org.hibernate.annotations.CreationTimestamp;
 
+import com.project.beef.service.CutStatisticsListener;
+
 // ⭐ JPA import 활성화
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +24,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity // ⭐ 테이블과 매핑
+@Table(indexes = {
+        @Index(name = "idx_cut_image_hash", columnList = "imageHash"),
+        // 회원별 이력 조회 (GET /api/cut/history): memberId 일치 + createdAt, id 역순 keyset 페이지네이션
+        @Index(name = "idx_cut_member_created", columnList = "memberId, createdAt, id"),
+        // 통계 롤업/시작 시 tail 집계 (createdAt 구간 스캔)
+        @Index(name = "idx_cut_created", columnList = "createdAt")
+})
+@EntityListeners(CutStatisticsListener.class)
 @Builder
 @Getter
 @Setter
@@ -25,7 +40,10 @@ import lombok.Setter;
 public class Cut {
     
 	@Id 
-    @GeneratedValue(strategy = GenerationType.IDENTITY) 
+    // IDENTITY는 insert 때마다 DB에서 id를 받아와야 해서 Hibernate JDBC batch insert가 꺼지므로,
+    // 50개씩 미리 할당받는 pooled 시퀀스 사용 (기존 테이블은 CutSequenceInitializer가 시퀀스 시작값을 맞춤)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cut_seq")
+    @SequenceGenerator(name = "cut_seq", sequenceName = "cut_seq", allocationSize = 50)
     private Long id;
 
     // AI 분석 결과를 저장할 필드
@@ -35,6 +53,14 @@ public class Cut {
     private String insight;
     private String fileName;
     private String memberId;
+
+    // 업로드 이미지 SHA-256 (같은 이미지의 과거 분석 결과 재사용)
+    @Column(length = 64)
+    private String imageHash;
+
+    // 이 결과를 낸 AI 모델 버전 (AI 서버 응답의 modelVersion, 재분석 시 갱신)
+    @Column(length = 100)
+    private String modelVersion;
     
     // 추가 DB 필드 (예: 등록 시간, 사용자 ID 등)
     @CreationTimestamp
@@ -0,0 +1,43 @@
+package com.project.beef.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재분석 작업 진행 위치 (행 1개, id = 1). CutReanalysisService가 chunk마다 결과와 같은 트랜잭션으로 갱신합니다.
+ * status가 RUNNING인 채로 서버가 내려가면 다음 시작 때 lastCutId 다음부터 이어서 실행합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+public class CutReanalysisCheckpoint {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String targetVersion;
+
+    // 이 id까지는 처리(또는 건너뜀)가 끝남
+    private long lastCutId;
+
+    // RUNNING | PAUSED | DONE
+    @Column(nullable = false, length = 16)
+    private String status;
+
+    private long processed;   // 읽은 행
+    private long updated;     // 결과를 다시 쓴 행
+    private long failed;      // AI 오류로 이번 실행에서 건너뛴 행
+    private long skipped;     // 저장된 원본 이미지가 없어 건너뛴 행
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+}
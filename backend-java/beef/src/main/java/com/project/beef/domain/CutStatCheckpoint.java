@@ -0,0 +1,25 @@
+package com.project.beef.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 통계 롤업 진행 위치 (행 1개, id = 1).
+ * createdAt < watermark 인 Cut은 모두 CutStatRollup에 반영되어 있고, 그 이후는 시작 시 Cut 테이블에서 직접 집계합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+public class CutStatCheckpoint {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime watermark;
+}
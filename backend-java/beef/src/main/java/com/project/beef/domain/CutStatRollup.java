@@ -0,0 +1,46 @@
+package com.project.beef.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분석 통계 롤업 (회원 × 일자 × 부위 × 등급 별 누적값).
+ * CutStatisticsStore가 주기적으로 최근 며칠(열린 날)의 행을 지우고 Cut 테이블에서 INSERT ... SELECT로 다시 집계하며,
+ * 시작 시와 체크포인트 후 이 테이블에서 메모리 카운터를 다시 만듭니다. (부위/등급이 없으면 'UNKNOWN')
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_cut_stat_rollup",
+        columnNames = { "memberId", "statDate", "detectedPart", "detectedGrade" }))
+@Getter
+@NoArgsConstructor
+public class CutStatRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String memberId;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private String detectedPart;
+
+    @Column(nullable = false)
+    private String detectedGrade;
+
+    private long cutCount;
+    private long marblingSum;     // marblingRatio 합계 (평균 = marblingSum / marblingCount)
+    private long marblingCount;   // marblingRatio가 있는 건수
+}
@@ -21,4 +21,9 @@ public class Member {
     private String password;
 
     private String name;
+
+    // 로그인 시 BCrypt cost가 바뀐 것을 발견하면 새 해시로 교체 (변경 감지로 update)
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
 }
\ No newline at end of file
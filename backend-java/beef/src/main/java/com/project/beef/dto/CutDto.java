@@ -1,5 +1,7 @@
 package com.project.beef.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,4 +19,10 @@ public class CutDto {
     private String detectedGrade;  // 등급 측정 결과
     private String insight;        // 분석 요약/코멘트
     private String memberId;
+
+    @JsonIgnore
+    private String imageHash;      // 업로드 이미지 SHA-256 (캐시/저장용, 응답에는 포함하지 않음)
+
+    @JsonIgnore
+    private String modelVersion;   // 결과를 낸 AI 모델 버전 (저장용)
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.project.beef.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분석 이력 1건 (GET /api/cut/history). 목록에 필요한 컬럼만 QueryDSL 생성자 projection으로 읽습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CutHistoryDto {
+    private Long id;
+    private String detectedPart;
+    private String detectedGrade;
+    private Integer marblingRatio;
+    private String insight;
+    private String fileName;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,17 @@
+package com.project.beef.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 분석 이력 한 페이지. 다음 페이지는 nextCursor를 그대로 ?cursor= 로 넘겨 조회합니다. (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class CutHistoryPageDto {
+    private List<CutHistoryDto> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
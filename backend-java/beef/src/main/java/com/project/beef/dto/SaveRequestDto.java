@@ -17,4 +17,6 @@ public class SaveRequestDto {
     private String insight;
     private String fileName;
     private String memberId;
+    private String imageHash;
+    private String modelVersion;
 }
\ No newline at end of file
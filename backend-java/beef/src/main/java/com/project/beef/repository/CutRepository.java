@@ -1,11 +1,16 @@
 package com.project.beef.repository;
 
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.project.beef.domain.Cut;
 
 // <엔티티 클래스, 엔티티의 ID 타입>
-public interface CutRepository extends JpaRepository<Cut, Long> {
+public interface CutRepository extends JpaRepository<Cut, Long>, CutRepositoryCustom {
     
     // 필요하다면 여기에 사용자 정의 쿼리 메서드를 추가합니다.
-    
+
+    // 같은 이미지(SHA-256)의 가장 최근 분석 결과
+    Optional<Cut> findFirstByImageHashOrderByIdDesc(String imageHash);
+
 }
\ No newline at end of file
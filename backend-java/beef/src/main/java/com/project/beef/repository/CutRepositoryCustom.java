@@ -0,0 +1,16 @@
+package com.project.beef.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.project.beef.dto.CutHistoryDto;
+
+// QueryDSL로 구현하는 Cut 조회 (구현: CutRepositoryImpl)
+public interface CutRepositoryCustom {
+
+    /**
+     * 회원의 분석 이력을 최신순(createdAt DESC, id DESC)으로 limit 건 조회합니다.
+     * afterCreatedAt/afterId가 있으면 그 행 "다음"부터 읽습니다 (keyset 페이지네이션, 첫 페이지는 둘 다 null).
+     */
+    List<CutHistoryDto> findHistory(String memberId, LocalDateTime afterCreatedAt, Long afterId, int limit);
+}
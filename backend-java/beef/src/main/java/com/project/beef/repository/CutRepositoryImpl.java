@@ -0,0 +1,51 @@
+package com.project.beef.repository;
+
+import static com.project.beef.domain.QCut.cut;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.project.beef.dto.CutHistoryDto;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CutRepositoryImpl implements CutRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * OFFSET을 쓰지 않고 이전 페이지 마지막 행의 (createdAt, id) 뒤부터 읽으므로,
+     * idx_cut_member_created(memberId, createdAt, id) 인덱스에서 바로 시작 위치를 찾아 limit 건만 읽습니다.
+     * (몇 번째 페이지든 조회 비용이 같음)
+     *
+     * 조건은 (createdAt, id) < (?, ?) 행 비교 대신 풀어 쓴 OR 형태로 작성합니다.
+     * MariaDB는 행 비교식에는 인덱스 range 스캔을 잘 쓰지 못하지만 이 형태는 두 개의 range로 처리합니다.
+     */
+    @Override
+    public List<CutHistoryDto> findHistory(String memberId, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        BooleanBuilder where = new BooleanBuilder(cut.memberId.eq(memberId));
+        if (afterCreatedAt != null && afterId != null) {
+            where.and(cut.createdAt.lt(afterCreatedAt)
+                    .or(cut.createdAt.eq(afterCreatedAt).and(cut.id.lt(afterId))));
+        }
+
+        return queryFactory
+                .select(Projections.constructor(CutHistoryDto.class,
+                        cut.id,
+                        cut.detectedPart,
+                        cut.detectedGrade,
+                        cut.marblingRatio,
+                        cut.insight,
+                        cut.fileName,
+                        cut.createdAt))
+                .from(cut)
+                .where(where)
+                .orderBy(cut.createdAt.desc(), cut.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
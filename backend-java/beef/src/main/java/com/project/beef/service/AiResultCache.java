@@ -0,0 +1,77 @@
+package com.project.beef.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * AI 서버 응답 캐시.
+ * 키는 "엔드포인트 + 이미지 SHA-256" 이며, 같은 사진을 다시 올리면 AI 서버를 호출하지 않고 바로 결과를 돌려줍니다.
+ * 크기(max-size)와 TTL(ttl-minutes) 기준으로 자동 제거됩니다.
+ * 적중/미스/제거 수는 cache="ai-result" 태그의 cache.gets / cache.evictions 지표로도 노출됩니다.
+ */
+@Component
+public class AiResultCache {
+
+    private final boolean enabled;
+    private final Cache<String, Map<String, Object>> cache;
+
+    public AiResultCache(
+            MeterRegistry meterRegistry,
+            @Value("${ai.cache.enabled:true}") boolean enabled,
+            @Value("${ai.cache.max-size:1000}") long maxSize,
+            @Value("${ai.cache.ttl-minutes:30}") long ttlMinutes) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai-result");
+    }
+
+    public Map<String, Object> get(String endpoint, String imageHash) {
+        if (!enabled) {
+            return null;
+        }
+        return cache.getIfPresent(key(endpoint, imageHash));
+    }
+
+    public void put(String endpoint, String imageHash, Map<String, Object> aiResponse) {
+        if (!enabled) {
+            return;
+        }
+        // JSON 응답에 null 값이 있을 수 있으므로 Map.copyOf 대신 읽기 전용 복사본을 저장
+        cache.put(key(endpoint, imageHash), Collections.unmodifiableMap(new LinkedHashMap<>(aiResponse)));
+    }
+
+    /**
+     * 캐시 적중/미스 통계 (GET /api/cut/cache/stats 에서 사용)
+     */
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    private static String key(String endpoint, String imageHash) {
+        return endpoint + ":" + imageHash;
+    }
+}
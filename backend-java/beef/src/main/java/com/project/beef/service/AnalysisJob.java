@@ -0,0 +1,107 @@
+package com.project.beef.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.project.beef.dto.CutDto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * 비동기 분석 작업 1건의 상태.
+ * GET /api/cut/jobs/{id} 응답으로 그대로 직렬화됩니다.
+ */
+@Getter
+public class AnalysisJob {
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    private final String jobId;
+    // 소유자 확인용 (응답 JSON / SSE 데이터에는 포함하지 않음)
+    @JsonIgnore
+    private final String memberId;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile CutDto result;
+    private volatile String error;
+    private volatile Long cutId;
+    private volatile LocalDateTime finishedAt;
+
+    // 완료 알림을 기다리는 SSE 구독자 (응답 JSON에는 포함하지 않음)
+    @Getter(AccessLevel.NONE)
+    private final List<SseEmitter> emitters = new ArrayList<>();
+
+    public AnalysisJob(String jobId, String memberId) {
+        this.jobId = jobId;
+        this.memberId = memberId;
+    }
+
+    void markRunning() {
+        this.status = Status.RUNNING;
+    }
+
+    void markDone(CutDto result, Long cutId) {
+        this.result = result;
+        this.cutId = cutId;
+        finish(Status.DONE);
+    }
+
+    void markFailed(String error) {
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    /**
+     * SSE 구독 등록. 이미 끝난 작업이면 바로 결과를 보내고 닫습니다.
+     * 전송(네트워크 쓰기)은 락 밖에서 합니다 (가상 스레드가 락을 쥔 채 I/O로 막혀 캐리어 스레드에 고정되지 않도록).
+     */
+    void subscribe(SseEmitter emitter) {
+        synchronized (this) {
+            if (!isFinished()) {
+                emitters.add(emitter);
+                emitter.onCompletion(() -> removeEmitter(emitter));
+                emitter.onTimeout(() -> removeEmitter(emitter));
+                return;
+            }
+        }
+        send(emitter);
+    }
+
+    private synchronized void removeEmitter(SseEmitter emitter) {
+        emitters.remove(emitter);
+    }
+
+    private void finish(Status finalStatus) {
+        List<SseEmitter> subscribers;
+        synchronized (this) {
+            this.finishedAt = LocalDateTime.now();
+            this.status = finalStatus;
+            subscribers = new ArrayList<>(emitters);
+            emitters.clear();
+        }
+        for (SseEmitter emitter : subscribers) {
+            send(emitter);
+        }
+    }
+
+    private void send(SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().name(status.name().toLowerCase()).data(this));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 연결을 끊은 경우
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.project.beef.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.beef.domain.Cut;
+import com.project.beef.dto.CutDto;
+import com.project.beef.dto.SaveRequestDto;
+import com.project.beef.util.SpooledImage;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 비동기 분석 작업 관리.
+ *
+ * 요청 스레드는 업로드만 보관하고 바로 jobId를 반환하며, 실제 분석 + 저장(saveAnalysisResult)은
+ * 크기가 제한된 작업 큐(analysisJobExecutor)에서 처리합니다. AI 서버가 느려도 톰캣 워커 스레드가 묶이지 않습니다.
+ * 끝난 작업은 retention 시간 동안만 메모리에 보관합니다.
+ */
+@Service
+public class AnalysisJobService {
+
+    private final CutService cutService;
+    private final ThreadPoolTaskExecutor jobExecutor;
+    private final Cache<String, AnalysisJob> jobs;
+    private final long sseTimeoutMs;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public AnalysisJobService(
+            CutService cutService,
+            @Qualifier("analysisJobExecutor") ThreadPoolTaskExecutor jobExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${ai.job.retention-minutes:30}") long retentionMinutes,
+            @Value("${ai.job.max-tracked:10000}") long maxTracked,
+            @Value("${ai.job.sse-timeout-ms:60000}") long sseTimeoutMs) {
+        this.cutService = cutService;
+        this.jobExecutor = jobExecutor;
+        this.sseTimeoutMs = sseTimeoutMs;
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfterWrite(Duration.ofMinutes(retentionMinutes))
+                .build();
+
+        Gauge.builder("beef.job.queue.depth", jobExecutor, executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("대기 중인 비동기 분석 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("beef.job.in.flight", jobExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("처리 중인 비동기 분석 작업 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("beef.job.submitted", submitted, AtomicLong::get)
+                .description("접수한 비동기 분석 작업 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("beef.job.completed", rejected, AtomicLong::get)
+                .description("결과별 비동기 분석 작업 수")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+        FunctionCounter.builder("beef.job.completed", succeeded, AtomicLong::get)
+                .description("결과별 비동기 분석 작업 수")
+                .tag("outcome", "succeeded")
+                .register(meterRegistry);
+        FunctionCounter.builder("beef.job.completed", failed, AtomicLong::get)
+                .description("결과별 비동기 분석 작업 수")
+                .tag("outcome", "failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 업로드를 보관하고 작업 큐에 넣습니다. 큐가 가득 차면 TaskRejectedException을 던집니다.
+     */
+    public AnalysisJob submit(MultipartFile file, String memberId) throws Exception {
+        // 요청이 끝나면 MultipartFile은 사라지므로 작업이 끝날 때까지 직접 보관
+        SpooledImage image = cutService.prepareForSave(file);
+        AnalysisJob job = new AnalysisJob(UUID.randomUUID().toString(), memberId);
+        jobs.put(job.getJobId(), job);
+        try {
+            jobExecutor.execute(() -> run(job, image));
+        } catch (TaskRejectedException e) {
+            jobs.invalidate(job.getJobId());
+            image.close();
+            rejected.incrementAndGet();
+            throw e;
+        }
+        submitted.incrementAndGet();
+        return job;
+    }
+
+    public AnalysisJob find(String jobId) {
+        return jobs.getIfPresent(jobId);
+    }
+
+    public SseEmitter subscribe(AnalysisJob job) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    private void run(AnalysisJob job, SpooledImage image) {
+        job.markRunning();
+        try (image) {
+            CutDto resultDto = cutService.analyzeAndCombine(image);
+
+            SaveRequestDto saveRequest = SaveRequestDto.builder()
+                .detectedPart(resultDto.getDetectedPart())
+                .detectedGrade(resultDto.getDetectedGrade())
+                .insight(resultDto.getInsight())
+                .fileName(image.getFilename())
+                .memberId(job.getMemberId())
+                .imageHash(resultDto.getImageHash())
+                .modelVersion(resultDto.getModelVersion())
+                .build();
+            Cut saved = cutService.saveAnalysisResult(saveRequest);
+
+            job.markDone(resultDto, saved.getId());
+            succeeded.incrementAndGet();
+        } catch (Exception e) {
+            job.markFailed("분석 서버 통신 오류 또는 처리 중 오류가 발생했습니다: " + e.getMessage());
+            failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * 큐 대기 수 / 처리 중 수 등 작업 큐 상태 (GET /api/cut/jobs/stats)
+     */
+    public Map<String, Object> stats() {
+        ThreadPoolExecutor pool = jobExecutor.getThreadPoolExecutor();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("queueDepth", pool.getQueue().size());
+        result.put("queueRemainingCapacity", pool.getQueue().remainingCapacity());
+        result.put("inFlight", pool.getActiveCount());
+        result.put("workers", pool.getPoolSize());
+        result.put("submitted", submitted.get());
+        result.put("rejected", rejected.get());
+        result.put("succeeded", succeeded.get());
+        result.put("failed", failed.get());
+        result.put("tracked", jobs.estimatedSize());
+        return result;
+    }
+}
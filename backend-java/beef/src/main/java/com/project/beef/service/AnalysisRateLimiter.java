@@ -0,0 +1,173 @@
+package com.project.beef.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 분석 API 요청 제한 (AnalysisRateLimitFilter에서 사용).
+ *
+ * 1. 회원(JWT) / IP별 토큰 버킷: 분당 per-minute개씩 채워지고 최대 burst개까지 쌓입니다.
+ *    요청은 예상 AI 호출 수만큼 토큰을 씁니다 (부위+등급 분석 2, 등급만 1, 일괄 분석 batch-cost).
+ *    버킷은 "토큰이 다시 가득 차는 시각" long 하나로 표현하며(GCRA), AtomicLong CAS로만 갱신하므로 락이 없습니다.
+ * 2. 전체 동시 처리 한도: AI 서버 처리량에 맞춘 max-concurrent를 넘으면 AI bulkhead에서 기다리지 않고 바로 거절합니다.
+ *
+ * 거절은 모두 다시 시도할 수 있을 때까지 남은 초(Retry-After)로 알려 줍니다.
+ * 오래 요청이 없는 키(버킷이 가득 찬 상태)는 캐시에서 자동으로 제거되며, 키 수는 max-tracked-keys로 제한합니다.
+ */
+@Component
+public class AnalysisRateLimiter {
+
+    public static final long ALLOWED = 0;
+
+    private final boolean enabled;
+    private final Bucket memberBucket;
+    private final Bucket ipBucket;
+    private final int maxConcurrent;
+    private final Cache<String, AtomicLong> buckets;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Counter rejectedByMember;
+    private final Counter rejectedByIp;
+    private final Counter rejectedByConcurrency;
+
+    public AnalysisRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.member.per-minute:30}") double memberPerMinute,
+            @Value("${rate-limit.member.burst:10}") int memberBurst,
+            @Value("${rate-limit.ip.per-minute:10}") double ipPerMinute,
+            @Value("${rate-limit.ip.burst:4}") int ipBurst,
+            @Value("${rate-limit.global.max-concurrent:16}") int maxConcurrent,
+            @Value("${rate-limit.max-tracked-keys:100000}") long maxTrackedKeys) {
+        this.enabled = enabled;
+        this.memberBucket = new Bucket(memberPerMinute, memberBurst);
+        this.ipBucket = new Bucket(ipPerMinute, ipBurst);
+        this.maxConcurrent = maxConcurrent;
+        // 버킷이 가득 차는 데 걸리는 시간이 지나면 상태가 "처음 보는 키"와 같으므로 제거해도 됨
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(Duration.ofNanos(Math.max(memberBucket.capacityNanos, ipBucket.capacityNanos)))
+                .build();
+
+        this.rejectedByMember = rejectedCounter(meterRegistry, "member");
+        this.rejectedByIp = rejectedCounter(meterRegistry, "ip");
+        this.rejectedByConcurrency = rejectedCounter(meterRegistry, "concurrency");
+        Gauge.builder("beef.ratelimit.in.flight", inFlight, AtomicInteger::get)
+                .description("전체 동시 처리 한도에 잡혀 있는 분석 요청 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("beef.ratelimit.rejected")
+                .description("요청 제한으로 429 응답한 분석 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 회원(memberId, 없으면 IP) 버킷에서 cost개를 씁니다. 허용하면 ALLOWED(0), 아니면 Retry-After 초.
+     */
+    public long tryConsume(String memberId, String ip, int cost) {
+        boolean member = memberId != null;
+        Bucket bucket = member ? memberBucket : ipBucket;
+        AtomicLong state = buckets.get(member ? "m:" + memberId : "ip:" + ip, key -> new AtomicLong());
+        long waitNanos = bucket.tryConsume(state, cost, System.nanoTime());
+        if (waitNanos == 0) {
+            return ALLOWED;
+        }
+        (member ? rejectedByMember : rejectedByIp).increment();
+        return toSeconds(waitNanos);
+    }
+
+    /**
+     * 전체 동시 처리 자리를 잡습니다. 성공하면 처리 후 반드시 release()를 호출해야 합니다.
+     */
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= maxConcurrent) {
+                rejectedByConcurrency.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("inFlight", inFlight.get());
+        result.put("maxConcurrent", maxConcurrent);
+        result.put("trackedKeys", buckets.estimatedSize());
+        result.put("rejectedByMember", (long) rejectedByMember.count());
+        result.put("rejectedByIp", (long) rejectedByIp.count());
+        result.put("rejectedByConcurrency", (long) rejectedByConcurrency.count());
+        return result;
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * 토큰 버킷 설정. 상태(AtomicLong)는 "버킷이 다시 가득 차는 시각(nanoTime)"이며,
+     * 토큰 1개 = intervalNanos 이므로 남은 토큰 수 = (capacityNanos - (가득 차는 시각 - now)) / intervalNanos 입니다.
+     * 처음 보는 키(0)와 이미 지난 시각은 가득 찬 버킷으로 취급합니다.
+     */
+    static final class Bucket {
+
+        final long intervalNanos;
+        final int burst;
+        final long capacityNanos;
+
+        Bucket(double perMinute, int burst) {
+            this.intervalNanos = (long) (TimeUnit.MINUTES.toNanos(1) / perMinute);
+            this.burst = Math.max(1, burst);
+            this.capacityNanos = intervalNanos * this.burst;
+        }
+
+        /**
+         * 토큰을 쓸 수 있으면 0, 아니면 cost개가 모일 때까지 남은 나노초.
+         * burst보다 비싼 요청(일괄 분석)은 버킷이 가득 찼을 때 전부를 씁니다. (영원히 거절되지 않도록)
+         */
+        long tryConsume(AtomicLong state, int cost, long now) {
+            long costNanos = intervalNanos * Math.min(cost, burst);
+            while (true) {
+                long fullAt = state.get();
+                long base = fullAt == 0 || fullAt - now < 0 ? now : fullAt;
+                long next = base + costNanos;
+                long overflow = next - now - capacityNanos;
+                if (overflow > 0) {
+                    return overflow;
+                }
+                if (state.compareAndSet(fullAt, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.project.beef.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cut 전체 내보내기 (GET /api/cut/export, 오프라인 모델 평가용).
+ *
+ * JPA로 읽으면 모든 행이 영속성 컨텍스트에 쌓이므로, 읽기 전용 트랜잭션에서 JDBC forward-only 커서로
+ * fetch-size 행씩 받아 한 행씩 바로 출력 스트림에 씁니다. 행을 모아 두지 않으므로 테이블 크기와 관계없이 메모리가 일정합니다.
+ * (MariaDB 드라이버는 fetch size가 있으면 결과를 나눠 받음)
+ * 읽기 전용 트랜잭션 하나로 읽으므로 내보내는 도중 추가/재분석된 행이 섞이지 않은 한 시점의 스냅숏입니다.
+ *
+ * 내보내는 동안 DB 커넥션 하나를 계속 쓰므로 동시에 실행할 수 있는 수를 max-concurrent로 제한합니다.
+ * 회원 식별자(memberId, 이메일)는 평가에 필요 없으므로 내보내지 않습니다.
+ */
+@Service
+@Slf4j
+public class CutExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, created_at, detected_part, detected_grade, marbling_ratio, insight, file_name, image_hash, model_version "
+            + "FROM cut";
+
+    private static final String[] CSV_HEADER = {
+            "id", "createdAt", "detectedPart", "detectedGrade", "marblingRatio", "insight", "fileName", "imageHash", "modelVersion"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonFactory jsonFactory;
+    private final int fetchSize;
+    private final int maxConcurrent;
+    private final Semaphore slots;
+
+    private final Counter exportedRows;
+    private final AtomicLong exports = new AtomicLong();
+
+    public CutExportService(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${cut.export.fetch-size:500}") int fetchSize,
+            @Value("${cut.export.max-concurrent:2}") int maxConcurrent) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonFactory = objectMapper.getFactory();
+        this.fetchSize = fetchSize;
+        this.maxConcurrent = maxConcurrent;
+        this.slots = new Semaphore(maxConcurrent);
+        this.exportedRows = Counter.builder("beef.cut.export.rows")
+                .description("내보내기로 출력한 Cut 행 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 내보내기 자리를 잡습니다. 성공하면 export() 후 반드시 release()를 호출해야 합니다.
+     */
+    public boolean tryAcquire() {
+        return slots.tryAcquire();
+    }
+
+    public void release() {
+        slots.release();
+    }
+
+    /**
+     * 조건에 맞는 Cut을 id 순으로 out에 씁니다. from/to는 생성일 기준(둘 다 포함), null이면 조건 없음.
+     * memberId는 특정 회원(테스트 계정 등)의 결과만 고를 때 쓰며, 출력에는 여전히 회원 식별자가 들어가지 않습니다.
+     *
+     * @return 출력한 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(LocalDate from, LocalDate to, String memberId, String part, String grade, Format format, Writer out)
+            throws IOException {
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS);
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        if (from != null) {
+            conditions.add("created_at >= ?");
+            params.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            conditions.add("created_at < ?");
+            params.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+        if (memberId != null) {
+            conditions.add("member_id = ?");
+            params.add(memberId);
+        }
+        if (part != null) {
+            conditions.add("detected_part = ?");
+            params.add(part);
+        }
+        if (grade != null) {
+            conditions.add("detected_grade = ?");
+            params.add(grade);
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY id");
+
+        long started = System.nanoTime();
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(jsonFactory.createGenerator(out));
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                return statement;
+            }, rs -> {
+                try {
+                    rowWriter.write(rs);
+                } catch (IOException e) {
+                    // 클라이언트가 연결을 끊은 경우 등 → 커서를 닫고 중단
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            rowWriter.finish();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            exportedRows.increment(rows[0]);
+            exports.incrementAndGet();
+        }
+        log.info("Cut 내보내기 완료: {}행, {} ({}ms)", rows[0], format,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return rows[0];
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("exports", exports.get());
+        result.put("rows", (long) exportedRows.count());
+        result.put("running", maxConcurrent - slots.availablePermits());
+        result.put("maxConcurrent", maxConcurrent);
+        result.put("fetchSize", fetchSize);
+        return result;
+    }
+
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나. Jackson 스트리밍 생성기로 바로 쓰므로 행마다 Map/DTO를 만들지 않습니다.
+     */
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private boolean written;
+
+        NdjsonRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+            // 최상위 값 사이 구분자(기본 공백)를 줄바꿈으로
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", rs.getLong("id"));
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            writeString("createdAt", createdAt == null ? null : createdAt.toLocalDateTime().toString());
+            writeString("detectedPart", rs.getString("detected_part"));
+            writeString("detectedGrade", rs.getString("detected_grade"));
+            int marblingRatio = rs.getInt("marbling_ratio");
+            if (rs.wasNull()) {
+                generator.writeNullField("marblingRatio");
+            } else {
+                generator.writeNumberField("marblingRatio", marblingRatio);
+            }
+            writeString("insight", rs.getString("insight"));
+            writeString("fileName", rs.getString("file_name"));
+            writeString("imageHash", rs.getString("image_hash"));
+            writeString("modelVersion", rs.getString("model_version"));
+            generator.writeEndObject();
+            written = true;
+        }
+
+        private void writeString(String field, String value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeStringField(field, value);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (written) {
+                generator.writeRaw('\n'); // 마지막 줄도 줄바꿈으로 끝냄
+            }
+            generator.flush();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV (첫 줄 헤더, 쉼표/따옴표/줄바꿈이 있는 값은 따옴표로 감싸고 따옴표는 두 번). null은 빈 칸.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer out;
+
+        CsvRowWriter(Writer out) throws IOException {
+            this.out = out;
+            writeLine(CSV_HEADER);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            String marblingRatio = rs.getString("marbling_ratio");
+            writeLine(new String[] {
+                    Long.toString(rs.getLong("id")),
+                    createdAt == null ? null : createdAt.toLocalDateTime().toString(),
+                    rs.getString("detected_part"),
+                    rs.getString("detected_grade"),
+                    marblingRatio,
+                    rs.getString("insight"),
+                    rs.getString("file_name"),
+                    rs.getString("image_hash"),
+                    rs.getString("model_version")
+            });
+        }
+
+        private void writeLine(String[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeValue(values[i]);
+            }
+            out.write("\r\n");
+        }
+
+        private void writeValue(String value) throws IOException {
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            out.flush();
+        }
+    }
+}
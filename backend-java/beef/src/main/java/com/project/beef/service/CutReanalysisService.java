@@ -0,0 +1,617 @@
+package com.project.beef.service;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.beef.client.AiCircuitBreaker;
+import com.project.beef.client.AiServerClient;
+import com.project.beef.client.AiServerUnavailableException;
+import com.project.beef.client.AiTask;
+import com.project.beef.util.SpooledImage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 모델(가중치)을 바꾼 뒤 과거 Cut을 새 모델로 다시 분석하는 백그라운드 작업.
+ *
+ * - Cut을 id 순서로 chunk-size 건씩 읽고 (id > 마지막 위치, PK 구간 스캔), 이미 목표 버전인 행은 건너뜁니다.
+ * - 이미지 저장소의 원본을 AI 서버 일괄 엔드포인트로 batch-size 장씩 보냅니다.
+ *   동시 요청은 concurrency 개, 전송 속도는 초당 rate-per-second 장으로 제한합니다.
+ * - 실시간 요청이 몰려 bulkhead 사용률이 yield-threshold 이상이거나 서킷 브레이커가 닫혀 있지 않으면 보내지 않고 기다립니다.
+ * - chunk 결과는 한 트랜잭션에서 batch UPDATE + 통계 롤업 이동 + 체크포인트 갱신으로 씁니다.
+ *   서버가 내려가도 다음 시작 시 마지막 체크포인트 다음부터 이어서 실행합니다.
+ *
+ * AI 결과 캐시는 이전 모델의 결과이므로 사용하지 않습니다.
+ */
+@Component
+@Slf4j
+public class CutReanalysisService implements SmartLifecycle {
+
+    public enum Status { IDLE, RUNNING, PAUSED, DONE }
+
+    private static final String SELECT_CHUNK =
+            "SELECT id, member_id, created_at, detected_part, detected_grade, marbling_ratio, image_hash, file_name "
+            + "FROM cut WHERE id > ? AND (model_version IS NULL OR model_version <> ?) ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_CUT =
+            "UPDATE cut SET detected_part = ?, detected_grade = ?, insight = ?, model_version = ? WHERE id = ?";
+
+    private static final String SELECT_CHECKPOINT =
+            "SELECT target_version, last_cut_id, status, processed, updated, failed, skipped, started_at "
+            + "FROM cut_reanalysis_checkpoint WHERE id = 1";
+
+    private static final String UPSERT_CHECKPOINT =
+            "INSERT INTO cut_reanalysis_checkpoint "
+            + "(id, target_version, last_cut_id, status, processed, updated, failed, skipped, last_error, started_at, updated_at) "
+            + "VALUES (1, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE target_version = VALUES(target_version), last_cut_id = VALUES(last_cut_id), "
+            + "status = VALUES(status), processed = VALUES(processed), updated = VALUES(updated), failed = VALUES(failed), "
+            + "skipped = VALUES(skipped), last_error = VALUES(last_error), started_at = VALUES(started_at), "
+            + "updated_at = VALUES(updated_at)";
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(
+            rs.getLong("id"),
+            rs.getString("member_id"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getString("detected_part"),
+            rs.getString("detected_grade"),
+            rs.getObject("marbling_ratio", Integer.class),
+            rs.getString("image_hash"),
+            rs.getString("file_name"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AiServerClient aiServerClient;
+    private final ImageStore imageStore;
+    private final ImagePreprocessor imagePreprocessor;
+    private final CutStatisticsStore cutStatisticsStore;
+
+    private final int chunkSize;
+    private final int batchSize;
+    private final int concurrency;
+    private final double ratePerSecond;
+    private final double yieldThreshold;
+    private final long backoffMs;
+
+    // 현재 실행 상태 (체크포인트 행과 같은 값, 조회용)
+    private volatile Status status = Status.IDLE;
+    private volatile String targetVersion;
+    private volatile long lastCutId;
+    private volatile String lastError;
+    private volatile LocalDateTime startedAt;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong yields = new AtomicLong();
+
+    // 시작/중지 제어 (시작 시 체크포인트 DB I/O가 있으므로 synchronized 대신 ReentrantLock: 가상 스레드 고정 방지)
+    private final ReentrantLock controlLock = new ReentrantLock();
+    private volatile boolean lifecycleRunning;
+    private volatile boolean stopRequested;
+    private volatile boolean pauseRequested;
+    private Thread worker;
+    private long nextSendNanos;
+
+    public CutReanalysisService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            AiServerClient aiServerClient,
+            ImageStore imageStore,
+            ImagePreprocessor imagePreprocessor,
+            CutStatisticsStore cutStatisticsStore,
+            @Value("${cut.reanalysis.chunk-size:200}") int chunkSize,
+            @Value("${cut.reanalysis.batch-size:8}") int batchSize,
+            @Value("${cut.reanalysis.concurrency:2}") int concurrency,
+            @Value("${cut.reanalysis.rate-per-second:4}") double ratePerSecond,
+            @Value("${cut.reanalysis.yield-threshold:0.5}") double yieldThreshold,
+            @Value("${cut.reanalysis.backoff-ms:1000}") long backoffMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.aiServerClient = aiServerClient;
+        this.imageStore = imageStore;
+        this.imagePreprocessor = imagePreprocessor;
+        this.cutStatisticsStore = cutStatisticsStore;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.ratePerSecond = ratePerSecond;
+        this.yieldThreshold = yieldThreshold;
+        this.backoffMs = backoffMs;
+    }
+
+    // ----------------------------------------------------
+    // 시작 / 일시 정지
+    // ----------------------------------------------------
+
+    /**
+     * targetVersion으로 재분석을 시작합니다. 같은 목표의 끝나지 않은 체크포인트가 있으면 이어서 하고,
+     * restart가 true이거나 목표가 바뀌었으면 처음부터 합니다. (이미 목표 버전인 행은 어느 쪽이든 건너뜀)
+     */
+    public void start(String targetVersion, boolean restart) {
+        controlLock.lock();
+        try {
+            if (worker != null && worker.isAlive()) {
+                throw new IllegalStateException("재분석이 이미 실행 중입니다 (목표 버전: " + this.targetVersion + ")");
+            }
+            Optional<Checkpoint> saved = loadCheckpoint();
+            boolean resume = !restart && saved.isPresent()
+                    && saved.get().targetVersion().equals(targetVersion)
+                    && !Status.DONE.name().equals(saved.get().status());
+            if (resume) {
+                restore(saved.get());
+            } else {
+                this.targetVersion = targetVersion;
+                this.lastCutId = 0;
+                this.startedAt = LocalDateTime.now();
+                processed.set(0);
+                updated.set(0);
+                failed.set(0);
+                skipped.set(0);
+            }
+            lastError = null;
+            launch();
+        } finally {
+            controlLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 chunk를 마친 뒤 멈춥니다. 다시 start하면 이어서 진행합니다.
+     */
+    public void pause() {
+        controlLock.lock();
+        try {
+            if (worker != null && worker.isAlive()) {
+                pauseRequested = true;
+                stopRequested = true;
+            }
+        } finally {
+            controlLock.unlock();
+        }
+    }
+
+    private void restore(Checkpoint checkpoint) {
+        targetVersion = checkpoint.targetVersion();
+        lastCutId = checkpoint.lastCutId();
+        startedAt = checkpoint.startedAt();
+        processed.set(checkpoint.processed());
+        updated.set(checkpoint.updated());
+        failed.set(checkpoint.failed());
+        skipped.set(checkpoint.skipped());
+    }
+
+    private void launch() {
+        stopRequested = false;
+        pauseRequested = false;
+        status = Status.RUNNING;
+        saveCheckpoint();
+        worker = new Thread(this::runLoop, "cut-reanalysis");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("재분석 시작: 목표 버전={}, id > {}", targetVersion, lastCutId);
+    }
+
+    // ----------------------------------------------------
+    // 실행 루프
+    // ----------------------------------------------------
+
+    private void runLoop() {
+        ExecutorService aiCalls = Executors.newFixedThreadPool(concurrency, new ThreadFactory() {
+            private final AtomicInteger sequence = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "cut-reanalysis-ai-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            while (!stopRequested) {
+                List<Row> rows = jdbcTemplate.query(SELECT_CHUNK, ROW_MAPPER, lastCutId, targetVersion, chunkSize);
+                if (rows.isEmpty()) {
+                    status = Status.DONE;
+                    log.info("재분석 완료: 목표 버전={}, 갱신 {}건, 실패 {}건, 이미지 없음 {}건",
+                            targetVersion, updated.get(), failed.get(), skipped.get());
+                    break;
+                }
+                ChunkResult result = processChunk(rows, aiCalls);
+                if (result == null) {
+                    break; // 중지 요청
+                }
+                write(result);
+                if (result.retryLater()) {
+                    // AI 서버가 받지 못한 행이 있으면 잠시 쉬었다가 그 행부터 다시
+                    Thread.sleep(backoffMs);
+                }
+            }
+            if (status == Status.RUNNING && pauseRequested) {
+                status = Status.PAUSED;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 목표 버전 불일치, DB 오류 등: 멈추고 원인을 남김 (원인을 해결한 뒤 start로 이어서 실행)
+            status = Status.PAUSED;
+            lastError = e.getMessage();
+            log.error("재분석 중단 (id > {})", lastCutId, e);
+        } finally {
+            aiCalls.shutdownNow();
+            // 종료(stop) 중이면 RUNNING으로 남겨 다음 시작 때 이어서 실행
+            saveCheckpoint();
+        }
+    }
+
+    /**
+     * chunk 하나를 분석합니다. 중지 요청을 받으면 null을 반환합니다 (이미 보낸 요청은 결과를 기다려 버림).
+     */
+    private ChunkResult processChunk(List<Row> rows, ExecutorService aiCalls) throws Exception {
+        List<Row> analyzable = new ArrayList<>(rows.size());
+        List<Row> noImage = new ArrayList<>();
+        for (Row row : rows) {
+            if (imageStore.find(row.imageHash()).isPresent()) {
+                analyzable.add(row);
+            } else {
+                noImage.add(row);
+            }
+        }
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<Future<List<Outcome>>> futures = new ArrayList<>();
+        for (int from = 0; from < analyzable.size(); from += batchSize) {
+            List<Row> batch = analyzable.subList(from, Math.min(from + batchSize, analyzable.size()));
+            if (!awaitLiveCapacity()) {
+                cancelAll(futures);
+                return null;
+            }
+            pace(batch.size());
+            inFlight.acquire();
+            try {
+                futures.add(aiCalls.submit(() -> {
+                    try {
+                        return analyzeBatch(batch);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            } catch (RuntimeException e) {
+                inFlight.release();
+                throw e;
+            }
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(analyzable.size());
+        for (Future<List<Outcome>> future : futures) {
+            try {
+                outcomes.addAll(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof Exception ? (Exception) cause : e;
+            }
+        }
+
+        // AI 서버가 받지 못한(retry) 행이 있으면 그 바로 앞까지만 진행한 것으로 기록
+        long safeLastId = rows.get(rows.size() - 1).id();
+        boolean retryLater = false;
+        for (Outcome outcome : outcomes) {
+            if (outcome.retry()) {
+                safeLastId = Math.min(safeLastId, outcome.row().id() - 1);
+                retryLater = true;
+            }
+        }
+        long cursor = safeLastId;
+        int examined = (int) rows.stream().filter(row -> row.id() <= cursor).count();
+        int skippedRows = (int) noImage.stream().filter(row -> row.id() <= cursor).count();
+        return new ChunkResult(outcomes, safeLastId, examined, skippedRows, retryLater);
+    }
+
+    /**
+     * 같은 이미지 묶음을 부위 → 등급 순서로 일괄 분석합니다 (한 작업이 AI 요청을 동시에 1개만 보냄).
+     */
+    private List<Outcome> analyzeBatch(List<Row> batch) throws Exception {
+        List<Outcome> outcomes = new ArrayList<>(batch.size());
+        List<Row> sent = new ArrayList<>(batch.size());
+        List<SpooledImage> images = new ArrayList<>(batch.size());
+        try {
+            for (Row row : batch) {
+                Optional<Path> path = imageStore.find(row.imageHash());
+                if (path.isEmpty()) {
+                    outcomes.add(Outcome.failed(row));
+                    continue;
+                }
+                try {
+                    SpooledImage original = SpooledImage.ofStoredFile(path.get(), row.fileName(), row.imageHash());
+                    images.add(imagePreprocessor.preprocess(original));
+                    sent.add(row);
+                } catch (Exception e) {
+                    // 손상된 파일 하나 때문에 묶음 전체를 버리지 않음
+                    log.warn("재분석 이미지 준비 실패 (id={}): {}", row.id(), e.getMessage());
+                    outcomes.add(Outcome.failed(row));
+                }
+            }
+            if (sent.isEmpty()) {
+                return outcomes;
+            }
+
+            List<Map<String, Object>> parts;
+            List<Map<String, Object>> grades;
+            try {
+                parts = aiServerClient.analyzeBatch(AiTask.PART, images);
+                grades = aiServerClient.analyzeBatch(AiTask.GRADE, images);
+            } catch (AiServerUnavailableException e) {
+                sent.forEach(row -> outcomes.add(Outcome.retry(row)));
+                return outcomes;
+            } catch (Exception e) {
+                log.warn("재분석 일괄 요청 실패 ({}건, 첫 id={}): {}", sent.size(), sent.get(0).id(), e.getMessage());
+                sent.forEach(row -> outcomes.add(Outcome.failed(row)));
+                return outcomes;
+            }
+
+            for (int i = 0; i < sent.size(); i++) {
+                Map<String, Object> part = parts.get(i);
+                Map<String, Object> grade = grades.get(i);
+                if (part.get("error") != null || grade.get("error") != null) {
+                    outcomes.add(Outcome.failed(sent.get(i)));
+                    continue;
+                }
+                String version = CutService.combineModelVersion(
+                        (String) part.get("modelVersion"), (String) grade.get("modelVersion"));
+                if (version != null && !version.equals(targetVersion)) {
+                    // 아직 가중치를 바꾸지 않은 AI 인스턴스 등: 잘못된 결과를 목표 버전으로 기록하지 않도록 중단
+                    throw new IllegalStateException("AI 서버 모델 버전(" + version + ")이 목표 버전(" + targetVersion + ")과 다릅니다.");
+                }
+                outcomes.add(Outcome.analyzed(sent.get(i),
+                        (String) part.get("detectedPart"),
+                        (String) grade.get("detectedGrade"),
+                        CutService.combineInsight((String) part.get("insight"), (String) grade.get("insight")),
+                        version != null ? version : targetVersion));
+            }
+            return outcomes;
+        } finally {
+            images.forEach(SpooledImage::close);
+        }
+    }
+
+    /**
+     * 결과 UPDATE, 통계 이동, 체크포인트를 한 트랜잭션으로 씁니다.
+     */
+    private void write(ChunkResult result) {
+        List<Object[]> updates = new ArrayList<>();
+        List<CutStatisticsStore.Reclassification> changes = new ArrayList<>();
+        int failedRows = 0;
+        for (Outcome outcome : result.outcomes()) {
+            Row row = outcome.row();
+            if (row.id() > result.lastCutId()) {
+                continue; // 다음 반복에서 다시 처리 (retry 이후의 행)
+            }
+            if (outcome.failed()) {
+                failedRows++;
+                continue;
+            }
+            if (outcome.retry()) {
+                continue;
+            }
+            updates.add(new Object[] { outcome.part(), outcome.grade(), outcome.insight(), outcome.modelVersion(), row.id() });
+            if (!same(row.part(), outcome.part()) || !same(row.grade(), outcome.grade())) {
+                changes.add(new CutStatisticsStore.Reclassification(row.memberId(), row.createdAt(), row.marblingRatio(),
+                        row.part(), row.grade(), outcome.part(), outcome.grade()));
+            }
+        }
+
+        long previousLastCutId = lastCutId;
+        int failedCount = failedRows;
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                // 통계 체크포인트 행을 먼저 잠근 뒤 Cut을 갱신 (통계 checkpoint()와 같은 잠금 순서)
+                cutStatisticsStore.reclassify(changes);
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_CUT, updates);
+                }
+                lastCutId = result.lastCutId();
+                processed.addAndGet(result.examined());
+                updated.addAndGet(updates.size());
+                failed.addAndGet(failedCount);
+                skipped.addAndGet(result.skipped());
+                saveCheckpoint();
+            });
+        } catch (RuntimeException e) {
+            // 롤백됐으므로 진행 상태도 chunk 이전으로 되돌림
+            if (lastCutId != previousLastCutId) {
+                lastCutId = previousLastCutId;
+                processed.addAndGet(-result.examined());
+                updated.addAndGet(-updates.size());
+                failed.addAndGet(-failedCount);
+                skipped.addAndGet(-result.skipped());
+            }
+            throw e;
+        }
+    }
+
+    private static boolean same(String a, String b) {
+        return CutStatistics.normalize(a == null ? null : a.trim()).equals(CutStatistics.normalize(b == null ? null : b.trim()));
+    }
+
+    /**
+     * 실시간 요청에 자리를 양보: bulkhead 사용률이 높거나 브레이커가 닫혀 있지 않으면 기다립니다.
+     * 중지 요청을 받으면 false.
+     */
+    private boolean awaitLiveCapacity() throws InterruptedException {
+        while (!stopRequested) {
+            boolean busy = false;
+            for (AiTask task : AiTask.values()) {
+                if (aiServerClient.breakerState(task) != AiCircuitBreaker.State.CLOSED
+                        || aiServerClient.bulkheadUtilization(task) >= yieldThreshold) {
+                    busy = true;
+                    break;
+                }
+            }
+            if (!busy) {
+                return true;
+            }
+            yields.incrementAndGet();
+            Thread.sleep(backoffMs);
+        }
+        return false;
+    }
+
+    // 초당 ratePerSecond 장을 넘지 않도록 다음 전송 시각까지 대기 (작업 스레드 하나에서만 호출)
+    private void pace(int images) throws InterruptedException {
+        if (ratePerSecond <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long sendAt = Math.max(nextSendNanos, now);
+        nextSendNanos = sendAt + (long) (images * 1_000_000_000L / ratePerSecond);
+        if (sendAt > now) {
+            TimeUnit.NANOSECONDS.sleep(sendAt - now);
+        }
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+
+    // ----------------------------------------------------
+    // 체크포인트
+    // ----------------------------------------------------
+
+    private Optional<Checkpoint> loadCheckpoint() {
+        List<Checkpoint> rows = jdbcTemplate.query(SELECT_CHECKPOINT, (rs, rowNum) -> new Checkpoint(
+                rs.getString("target_version"),
+                rs.getLong("last_cut_id"),
+                rs.getString("status"),
+                rs.getLong("processed"),
+                rs.getLong("updated"),
+                rs.getLong("failed"),
+                rs.getLong("skipped"),
+                rs.getTimestamp("started_at") == null ? null : rs.getTimestamp("started_at").toLocalDateTime()));
+        return rows.stream().findFirst();
+    }
+
+    private void saveCheckpoint() {
+        jdbcTemplate.update(UPSERT_CHECKPOINT,
+                targetVersion, lastCutId, status.name(),
+                processed.get(), updated.get(), failed.get(), skipped.get(),
+                lastError == null ? null : lastError.substring(0, Math.min(500, lastError.length())),
+                startedAt == null ? null : Timestamp.valueOf(startedAt),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 진행 상태 (GET /admin/reanalysis/status)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", status.name());
+        result.put("targetVersion", targetVersion);
+        result.put("lastCutId", lastCutId);
+        result.put("processed", processed.get());
+        result.put("updated", updated.get());
+        result.put("failed", failed.get());
+        result.put("skippedNoImage", skipped.get());
+        result.put("yieldsToLiveTraffic", yields.get());
+        result.put("lastError", lastError);
+        result.put("startedAt", startedAt);
+        result.put("concurrency", concurrency);
+        result.put("ratePerSecond", ratePerSecond);
+        return result;
+    }
+
+    // ----------------------------------------------------
+    // SmartLifecycle: 시작 시 중단된 작업 이어서 실행, 종료 시 현재 chunk까지만 처리
+    // ----------------------------------------------------
+
+    @Override
+    public void start() {
+        lifecycleRunning = true;
+        Optional<Checkpoint> saved = loadCheckpoint();
+        if (saved.isPresent() && Status.RUNNING.name().equals(saved.get().status())) {
+            controlLock.lock();
+            try {
+                restore(saved.get());
+                launch();
+            } finally {
+                controlLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        lifecycleRunning = false;
+        Thread current;
+        controlLock.lock();
+        try {
+            current = worker;
+            stopRequested = true;
+        } finally {
+            controlLock.unlock();
+        }
+        if (current == null) {
+            return;
+        }
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return lifecycleRunning;
+    }
+
+    // ----------------------------------------------------
+
+    private record Row(long id, String memberId, LocalDateTime createdAt, String part, String grade,
+            Integer marblingRatio, String imageHash, String fileName) {
+    }
+
+    private record Checkpoint(String targetVersion, long lastCutId, String status,
+            long processed, long updated, long failed, long skipped, LocalDateTime startedAt) {
+    }
+
+    private record Outcome(Row row, boolean retry, boolean failed,
+            String part, String grade, String insight, String modelVersion) {
+
+        static Outcome retry(Row row) {
+            return new Outcome(row, true, false, null, null, null, null);
+        }
+
+        static Outcome failed(Row row) {
+            return new Outcome(row, false, true, null, null, null, null);
+        }
+
+        static Outcome analyzed(Row row, String part, String grade, String insight, String modelVersion) {
+            return new Outcome(row, false, false, part, grade, insight, modelVersion);
+        }
+    }
+
+    private record ChunkResult(List<Outcome> outcomes, long lastCutId, int examined, int skipped, boolean retryLater) {
+    }
+}
@@ -1,55 +1,242 @@
 package com.project.beef.service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.project.beef.client.AbortableCall;
+import com.project.beef.client.AiAnalysis;
+import com.project.beef.client.AiServerClient;
+import com.project.beef.client.AiTask;
 import com.project.beef.domain.Cut;
 import com.project.beef.dto.CutDto;
+import com.project.beef.dto.CutHistoryDto;
+import com.project.beef.dto.CutHistoryPageDto;
 import com.project.beef.dto.SaveRequestDto;
 import com.project.beef.repository.CutRepository;
+import com.project.beef.util.SpooledImage;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Transactional 
 @RequiredArgsConstructor
+@Slf4j
 public class CutService {
+
+    // combineInsight 형식: "{부위 insight}\n(등급 분석: {등급 insight})"
+    private static final String GRADE_INSIGHT_PREFIX = "\n(등급 분석: ";
     
     private final CutRepository cutRepository; 
-    private final RestTemplate restTemplate; 
+    private final AiServerClient aiServerClient;
+    @Qualifier("aiExecutor")
+    private final AsyncTaskExecutor aiExecutor;
+    private final AiResultCache aiResultCache;
+    private final ImagePreprocessor imagePreprocessor;
+    private final CutWriteBehindQueue cutWriteBehindQueue;
+    private final ObservationRegistry observationRegistry;
+    private final ImageStore imageStore;
+
+    // 부위/등급 분석 전체에 허용하는 최대 대기 시간 (둘 중 하나라도 넘기면 나머지도 취소)
+    @Value("${ai.server.timeout-ms:30000}")
+    private long aiTimeoutMs;
+
+    // true면 메모리 캐시에 없을 때 Cut 테이블에서 같은 이미지의 과거 결과를 찾아 재사용 (재시작 후에도 유지)
+    @Value("${ai.cache.persistent:false}")
+    private boolean persistentCache;
+
+    // 이 크기 이하의 업로드만 메모리(byte[])에 두고, 큰 파일은 임시 파일에서 바로 스트리밍
+    @Value("${ai.upload.in-memory-threshold:256KB}")
+    private DataSize inMemoryThreshold;
+
+    // 일괄 분석 시 AI 서버 한 번의 요청에 담을 이미지 수
+    @Value("${ai.batch.size:8}")
+    private int batchSize;
+
+    /**
+     * 업로드 파일을 한 번만 보관(메모리 또는 임시 파일)합니다. 호출한 쪽에서 close() 해야 합니다.
+     */
+    public SpooledImage spool(MultipartFile file) throws IOException {
+        return SpooledImage.spool(file, inMemoryThreshold.toBytes());
+    }
+
+    /**
+     * 업로드 파일을 보관한 뒤 AI 전송용으로 전처리(축소/EXIF 제거)까지 마친 이미지를 반환합니다.
+     * 전처리 결과는 메모리에 있으므로 원본 임시 파일은 여기서 바로 정리합니다.
+     */
+    public SpooledImage prepare(MultipartFile file) throws IOException {
+        return prepare(file, false);
+    }
+
+    /**
+     * 분석 결과를 Cut으로 저장하는 경로용 prepare. 전처리 전에 원본을 이미지 저장소에 보관합니다
+     * (Cut.imageHash = 원본 SHA-256 = 저장소 키, 재분석/이력 사진 조회에 사용).
+     */
+    public SpooledImage prepareForSave(MultipartFile file) throws IOException {
+        return prepare(file, true);
+    }
 
-    private static final String AI_SERVER_URL = "http://localhost:5000";
+    private SpooledImage prepare(MultipartFile file, boolean storeOriginal) throws IOException {
+        SpooledImage original = spool(file);
+        SpooledImage prepared;
+        try {
+            if (storeOriginal) {
+                storeOriginal(original);
+            }
+            prepared = imagePreprocessor.preprocess(original);
+        } catch (IOException | RuntimeException e) {
+            original.close();
+            throw e;
+        }
+        if (prepared != original) {
+            original.close();
+        }
+        return prepared;
+    }
 
+    // 원본 보관 실패는 분석 자체를 막지 않음 (해당 Cut은 사진 없이 저장)
+    private void storeOriginal(SpooledImage original) {
+        try {
+            imageStore.store(original);
+        } catch (IOException e) {
+            log.warn("원본 이미지 저장 실패 (hash={})", original.getSha256(), e);
+        }
+    }
 
     // ----------------------------------------------------
-    // ⭐ 3. 부위 및 등급 분석을 순차적으로 실행하고 결과를 결합하는 핵심 메서드 ⭐
+    // ⭐ 3. 부위 및 등급 분석을 병렬로 실행하고 결과를 결합하는 핵심 메서드 ⭐
+    // AI 호출 동안 DB 트랜잭션(커넥션)을 잡지 않도록 트랜잭션 밖에서 실행
     // ----------------------------------------------------
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CutDto analyzeAndCombine(MultipartFile file) throws Exception {
         
-        // 🚨 I/O 스트림 재사용 오류 방지: 파일을 바이트 배열로 한 번만 복사 
-        final byte[] fileBytes = file.getBytes();
-        final String filename = file.getOriginalFilename();
+        // 🚨 I/O 스트림 재사용 오류 방지: 업로드를 한 번만 보관해 두고 두 AI 호출이 같이 사용
+        try (SpooledImage image = prepareForSave(file)) {
+            return analyzeAndCombine(image);
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CutDto analyzeAndCombine(SpooledImage image) throws Exception {
+
+        final String imageHash = image.getSha256();
+
+        // 메모리 캐시는 작업마다 한 번만 조회하고 그 결과를 끝까지 사용 (적중/미스 통계가 중복 집계되지 않도록)
+        Map<String, Object> cachedPart = aiResultCache.get(AiTask.PART.getPath(), imageHash);
+        Map<String, Object> cachedGrade = aiResultCache.get(AiTask.GRADE.getPath(), imageHash);
+        if (cachedPart != null && cachedGrade != null) {
+            return combine(partDto(cachedPart), gradeDto(cachedGrade), imageHash);
+        }
+
+        // 0. 같은 이미지를 이전에 분석해서 저장해 둔 결과가 있으면 AI 서버를 호출하지 않음
+        if (persistentCache && cachedPart == null && cachedGrade == null) {
+            Optional<Cut> saved = cutRepository.findFirstByImageHashOrderByIdDesc(imageHash);
+            if (saved.isPresent()) {
+                Cut cut = saved.get();
+                // 다음 요청은 DB까지 가지 않도록 메모리 캐시도 채움
+                rememberSavedResult(cut, imageHash);
+                return CutDto.builder()
+                    .status("success")
+                    .detectedPart(cut.getDetectedPart())
+                    .detectedGrade(cut.getDetectedGrade())
+                    .insight(cut.getInsight())
+                    .imageHash(imageHash)
+                    .modelVersion(cut.getModelVersion())
+                    .build();
+            }
+        }
+
+        // ai.transport=frame: 부위 + 등급을 요청 한 번으로 (호출 스레드에서 바로, 결과는 타입이 있는 레코드)
+        if (aiServerClient.isCombinedTransport()) {
+            return analyzeCombined(image);
+        }
         
-        // 1. 부위 분석 실행
-        CutDto partResult = analyzePart(fileBytes, filename); 
+        // 1. 부위 분석 + 2. 등급 분석을 동시에 실행 (캐시에 있는 쪽은 호출하지 않음)
+        CompletionService<CutDto> completion = new ExecutorCompletionService<>(aiExecutor);
+        AbortableCall partCall = new AbortableCall();
+        AbortableCall gradeCall = new AbortableCall();
+        Future<CutDto> partFuture = null;
+        Future<CutDto> gradeFuture = null;
+        CutDto partResult;
+        CutDto gradeResult;
+        try {
+            // 두 번째 submit이 거절(TaskRejectedException)되어도 먼저 시작된 호출은 finally에서 취소되도록 try 안에서 제출
+            int pending = 0;
+            if (cachedPart != null) {
+                partFuture = CompletableFuture.completedFuture(partDto(cachedPart));
+            } else {
+                partFuture = completion.submit(partCall.wrap(() -> partDto(callAiServer(image, AiTask.PART))));
+                pending++;
+            }
+            if (cachedGrade != null) {
+                gradeFuture = CompletableFuture.completedFuture(gradeDto(cachedGrade));
+            } else {
+                gradeFuture = completion.submit(gradeCall.wrap(() -> gradeDto(callAiServer(image, AiTask.GRADE))));
+                pending++;
+            }
+            awaitAll(completion, pending);
+            partResult = partFuture.get();
+            gradeResult = gradeFuture.get();
+        } finally {
+            // 한쪽이 실패하거나 시간 초과되면 남은 호출은 더 기다릴 필요가 없으므로 취소 (완료된 작업에는 영향 없음)
+            // interrupt만으로는 소켓 read가 풀리지 않으므로 진행 중인 HTTP 요청도 끊음
+            cancel(partFuture, partCall);
+            cancel(gradeFuture, gradeCall);
+        }
         
-        // 2. 등급 분석 실행
-        CutDto gradeResult = analyzeGrade(fileBytes, filename);
+        return combine(partResult, gradeResult, imageHash);
+    }
+
+    /**
+     * 부위 + 등급을 한 요청으로 다시 분석합니다. (둘 다 캐시에 있는 경우는 analyzeAndCombine에서 이미 처리)
+     * 캐시는 HTTP 경로와 같은 형태(Map)로 채워 전송 방식을 바꿔도 그대로 적중하게 합니다.
+     */
+    private CutDto analyzeCombined(SpooledImage image) throws Exception {
+        String imageHash = image.getSha256();
+        AiAnalysis analysis = aiServerClient.analyzeCombined(image);
+        aiResultCache.put(AiTask.PART.getPath(), imageHash, analysis.partResponse());
+        aiResultCache.put(AiTask.GRADE.getPath(), imageHash, analysis.gradeResponse());
+
+        return CutDto.builder()
+            .status("success")
+            .detectedPart(analysis.detectedPart())
+            .detectedGrade(analysis.detectedGrade())
+            .insight(combineInsight(analysis.partInsight(), analysis.gradeInsight()))
+            .imageHash(imageHash)
+            .modelVersion(analysis.modelVersion())
+            .build();
+    }
+
+    private CutDto combine(CutDto partResult, CutDto gradeResult, String imageHash) {
         
         // 3. 줄 바꿈을 적용하여 Insight 메시지 결합
-        String combinedInsight = partResult.getInsight() 
-                                 + "\n" 
-                                 + "(등급 분석: " + gradeResult.getInsight() + ")";
+        String combinedInsight = combineInsight(partResult.getInsight(), gradeResult.getInsight());
         
         // 4. 최종 CutDto 구성
         return CutDto.builder()
@@ -58,87 +245,380 @@ public class CutService {
             .detectedGrade(gradeResult.getDetectedGrade())
             .insight(combinedInsight)
             .memberId(null) 
+            .imageHash(imageHash)
+            .modelVersion(combineModelVersion(partResult.getModelVersion(), gradeResult.getModelVersion()))
             .build();
     }
 
+    // 재분석(CutReanalysisService)도 같은 형식으로 저장하도록 공유
+    static String combineInsight(String partInsight, String gradeInsight) {
+        return partInsight + GRADE_INSIGHT_PREFIX + gradeInsight + ")";
+    }
+
+    /**
+     * combineInsight의 역. {부위 insight, 등급 insight}, 형식이 다르면 null.
+     */
+    static String[] splitInsight(String combined) {
+        if (combined == null || !combined.endsWith(")")) {
+            return null;
+        }
+        int at = combined.lastIndexOf(GRADE_INSIGHT_PREFIX);
+        if (at < 0) {
+            return null;
+        }
+        return new String[] {
+                combined.substring(0, at),
+                combined.substring(at + GRADE_INSIGHT_PREFIX.length(), combined.length() - 1) };
+    }
+
+    /**
+     * 부위/등급 응답의 modelVersion을 하나로 합칩니다. 같으면 그 값, 다르면 "part=...,grade=...",
+     * AI 서버가 버전을 알려 주지 않으면 null.
+     */
+    static String combineModelVersion(String partVersion, String gradeVersion) {
+        if (partVersion == null || partVersion.equals(gradeVersion)) {
+            return gradeVersion;
+        }
+        if (gradeVersion == null) {
+            return partVersion;
+        }
+        return "part=" + partVersion + ",grade=" + gradeVersion;
+    }
+
+    /**
+     * combineModelVersion의 역. {부위, 등급}, 다시 합치면 같은 값이 됩니다.
+     */
+    static String[] splitModelVersion(String combined) {
+        if (combined != null && combined.startsWith("part=")) {
+            int grade = combined.indexOf(",grade=");
+            if (grade > 0) {
+                return new String[] { combined.substring("part=".length(), grade), combined.substring(grade + ",grade=".length()) };
+            }
+        }
+        return new String[] { combined, combined };
+    }
+
+    // 아직 끝나지 않은 작업만 취소하고 그 HTTP 요청을 끊음 (이미 끝난 작업, 제출되지 못한 작업(null)은 그대로)
+    private static void cancel(Future<?> future, AbortableCall call) {
+        if (future != null && future.cancel(true)) {
+            call.abort();
+        }
+    }
+
+    /**
+     * 먼저 끝나는 순서대로 작업 결과를 확인합니다.
+     * 하나라도 실패하면 즉시 예외를 던지고, 제한 시간 안에 끝나지 않으면 TimeoutException을 던집니다.
+     */
+    private <T> void awaitAll(CompletionService<T> completion, int count) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(aiTimeoutMs);
+        for (int i = 0; i < count; i++) {
+            Future<T> done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (done == null) {
+                throw new TimeoutException("AI 분석 서버 응답 시간 초과 (" + aiTimeoutMs + "ms)");
+            }
+            try {
+                done.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof Exception ? (Exception) cause : e;
+            }
+        }
+    }
+
     /**
      * 1. 부위 측정 서비스 로직: AI 서버의 부위 분석 엔드포인트를 호출합니다.
-     * 시그니처 변경: MultipartFile 대신 byte[]와 filename을 받습니다.
+     * 시그니처 변경: MultipartFile 대신 한 번 보관해 둔 SpooledImage를 받습니다.
      */
-    public CutDto analyzePart(byte[] fileBytes, String filename) throws Exception {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CutDto analyzePart(SpooledImage image) throws Exception {
         
-        String url = AI_SERVER_URL + "/analyze/part"; 
-        // callAiServer 호출
-        Map<String, Object> aiResponse = callAiServer(fileBytes, filename, url); 
+        // callAiServer 호출 (캐시 적중 시 AI 서버 호출 생략)
+        return partDto(callAiServerCached(image, AiTask.PART));
+    }
 
+    private static CutDto partDto(Map<String, Object> aiResponse) {
         return CutDto.builder()
             .status("success")
             .detectedPart((String) aiResponse.get("detectedPart"))
             .insight((String) aiResponse.get("insight"))
             .detectedGrade(null)
             .memberId(null)
+            .modelVersion((String) aiResponse.get("modelVersion"))
             .build();
     }
 
     /**
      * 2. 등급 측정 서비스 로직: AI 서버의 등급 분석 엔드포인트를 호출합니다.
-     * 시그니처 변경: MultipartFile 대신 byte[]와 filename을 받습니다.
+     * 시그니처 변경: MultipartFile 대신 한 번 보관해 둔 SpooledImage를 받습니다.
      */
-    public CutDto analyzeGrade(byte[] fileBytes, String filename) throws Exception {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CutDto analyzeGrade(SpooledImage image) throws Exception {
         
-        String url = AI_SERVER_URL + "/analyze/grade"; 
-        // callAiServer 호출
-        Map<String, Object> aiResponse = callAiServer(fileBytes, filename, url);
+        // callAiServer 호출 (캐시 적중 시 AI 서버 호출 생략)
+        return gradeDto(callAiServerCached(image, AiTask.GRADE));
+    }
 
+    private static CutDto gradeDto(Map<String, Object> aiResponse) {
         return CutDto.builder()
             .status("success")
             .detectedGrade((String) aiResponse.get("detectedGrade"))
             .insight((String) aiResponse.get("insight"))
             .detectedPart(null)
             .memberId(null)
+            .modelVersion((String) aiResponse.get("modelVersion"))
             .build();
     }
     
-    // ⭐ callAiServer 시그니처 : byte[]와 filename을 받도록 변경 ⭐
-    private Map<String, Object> callAiServer(byte[] fileBytes, String filename, String url) throws Exception {
-        
-        org.springframework.core.io.Resource resource = new ByteArrayResource(fileBytes) {
-            @Override
-            public String getFilename() {
-                return filename;
+    // ----------------------------------------------------
+    // ⭐ 일괄 분석: 여러 이미지를 micro-batch로 묶어 엔드포인트당 요청 1번으로 분석 ⭐
+    // ----------------------------------------------------
+
+    /**
+     * images와 같은 순서의 결과 목록을 반환합니다.
+     * 한 micro-batch 또는 한 이미지가 실패해도 해당 항목만 status "error"가 되고 나머지는 계속 처리합니다.
+     * AI 호출 동안 DB 트랜잭션(커넥션)을 잡지 않도록 트랜잭션 밖에서 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CutDto> analyzeBatch(List<SpooledImage> images) {
+        List<CutDto> results = new ArrayList<>(images.size());
+        for (int from = 0; from < images.size(); from += batchSize) {
+            List<SpooledImage> chunk = images.subList(from, Math.min(from + batchSize, images.size()));
+            try {
+                results.addAll(analyzeChunk(chunk));
+            } catch (Exception e) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.add(errorResult("AI 분석 서버 일괄 처리 오류: " + e.getMessage()));
+                }
             }
-        };
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-        
-        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-        body.add("file", resource); 
-        
-        HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
+        }
+        return results;
+    }
 
+    private List<CutDto> analyzeChunk(List<SpooledImage> chunk) throws Exception {
+        CompletionService<List<Map<String, Object>>> completion = new ExecutorCompletionService<>(aiExecutor);
+        AbortableCall partCall = new AbortableCall();
+        AbortableCall gradeCall = new AbortableCall();
+        Future<List<Map<String, Object>>> partFuture = null;
+        Future<List<Map<String, Object>>> gradeFuture = null;
+        List<Map<String, Object>> partResponses;
+        List<Map<String, Object>> gradeResponses;
         try {
-            Map<String, Object> aiResponse = restTemplate.postForObject(url, requestEntity, Map.class);
-            if (aiResponse == null) {
-                 throw new IllegalStateException("AI 서버로부터 유효한 응답을 받지 못했습니다.");
+            partFuture = completion.submit(partCall.wrap(() -> callAiServerBatchCached(chunk, AiTask.PART)));
+            gradeFuture = completion.submit(gradeCall.wrap(() -> callAiServerBatchCached(chunk, AiTask.GRADE)));
+            awaitAll(completion, 2);
+            partResponses = partFuture.get();
+            gradeResponses = gradeFuture.get();
+        } finally {
+            cancel(partFuture, partCall);
+            cancel(gradeFuture, gradeCall);
+        }
+
+        List<CutDto> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Map<String, Object> part = partResponses.get(i);
+            Map<String, Object> grade = gradeResponses.get(i);
+            if (part.get("error") != null || grade.get("error") != null) {
+                Object error = part.get("error") != null ? part.get("error") : grade.get("error");
+                results.add(errorResult(String.valueOf(error)));
+                continue;
             }
-            return aiResponse;
-        } catch (Exception e) {
-            throw new Exception("AI 분석 서버 통신 오류: " + e.getMessage());
+            CutDto partResult = CutDto.builder()
+                .detectedPart((String) part.get("detectedPart"))
+                .insight((String) part.get("insight"))
+                .modelVersion((String) part.get("modelVersion"))
+                .build();
+            CutDto gradeResult = CutDto.builder()
+                .detectedGrade((String) grade.get("detectedGrade"))
+                .insight((String) grade.get("insight"))
+                .modelVersion((String) grade.get("modelVersion"))
+                .build();
+            results.add(combine(partResult, gradeResult, chunk.get(i).getSha256()));
         }
+        return results;
     }
-    
+
+    /**
+     * 캐시에 없는 이미지만 모아서 AI 서버 일괄 엔드포인트(/analyze/part/batch 등)로 한 번에 보냅니다.
+     * 반환 목록은 chunk와 같은 순서이며, 실패한 항목은 "error" 키를 가집니다.
+     */
+    private List<Map<String, Object>> callAiServerBatchCached(List<SpooledImage> chunk, AiTask task) throws Exception {
+        String path = task.getPath();
+        List<Map<String, Object>> responses = new ArrayList<>(chunk.size());
+        List<Integer> missIndexes = new ArrayList<>();
+        List<SpooledImage> misses = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Map<String, Object> cached = aiResultCache.get(path, chunk.get(i).getSha256());
+            responses.add(cached);
+            if (cached == null) {
+                missIndexes.add(i);
+                misses.add(chunk.get(i));
+            }
+        }
+        if (misses.isEmpty()) {
+            return responses;
+        }
+
+        List<Map<String, Object>> fetched = aiServerClient.analyzeBatch(task, misses);
+        for (int i = 0; i < misses.size(); i++) {
+            Map<String, Object> item = fetched.get(i);
+            if (item.get("error") == null) {
+                aiResultCache.put(path, misses.get(i).getSha256(), item);
+            }
+            responses.set(missIndexes.get(i), item);
+        }
+        return responses;
+    }
+
+    private static CutDto errorResult(String message) {
+        return CutDto.builder().status("error").insight(message).build();
+    }
+
+    /**
+     * 이미지 해시 + 엔드포인트로 캐시를 먼저 확인하고, 없을 때만 AI 서버를 호출합니다.
+     * 오류 응답은 캐시하지 않습니다. (실제 호출은 서킷 브레이커/bulkhead가 적용된 AiServerClient가 담당)
+     */
+    private Map<String, Object> callAiServerCached(SpooledImage image, AiTask task) throws Exception {
+        Map<String, Object> cached = aiResultCache.get(task.getPath(), image.getSha256());
+        if (cached != null) {
+            return cached;
+        }
+        return callAiServer(image, task);
+    }
+
+    // 캐시를 이미 확인한 경우: AI 서버를 호출하고 결과를 캐시에 넣음
+    private Map<String, Object> callAiServer(SpooledImage image, AiTask task) throws Exception {
+        Map<String, Object> aiResponse = aiServerClient.analyze(task, image);
+        aiResultCache.put(task.getPath(), image.getSha256(), aiResponse);
+        return aiResponse;
+    }
+
+    /**
+     * DB에서 찾은 결과를 AI 응답과 같은 형태(Map)로 나눠 메모리 캐시에 넣습니다.
+     * 저장된 insight가 combineInsight 형식이 아니면(직접 저장한 결과 등) 나눌 수 없으므로 넣지 않습니다.
+     */
+    private void rememberSavedResult(Cut cut, String imageHash) {
+        String[] insights = splitInsight(cut.getInsight());
+        if (insights == null) {
+            return;
+        }
+        String[] versions = splitModelVersion(cut.getModelVersion());
+        Map<String, Object> part = new LinkedHashMap<>();
+        part.put("detectedPart", cut.getDetectedPart());
+        part.put("insight", insights[0]);
+        part.put("modelVersion", versions[0]);
+        Map<String, Object> grade = new LinkedHashMap<>();
+        grade.put("detectedGrade", cut.getDetectedGrade());
+        grade.put("insight", insights[1]);
+        grade.put("modelVersion", versions[1]);
+        aiResultCache.put(AiTask.PART.getPath(), imageHash, part);
+        aiResultCache.put(AiTask.GRADE.getPath(), imageHash, grade);
+    }
+
     @Transactional
     public Cut saveAnalysisResult(SaveRequestDto dto) {
-        
-        Cut cut = Cut.builder()
+        return saveObservation("sync", "single").observe(() -> cutRepository.save(toEntity(dto)));
+    }
+
+    /**
+     * 분석 요청 경로에서 사용하는 저장. ai.persist.mode=write-behind 이면 큐에 넣고 바로 반환하므로
+     * 요청 스레드가 DB insert를 기다리지 않습니다 (이 경우 id는 아직 없음).
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void persistAnalysisResult(SaveRequestDto dto) throws InterruptedException {
+        if (cutWriteBehindQueue.isEnabled()) {
+            saveObservation("write-behind", "single").observeChecked(() -> cutWriteBehindQueue.enqueue(toEntity(dto)));
+        } else {
+            saveObservation("sync", "single").observe(() -> cutRepository.save(toEntity(dto)));
+        }
+    }
+
+    /**
+     * 일괄 분석 결과 저장. Cut.id가 pooled 시퀀스이므로 saveAll이 Hibernate JDBC batch insert로 묶여 나갑니다.
+     * write-behind 모드이면 큐에 넣기만 합니다. (saveAll 자체가 하나의 트랜잭션으로 실행됨)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void saveAnalysisResults(List<SaveRequestDto> dtos) throws InterruptedException {
+        if (dtos.isEmpty()) {
+            return;
+        }
+        List<Cut> cuts = dtos.stream().map(this::toEntity).toList();
+        if (cutWriteBehindQueue.isEnabled()) {
+            saveObservation("write-behind", "batch").observeChecked(() -> {
+                for (Cut cut : cuts) {
+                    cutWriteBehindQueue.enqueue(cut);
+                }
+            });
+        } else {
+            saveObservation("sync", "batch").observe(() -> cutRepository.saveAll(cuts));
+        }
+    }
+
+    /**
+     * 분석 결과 저장 구간 관측 "beef.cut.save" (mode: sync | write-behind, kind: single | batch).
+     * write-behind 모드에서는 큐에 넣는 시간만 요청 경로에 포함되므로 mode로 나눠 봅니다.
+     */
+    private Observation saveObservation(String mode, String kind) {
+        return Observation.createNotStarted("beef.cut.save", observationRegistry)
+                .lowCardinalityKeyValue("mode", mode)
+                .lowCardinalityKeyValue("kind", kind);
+    }
+
+    // ----------------------------------------------------
+    // ⭐ 회원별 분석 이력 (keyset 페이지네이션) ⭐
+    // ----------------------------------------------------
+
+    /**
+     * cursor는 이전 페이지 마지막 행의 (createdAt, id)를 인코딩한 값이며, 첫 페이지는 null입니다.
+     * size+1 건을 읽어 다음 페이지가 있는지 판단합니다.
+     */
+    @Transactional(readOnly = true)
+    public CutHistoryPageDto findHistory(String memberId, String cursor, int size) {
+        HistoryCursor after = cursor == null || cursor.isBlank() ? null : HistoryCursor.decode(cursor);
+
+        List<CutHistoryDto> rows = cutRepository.findHistory(memberId,
+                after == null ? null : after.createdAt(), after == null ? null : after.id(), size + 1);
+        boolean hasNext = rows.size() > size;
+        List<CutHistoryDto> items = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CutHistoryDto last = items.get(items.size() - 1);
+            nextCursor = new HistoryCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CutHistoryPageDto(List.copyOf(items), nextCursor, hasNext);
+    }
+
+    /**
+     * 이력 페이지 cursor: 이전 페이지 마지막 행의 (createdAt, id)를 "createdAt|id"로 이어 URL-safe Base64로 인코딩합니다.
+     * createdAt이 같은 행은 id로 순서를 정하므로 둘 다 있어야 합니다.
+     */
+    record HistoryCursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static HistoryCursor decode(String cursor) {
+            try {
+                String[] decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+                return new HistoryCursor(LocalDateTime.parse(decoded[0]), Long.parseLong(decoded[1]));
+            } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 cursor 값입니다.", e);
+            }
+        }
+    }
+
+    private Cut toEntity(SaveRequestDto dto) {
+        return Cut.builder()
             .detectedPart(dto.getDetectedPart())
             .detectedGrade(dto.getDetectedGrade())
+            .marblingRatio(dto.getMarblingRatio())
             .insight(dto.getInsight())
             .fileName(dto.getFileName())
             .memberId(dto.getMemberId())
+            .imageHash(dto.getImageHash())
+            .modelVersion(dto.getModelVersion())
             .build();
-            
-        return cutRepository.save(cut);
     }
-}
\ No newline at end of file
+}
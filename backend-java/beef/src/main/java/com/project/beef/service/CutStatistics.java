@@ -0,0 +1,259 @@
+package com.project.beef.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분석 통계 메모리 카운터 (부위 × 등급 건수, 평균 마블링, 일별 건수 / 전체 및 회원별).
+ *
+ * Cut 저장이 커밋될 때마다 CutStatisticsListener가 record()를 호출해 LongAdder를 증가시키므로
+ * 조회(GET /api/cut/stats)는 테이블을 스캔하지 않고 셀 수(부위 × 등급 + 최근 일수)만큼만 읽습니다.
+ *
+ * record()는 이 인스턴스의 저장만 보므로, CutStatisticsStore가 시작 시와 체크포인트마다 DB(롤업 + 최근 구간 집계)를 읽어
+ * reload()로 카운터를 그 값에 맞춥니다. 인스턴스가 여러 대여도 체크포인트 주기마다 같은 값으로 맞춰집니다.
+ */
+@Component
+public class CutStatistics {
+
+    static final String UNKNOWN = "UNKNOWN";
+
+    private final int dailyDays;
+    private final Counters counters = new Counters();
+
+    public CutStatistics(@Value("${cut.stats.daily-days:30}") int dailyDays) {
+        this.dailyDays = dailyDays;
+    }
+
+    /**
+     * 커밋된 Cut 1건 반영
+     */
+    public void record(String memberId, LocalDate date, String part, String grade, Integer marblingRatio) {
+        add(memberId, date, part, grade, 1, marblingRatio == null ? 0 : marblingRatio, marblingRatio == null ? 0 : 1);
+    }
+
+    /**
+     * 집계값 반영 (재분석으로 칸을 옮길 때). date가 null이면 일별 건수에는 더하지 않습니다.
+     */
+    void add(String memberId, LocalDate date, String part, String grade, long count, long marblingSum, long marblingCount) {
+        counters.add(memberId, date, part, grade, count, marblingSum, marblingCount, oldestDay());
+    }
+
+    /**
+     * loader가 add로 채운 값(DB에서 다시 집계한 값)에 카운터를 맞춥니다.
+     *
+     * 새 카운터로 바꿔 끼우면 DB를 읽은 뒤 ~ 교체 전에 record()된 저장이 사라지므로, DB를 읽기 전의 값을 복사해 두고
+     * (DB 값 - 복사본)만큼만 살아 있는 LongAdder에 더합니다. 그 사이의 저장은 그대로 남습니다.
+     * 복사 뒤 ~ DB 읽기 전에 커밋된 저장은 한 번 더 세어질 수 있지만, 다음 reload의 차이 계산에서 바로잡힙니다.
+     */
+    void reload(Consumer<Loader> loader) {
+        LocalDate oldest = oldestDay();
+        Counters before = counters.copy();
+        Counters loaded = new Counters();
+        loader.accept((memberId, date, part, grade, count, marblingSum, marblingCount) ->
+                loaded.add(memberId, date, part, grade, count, marblingSum, marblingCount, oldest));
+        counters.addDifference(loaded, before);
+        counters.dropDaysBefore(oldest);
+    }
+
+    @FunctionalInterface
+    interface Loader {
+        void add(String memberId, LocalDate date, String part, String grade, long count, long marblingSum, long marblingCount);
+    }
+
+    LocalDate oldestDay() {
+        return LocalDate.now().minusDays(dailyDays - 1L);
+    }
+
+    public Map<String, Object> global() {
+        return counters.global.snapshot();
+    }
+
+    public Map<String, Object> member(String memberId) {
+        Scope scope = counters.members.get(normalizeMember(memberId));
+        return (scope == null ? new Scope() : scope).snapshot();
+    }
+
+    /**
+     * SQL 쪽(CutStatisticsStore)의 COALESCE(NULLIF(TRIM(x), ''), 'UNKNOWN')과 같은 규칙.
+     * MariaDB TRIM은 공백(' ')만 지우므로 여기서도 공백만 지웁니다.
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return start == end ? UNKNOWN : value.substring(start, end);
+    }
+
+    static String normalizeMember(String memberId) {
+        return memberId == null ? "" : memberId;
+    }
+
+    // ----------------------------------------------------
+    // 전체 + 회원별 카운터 묶음
+    // ----------------------------------------------------
+
+    private static final class Counters {
+
+        final Scope global = new Scope();
+        final ConcurrentHashMap<String, Scope> members = new ConcurrentHashMap<>();
+
+        void add(String memberId, LocalDate date, String part, String grade, long count, long marblingSum,
+                long marblingCount, LocalDate oldestDay) {
+            String cellKey = normalize(part) + "|" + normalize(grade);
+            LocalDate day = date != null && !date.isBefore(oldestDay) ? date : null;
+            global.add(cellKey, day, count, marblingSum, marblingCount);
+            members.computeIfAbsent(normalizeMember(memberId), key -> new Scope())
+                    .add(cellKey, day, count, marblingSum, marblingCount);
+        }
+
+        // 현재 합계의 복사본 (복사하는 동안 더해진 값은 들어갈 수도, 안 들어갈 수도 있음)
+        Counters copy() {
+            Counters copy = new Counters();
+            global.copyInto(copy.global);
+            members.forEach((memberId, scope) -> scope.copyInto(copy.members.computeIfAbsent(memberId, key -> new Scope())));
+            return copy;
+        }
+
+        // target - base 만큼 더함
+        void addDifference(Counters target, Counters base) {
+            global.addDifference(target.global, base.global);
+            Set<String> memberIds = new HashSet<>(target.members.keySet());
+            memberIds.addAll(base.members.keySet());
+            for (String memberId : memberIds) {
+                members.computeIfAbsent(memberId, key -> new Scope()).addDifference(
+                        target.members.getOrDefault(memberId, EMPTY_SCOPE), base.members.getOrDefault(memberId, EMPTY_SCOPE));
+            }
+        }
+
+        // 일별 건수 보관 기간(daily-days)이 지난 날 제거 (부위/등급별 합계에는 그대로 남음)
+        void dropDaysBefore(LocalDate oldestDay) {
+            global.daily.keySet().removeIf(day -> day.isBefore(oldestDay));
+            members.values().forEach(scope -> scope.daily.keySet().removeIf(day -> day.isBefore(oldestDay)));
+        }
+    }
+
+    private static final Scope EMPTY_SCOPE = new Scope();
+
+    // ----------------------------------------------------
+    // 범위(전체 또는 회원 1명) 하나의 카운터
+    // ----------------------------------------------------
+
+    private static final class Cell {
+        final LongAdder count = new LongAdder();
+        final LongAdder marblingSum = new LongAdder();
+        final LongAdder marblingCount = new LongAdder();
+    }
+
+    private static final Cell EMPTY_CELL = new Cell();
+
+    private static final class Scope {
+
+        final ConcurrentHashMap<String, Cell> cells = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<LocalDate, LongAdder> daily = new ConcurrentHashMap<>();
+
+        void add(String cellKey, LocalDate day, long count, long marblingSum, long marblingCount) {
+            Cell cell = cells.computeIfAbsent(cellKey, key -> new Cell());
+            cell.count.add(count);
+            cell.marblingSum.add(marblingSum);
+            cell.marblingCount.add(marblingCount);
+            if (day != null) {
+                daily.computeIfAbsent(day, key -> new LongAdder()).add(count);
+            }
+        }
+
+        void copyInto(Scope copy) {
+            cells.forEach((cellKey, cell) -> copy.add(cellKey, null,
+                    cell.count.sum(), cell.marblingSum.sum(), cell.marblingCount.sum()));
+            daily.forEach((day, count) -> copy.daily.computeIfAbsent(day, key -> new LongAdder()).add(count.sum()));
+        }
+
+        void addDifference(Scope target, Scope base) {
+            Set<String> cellKeys = new HashSet<>(target.cells.keySet());
+            cellKeys.addAll(base.cells.keySet());
+            for (String cellKey : cellKeys) {
+                Cell to = target.cells.getOrDefault(cellKey, EMPTY_CELL);
+                Cell from = base.cells.getOrDefault(cellKey, EMPTY_CELL);
+                add(cellKey, null, to.count.sum() - from.count.sum(),
+                        to.marblingSum.sum() - from.marblingSum.sum(),
+                        to.marblingCount.sum() - from.marblingCount.sum());
+            }
+            Set<LocalDate> days = new HashSet<>(target.daily.keySet());
+            days.addAll(base.daily.keySet());
+            for (LocalDate day : days) {
+                long to = target.daily.containsKey(day) ? target.daily.get(day).sum() : 0;
+                long from = base.daily.containsKey(day) ? base.daily.get(day).sum() : 0;
+                daily.computeIfAbsent(day, key -> new LongAdder()).add(to - from);
+            }
+        }
+
+        Map<String, Object> snapshot() {
+            long total = 0;
+            long marblingSum = 0;
+            long marblingCount = 0;
+            List<Map<String, Object>> byPartGrade = new ArrayList<>(cells.size());
+            for (Map.Entry<String, Cell> entry : cells.entrySet()) {
+                String[] key = entry.getKey().split("\\|", 2);
+                Cell cell = entry.getValue();
+                long count = cell.count.sum();
+                long cellMarblingSum = cell.marblingSum.sum();
+                long cellMarblingCount = cell.marblingCount.sum();
+                if (count == 0 && cellMarblingCount == 0) {
+                    continue; // reload/재분석으로 비워진 칸
+                }
+                total += count;
+                marblingSum += cellMarblingSum;
+                marblingCount += cellMarblingCount;
+
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("detectedPart", key[0]);
+                row.put("detectedGrade", key[1]);
+                row.put("count", count);
+                row.put("avgMarblingRatio", average(cellMarblingSum, cellMarblingCount));
+                byPartGrade.add(row);
+            }
+            byPartGrade.sort(Comparator.comparing((Map<String, Object> row) -> (Long) row.get("count")).reversed());
+
+            List<Map<String, Object>> dailyVolume = new ArrayList<>(daily.size());
+            daily.entrySet().stream()
+                    .filter(entry -> entry.getValue().sum() != 0)
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> {
+                        Map<String, Object> row = new LinkedHashMap<>();
+                        row.put("date", entry.getKey().toString());
+                        row.put("count", entry.getValue().sum());
+                        dailyVolume.add(row);
+                    });
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("total", total);
+            result.put("avgMarblingRatio", average(marblingSum, marblingCount));
+            result.put("byPartGrade", byPartGrade);
+            result.put("daily", dailyVolume);
+            return result;
+        }
+
+        private static Double average(long sum, long count) {
+            return count == 0 ? null : (double) sum / count;
+        }
+    }
+}
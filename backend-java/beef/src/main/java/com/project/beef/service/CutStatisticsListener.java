@@ -0,0 +1,52 @@
+package com.project.beef.service;
+
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.project.beef.domain.Cut;
+
+import jakarta.persistence.PostPersist;
+
+/**
+ * Cut 엔티티 리스너: 저장 경로(동기 저장, 일괄 저장, write-behind flush)와 관계없이
+ * 트랜잭션이 커밋된 뒤에만 통계 카운터에 반영합니다. (롤백되면 반영하지 않음)
+ *
+ * Hibernate가 EntityManagerFactory 생성 중에 이 리스너를 만들 수 있으므로, 순환 의존을 피하려고
+ * CutStatistics는 ObjectProvider로 늦게 가져옵니다.
+ */
+@Component
+public class CutStatisticsListener {
+
+    private final ObjectProvider<CutStatistics> cutStatistics;
+
+    public CutStatisticsListener(ObjectProvider<CutStatistics> cutStatistics) {
+        this.cutStatistics = cutStatistics;
+    }
+
+    @PostPersist
+    public void onPersist(Cut cut) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(cut);
+                }
+            });
+        } else {
+            record(cut);
+        }
+    }
+
+    private void record(Cut cut) {
+        CutStatistics statistics = cutStatistics.getIfAvailable();
+        if (statistics == null) {
+            return;
+        }
+        LocalDate day = cut.getCreatedAt() != null ? cut.getCreatedAt().toLocalDate() : LocalDate.now();
+        statistics.record(cut.getMemberId(), day, cut.getDetectedPart(), cut.getDetectedGrade(), cut.getMarblingRatio());
+    }
+}
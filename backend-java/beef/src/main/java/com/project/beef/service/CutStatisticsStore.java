@@ -0,0 +1,309 @@
+package com.project.beef.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분석 통계의 DB 쪽 처리: 주기적 롤업(체크포인트)과 메모리 카운터 재구성.
+ *
+ * watermark(날짜 경계) 이전의 날은 확정(frozen)된 롤업이고, 이후의 날(최근 recompute-days일)은 열려 있습니다.
+ * 체크포인트는 열린 날의 롤업 행을 지우고 Cut 원본에서 INSERT ... SELECT ... GROUP BY로 다시 집계하므로
+ * (idx_cut_created 구간 스캔) 몇 번 실행해도 결과가 같고, 저장 시각(createdAt)보다 늦게 커밋된 행도
+ * 그 날이 열려 있는 동안의 다음 체크포인트에서 반영됩니다. 그 뒤 recompute-days보다 오래된 날을 확정합니다.
+ * 여러 인스턴스가 동시에 실행해도 체크포인트 행을 FOR UPDATE로 잠그므로 차례로 같은 값을 씁니다.
+ *
+ * 시작 시와 체크포인트 후에는 롤업 테이블(최근 daily-days는 일별, 그 이전은 부위/등급별 합계) + 열린 날의 Cut 집계를 읽어
+ * CutStatistics를 그 값에 맞추므로 다른 인스턴스의 저장도 반영됩니다.
+ *
+ * 롤업이 아직 없으면(처음 배포, watermark가 EPOCH) 시작 시에는 읽지 않고 첫 체크포인트를 바로 백그라운드에서 실행해
+ * 확정할 날들을 id 구간(seed-page-size)씩 나눠 롤업에 채웁니다. 시작 시간이 Cut 테이블 크기에 따라 늘어나지 않습니다.
+ *
+ * INSERT IGNORE, ON DUPLICATE KEY UPDATE, SELECT ... FOR UPDATE를 쓰므로 MariaDB/MySQL 전용입니다.
+ */
+@Component
+@Slf4j
+public class CutStatisticsStore implements SmartLifecycle {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String DELETE_OPEN_ROLLUP = "DELETE FROM cut_stat_rollup WHERE stat_date >= ?";
+
+    private static final String INSERT_OPEN_ROLLUP =
+            "INSERT INTO cut_stat_rollup (member_id, stat_date, detected_part, detected_grade, cut_count, marbling_sum, marbling_count) "
+            + "SELECT " + normalizedColumns() + ", COUNT(*), COALESCE(SUM(marbling_ratio), 0), COUNT(marbling_ratio) "
+            + "FROM cut WHERE created_at >= ? GROUP BY 1, 2, 3, 4";
+
+    // 처음 채울 때: id 구간 하나의 확정할 날들을 롤업에 더함 (같은 칸이 여러 구간에 걸치므로 누적)
+    private static final String SEED_ROLLUP_PAGE =
+            "INSERT INTO cut_stat_rollup (member_id, stat_date, detected_part, detected_grade, cut_count, marbling_sum, marbling_count) "
+            + "SELECT " + normalizedColumns() + ", COUNT(*), COALESCE(SUM(marbling_ratio), 0), COUNT(marbling_ratio) "
+            + "FROM cut WHERE id > ? AND id <= ? AND created_at < ? GROUP BY 1, 2, 3, 4 "
+            + "ON DUPLICATE KEY UPDATE cut_count = cut_count + VALUES(cut_count), "
+            + "marbling_sum = marbling_sum + VALUES(marbling_sum), marbling_count = marbling_count + VALUES(marbling_count)";
+
+    private static final String SELECT_TAIL =
+            "SELECT " + normalizedColumns() + ", COUNT(*), COALESCE(SUM(marbling_ratio), 0), COUNT(marbling_ratio) "
+            + "FROM cut WHERE created_at >= ? GROUP BY 1, 2, 3, 4";
+
+    private static final String SELECT_ROLLUP_RECENT =
+            "SELECT member_id, stat_date, detected_part, detected_grade, cut_count, marbling_sum, marbling_count "
+            + "FROM cut_stat_rollup WHERE stat_date >= ? AND stat_date < ?";
+
+    private static final String SELECT_ROLLUP_OLDER =
+            "SELECT member_id, detected_part, detected_grade, SUM(cut_count), SUM(marbling_sum), SUM(marbling_count) "
+            + "FROM cut_stat_rollup WHERE stat_date < ? GROUP BY member_id, detected_part, detected_grade";
+
+    // 재분석으로 부위/등급이 바뀐 행을 이미 롤업된 칸에서 빼고 새 칸에 더함
+    private static final String DECREMENT_ROLLUP =
+            "UPDATE cut_stat_rollup SET cut_count = cut_count - 1, marbling_sum = marbling_sum - ?, marbling_count = marbling_count - ? "
+            + "WHERE member_id = ? AND stat_date = ? AND detected_part = ? AND detected_grade = ?";
+
+    private static final String INCREMENT_ROLLUP =
+            "INSERT INTO cut_stat_rollup (member_id, stat_date, detected_part, detected_grade, cut_count, marbling_sum, marbling_count) "
+            + "VALUES (?, ?, ?, ?, 1, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE cut_count = cut_count + 1, "
+            + "marbling_sum = marbling_sum + VALUES(marbling_sum), marbling_count = marbling_count + VALUES(marbling_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CutStatistics cutStatistics;
+    private final long checkpointIntervalSeconds;
+    private final int recomputeDays;
+    private final int seedPageSize;
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    public CutStatisticsStore(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            CutStatistics cutStatistics,
+            @Value("${cut.stats.checkpoint-interval-seconds:300}") long checkpointIntervalSeconds,
+            @Value("${cut.stats.recompute-days:2}") int recomputeDays,
+            @Value("${cut.stats.seed-page-size:50000}") int seedPageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.cutStatistics = cutStatistics;
+        this.checkpointIntervalSeconds = checkpointIntervalSeconds;
+        this.recomputeDays = Math.max(1, recomputeDays);
+        this.seedPageSize = Math.max(1, seedPageSize);
+    }
+
+    // Java 쪽 CutStatistics.normalize와 같은 규칙 (공백 제거 후 빈 값 → 'UNKNOWN', memberId null → '')
+    private static String normalizedColumns() {
+        return "COALESCE(member_id, ''), DATE(created_at), "
+                + "COALESCE(NULLIF(TRIM(detected_part), ''), '" + CutStatistics.UNKNOWN + "'), "
+                + "COALESCE(NULLIF(TRIM(detected_grade), ''), '" + CutStatistics.UNKNOWN + "')";
+    }
+
+    /**
+     * 열린 날(watermark 이후)의 롤업을 원본에서 다시 집계하고, recompute-days보다 오래된 날을 확정한 뒤
+     * 메모리 카운터를 DB 값에 맞춥니다.
+     */
+    public void checkpoint() {
+        LocalDate frozenBefore = LocalDate.now().minusDays(recomputeDays - 1L);
+        seedIfEmpty(frozenBefore);
+        transactionTemplate.executeWithoutResult(status -> {
+            // 예전 형식(시각 watermark)이면 그 날 전체를 다시 집계
+            LocalDate openFrom = lockWatermark().toLocalDate();
+            jdbcTemplate.update(DELETE_OPEN_ROLLUP, Date.valueOf(openFrom));
+            jdbcTemplate.update(INSERT_OPEN_ROLLUP, Timestamp.valueOf(openFrom.atStartOfDay()));
+            if (frozenBefore.isAfter(openFrom)) {
+                jdbcTemplate.update("UPDATE cut_stat_checkpoint SET watermark = ? WHERE id = 1",
+                        Timestamp.valueOf(frozenBefore.atStartOfDay()));
+            }
+        });
+        rebuild();
+    }
+
+    // 체크포인트 행을 잠그고 현재 watermark를 읽음 (트랜잭션 안에서 호출)
+    private LocalDateTime lockWatermark() {
+        jdbcTemplate.update("INSERT IGNORE INTO cut_stat_checkpoint (id, watermark) VALUES (1, ?)", Timestamp.valueOf(EPOCH));
+        return jdbcTemplate.queryForObject(
+                "SELECT watermark FROM cut_stat_checkpoint WHERE id = 1 FOR UPDATE", LocalDateTime.class);
+    }
+
+    /**
+     * 이미 저장된 Cut의 부위/등급이 바뀐 경우(재분석) 통계를 옮깁니다.
+     * Cut UPDATE와 같은 트랜잭션에서, Cut UPDATE보다 먼저 호출해야 합니다 (체크포인트와 같은 순서로 잠금).
+     *
+     * watermark 이전(확정된 날) 행은 롤업 칸을 직접 옮기고, 열린 날의 행은 다음 체크포인트가
+     * 바뀐 값으로 다시 집계하므로 그대로 둡니다. 메모리 카운터는 커밋된 뒤에만 옮깁니다.
+     */
+    public void reclassify(List<Reclassification> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        LocalDateTime watermark = lockWatermark();
+        List<Object[]> decrements = new ArrayList<>();
+        List<Object[]> increments = new ArrayList<>();
+        for (Reclassification change : changes) {
+            if (!change.createdAt().isBefore(watermark)) {
+                continue;
+            }
+            String memberId = CutStatistics.normalizeMember(change.memberId());
+            Date day = Date.valueOf(change.createdAt().toLocalDate());
+            long marblingSum = change.marblingRatio() == null ? 0 : change.marblingRatio();
+            long marblingCount = change.marblingRatio() == null ? 0 : 1;
+            decrements.add(new Object[] { marblingSum, marblingCount, memberId, day,
+                    normalizeColumn(change.oldPart()), normalizeColumn(change.oldGrade()) });
+            increments.add(new Object[] { memberId, day,
+                    normalizeColumn(change.newPart()), normalizeColumn(change.newGrade()), marblingSum, marblingCount });
+        }
+        if (!decrements.isEmpty()) {
+            jdbcTemplate.batchUpdate(DECREMENT_ROLLUP, decrements);
+            jdbcTemplate.batchUpdate(INCREMENT_ROLLUP, increments);
+        }
+
+        List<Reclassification> committed = List.copyOf(changes);
+        Runnable moveCounters = () -> committed.forEach(change -> {
+            LocalDate day = change.createdAt().toLocalDate();
+            long marblingSum = change.marblingRatio() == null ? 0 : change.marblingRatio();
+            long marblingCount = change.marblingRatio() == null ? 0 : 1;
+            cutStatistics.add(change.memberId(), day, change.oldPart(), change.oldGrade(), -1, -marblingSum, -marblingCount);
+            cutStatistics.add(change.memberId(), day, change.newPart(), change.newGrade(), 1, marblingSum, marblingCount);
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    moveCounters.run();
+                }
+            });
+        } else {
+            moveCounters.run();
+        }
+    }
+
+    private static String normalizeColumn(String value) {
+        return CutStatistics.normalize(value);
+    }
+
+    /**
+     * 부위/등급이 바뀐 Cut 1건 (createdAt은 롤업 일자와 watermark 비교에 사용)
+     */
+    public record Reclassification(String memberId, LocalDateTime createdAt, Integer marblingRatio,
+            String oldPart, String oldGrade, String newPart, String newGrade) {
+    }
+
+    /**
+     * 롤업이 비어 있으면(watermark가 EPOCH) frozenBefore 이전 날들을 id 구간씩 집계해 채우고 watermark를 옮깁니다.
+     * 체크포인트 행을 잠근 채 실행하므로 다른 인스턴스는 기다렸다가 이미 채워진 것을 보고 건너뜁니다.
+     * 이후 체크포인트의 열린 날 집계는 watermark 이후만 읽습니다.
+     */
+    private void seedIfEmpty(LocalDate frozenBefore) {
+        if (!watermark().equals(EPOCH)) {
+            return;
+        }
+        long started = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!lockWatermark().equals(EPOCH)) {
+                return;
+            }
+            Timestamp before = Timestamp.valueOf(frozenBefore.atStartOfDay());
+            jdbcTemplate.update("DELETE FROM cut_stat_rollup WHERE stat_date < ?", Date.valueOf(frozenBefore));
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cut", Long.class);
+            for (long from = 0; maxId != null && from < maxId; from += seedPageSize) {
+                jdbcTemplate.update(SEED_ROLLUP_PAGE, from, Math.min(from + seedPageSize, maxId), before);
+            }
+            jdbcTemplate.update("UPDATE cut_stat_checkpoint SET watermark = ? WHERE id = 1", before);
+        });
+        log.info("통계 롤업 초기 집계 완료: {} 이전 ({}ms)", frozenBefore,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private LocalDateTime watermark() {
+        List<LocalDateTime> watermarks = jdbcTemplate.queryForList(
+                "SELECT watermark FROM cut_stat_checkpoint WHERE id = 1", LocalDateTime.class);
+        return watermarks.isEmpty() ? EPOCH : watermarks.get(0);
+    }
+
+    /**
+     * 확정된 날의 롤업 + 열린 날의 원본 집계를 읽어 메모리 카운터를 그 값에 맞춥니다.
+     */
+    void rebuild() {
+        LocalDate openFrom = watermark().toLocalDate();
+        LocalDate recentFrom = cutStatistics.oldestDay();
+        LocalDate olderBefore = recentFrom.isBefore(openFrom) ? recentFrom : openFrom;
+
+        cutStatistics.reload(loader -> {
+            jdbcTemplate.query(SELECT_ROLLUP_RECENT, rs -> {
+                loader.add(rs.getString(1), rs.getDate(2).toLocalDate(), rs.getString(3), rs.getString(4),
+                        rs.getLong(5), rs.getLong(6), rs.getLong(7));
+            }, Date.valueOf(recentFrom), Date.valueOf(openFrom));
+            jdbcTemplate.query(SELECT_ROLLUP_OLDER, rs -> {
+                loader.add(rs.getString(1), null, rs.getString(2), rs.getString(3),
+                        rs.getLong(4), rs.getLong(5), rs.getLong(6));
+            }, Date.valueOf(olderBefore));
+            jdbcTemplate.query(SELECT_TAIL, rs -> {
+                loader.add(rs.getString(1), rs.getDate(2).toLocalDate(), rs.getString(3), rs.getString(4),
+                        rs.getLong(5), rs.getLong(6), rs.getLong(7));
+            }, Timestamp.valueOf(openFrom.atStartOfDay()));
+        });
+    }
+
+    // ----------------------------------------------------
+    // SmartLifecycle: 웹 서버보다 먼저 시작(카운터 재구성)하도록 낮은 phase 사용
+    // ----------------------------------------------------
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        // 롤업이 있으면 확정된 롤업 + 최근 recompute-days일 원본만 읽음. 없으면 첫 체크포인트(백그라운드)가 채울 때까지 기다리지 않음
+        boolean seeded = !watermark().equals(EPOCH);
+        if (seeded) {
+            rebuild();
+        }
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cut-stats-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint();
+            } catch (RuntimeException e) {
+                log.warn("통계 체크포인트 실패", e);
+            }
+        }, seeded ? checkpointIntervalSeconds : 0, checkpointIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        scheduler.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+}
@@ -0,0 +1,288 @@
+package com.project.beef.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.beef.domain.Cut;
+import com.project.beef.repository.CutRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 분석 결과 지연 저장(write-behind) 큐.
+ *
+ * ai.persist.mode=write-behind 이면 요청 스레드는 Cut을 메모리 큐에 넣기만 하고 바로 응답하며,
+ * 백그라운드 flusher 스레드가 batch-size 단위(또는 flush-interval 마다)로 모아서 한 트랜잭션에 저장합니다.
+ * (Cut.id가 pooled 시퀀스이므로 Hibernate JDBC batch insert가 적용됩니다.)
+ *
+ * 큐가 가득 찼을 때의 동작(overflow):
+ *  - BLOCK       : offer-timeout 동안 기다린 뒤에도 자리가 없으면 요청 스레드에서 직접 저장
+ *  - CALLER_RUNS : 기다리지 않고 바로 요청 스레드에서 직접 저장
+ *  - REJECT      : IllegalStateException (호출한 쪽에서 오류 응답)
+ * 애플리케이션 종료 시(stop)에는 큐에 남은 항목을 모두 저장한 뒤 종료합니다.
+ *
+ * batch 저장이 실패하면(DB 일시 장애, 데드락 등) retry-attempts 번까지 지수 backoff로 다시 시도하고,
+ * 그래도 실패하면 한 건씩 나눠 저장하여 문제가 있는 행만 버립니다. (한 행 때문에 batch 전체를 잃지 않음)
+ */
+@Component
+@Slf4j
+public class CutWriteBehindQueue implements SmartLifecycle {
+
+    public enum Overflow { BLOCK, CALLER_RUNS, REJECT }
+
+    private final CutRepository cutRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final BlockingQueue<Cut> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final Overflow overflow;
+    private final int retryAttempts;
+    private final long retryBackoffMs;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong callerRuns = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong rowFallbacks = new AtomicLong();
+
+    // enqueue는 read lock 안에서 running 확인 + offer를 하고, stop은 write lock으로 running을 내립니다.
+    // 확인과 offer 사이에 flusher가 종료되어 항목이 큐에 남은 채 버려지는 일을 막습니다.
+    private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread flusher;
+
+    public CutWriteBehindQueue(
+            CutRepository cutRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${ai.persist.mode:sync}") String mode,
+            @Value("${ai.persist.queue-capacity:10000}") int queueCapacity,
+            @Value("${ai.persist.batch-size:50}") int batchSize,
+            @Value("${ai.persist.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${ai.persist.offer-timeout-ms:100}") long offerTimeoutMs,
+            @Value("${ai.persist.overflow:BLOCK}") Overflow overflow,
+            @Value("${ai.persist.retry-attempts:3}") int retryAttempts,
+            @Value("${ai.persist.retry-backoff-ms:200}") long retryBackoffMs) {
+        this.cutRepository = cutRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = "write-behind".equalsIgnoreCase(mode);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.overflow = overflow;
+        this.retryAttempts = Math.max(1, retryAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+
+        Gauge.builder("beef.persist.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 분석 결과 수")
+                .register(meterRegistry);
+        registerCounter(meterRegistry, "beef.persist.enqueued", enqueued, "큐에 넣은 분석 결과 수");
+        registerCounter(meterRegistry, "beef.persist.written", written, "DB에 저장한 분석 결과 수");
+        registerCounter(meterRegistry, "beef.persist.caller.runs", callerRuns, "큐가 가득 차 요청 스레드에서 직접 저장한 수");
+        registerCounter(meterRegistry, "beef.persist.failed", failed, "재시도와 한 건씩 저장까지 실패해 버린 수");
+        registerCounter(meterRegistry, "beef.persist.retries", retries, "batch 저장 재시도 횟수");
+    }
+
+    private static void registerCounter(MeterRegistry meterRegistry, String name, AtomicLong count, String description) {
+        FunctionCounter.builder(name, count, AtomicLong::get)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 저장할 Cut을 큐에 넣습니다. 큐를 쓸 수 없는 상황(종료 중, 가득 참)에는 overflow 정책에 따라 처리합니다.
+     */
+    public void enqueue(Cut cut) throws InterruptedException {
+        boolean open;
+        boolean accepted = false;
+        stateLock.readLock().lock();
+        try {
+            open = running;
+            if (open) {
+                accepted = switch (overflow) {
+                    case BLOCK -> queue.offer(cut, offerTimeoutMs, TimeUnit.MILLISECONDS);
+                    case CALLER_RUNS, REJECT -> queue.offer(cut);
+                };
+            }
+        } finally {
+            stateLock.readLock().unlock();
+        }
+        if (!open) {
+            // 아직 시작 전이거나 종료 중이면 유실되지 않도록 직접 저장
+            writeNow(List.of(cut));
+            return;
+        }
+        if (accepted) {
+            enqueued.incrementAndGet();
+            return;
+        }
+        if (overflow == Overflow.REJECT) {
+            throw new IllegalStateException("저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        callerRuns.incrementAndGet();
+        writeNow(List.of(cut));
+    }
+
+    private void flushLoop() {
+        List<Cut> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Cut first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void drainRemaining() {
+        List<Cut> batch = new ArrayList<>(batchSize);
+        while (!queue.isEmpty()) {
+            batch.clear();
+            queue.drainTo(batch, batchSize);
+            writeBatch(batch);
+        }
+    }
+
+    /**
+     * batch를 저장합니다. 실패하면 backoff 후 다시 시도하고, 끝내 실패하면 한 건씩 저장해 실패한 행만 버립니다.
+     */
+    void writeBatch(List<Cut> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                writeNow(batch);
+                return;
+            } catch (RuntimeException e) {
+                resetIds(batch);
+                if (attempt >= retryAttempts) {
+                    log.warn("지연 저장 batch 실패 ({}건, {}회 시도) - 한 건씩 저장합니다", batch.size(), attempt, e);
+                    break;
+                }
+                retries.incrementAndGet();
+            }
+            try {
+                Thread.sleep(retryBackoffMs << (attempt - 1));
+            } catch (InterruptedException e) {
+                // 더 기다리지 않고 바로 한 건씩 저장 시도
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        rowFallbacks.incrementAndGet();
+        for (Cut cut : batch) {
+            try {
+                writeNow(List.of(cut));
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.error("지연 저장 실패 - 항목을 버립니다 (memberId={}, imageHash={})", cut.getMemberId(), cut.getImageHash(), e);
+            }
+        }
+    }
+
+    // 롤백된 시도에서 시퀀스로 받은 id가 남아 있으면 다음 saveAll이 insert가 아닌 merge로 처리하므로 비움
+    private static void resetIds(List<Cut> cuts) {
+        cuts.forEach(cut -> cut.setId(null));
+    }
+
+    private void writeNow(List<Cut> cuts) {
+        transactionTemplate.executeWithoutResult(status -> cutRepository.saveAll(cuts));
+        written.addAndGet(cuts.size());
+    }
+
+    /**
+     * 큐 상태 (GET /api/cut/persist/stats)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", enabled ? "write-behind" : "sync");
+        result.put("queueDepth", queue.size());
+        result.put("queueRemainingCapacity", queue.remainingCapacity());
+        result.put("enqueued", enqueued.get());
+        result.put("written", written.get());
+        result.put("callerRuns", callerRuns.get());
+        result.put("failed", failed.get());
+        result.put("retries", retries.get());
+        result.put("rowFallbacks", rowFallbacks.get());
+        return result;
+    }
+
+    // ----------------------------------------------------
+    // SmartLifecycle: 웹 서버가 요청 수신을 멈춘 뒤에 stop 되도록 낮은 phase 사용
+    // ----------------------------------------------------
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "cut-write-behind");
+        flusher.setDaemon(false);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        // 인터럽트하지 않고 running만 내리면 flusher가 큐를 끝까지 비운 뒤 스스로 종료합니다.
+        // (인터럽트 상태에서는 커넥션 풀에서 커넥션을 얻지 못해 남은 항목을 저장할 수 없음)
+        stateLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // write lock 이후에는 새 항목이 들어오지 않음. join이 시간 초과된 경우 등 큐에 남은 항목을 마저 저장
+        drainRemaining();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,277 @@
+package com.project.beef.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.project.beef.util.SpooledImage;
+
+/**
+ * AI 서버로 보내기 전 이미지 전처리 (선택 기능, ai.preprocess.enabled).
+ *
+ * AI 서버는 어차피 모델 입력 크기로 리사이즈하므로, 휴대폰 원본 사진(수 MB)을 그대로 두 번 보낼 필요가 없습니다.
+ * 한 번 디코딩 → EXIF 회전 적용 → 최대 변 길이(max-dimension)로 축소 → EXIF 없이 JPEG로 재인코딩하고,
+ * 부위/등급 두 호출이 이 작은 결과를 같이 사용합니다.
+ * 디코딩할 수 없는 형식이거나 재인코딩 결과가 더 크면 원본을 그대로 보냅니다.
+ *
+ * 작은 파일이 거대한 해상도로 풀리는 이미지(decompression bomb)로 힙이 고갈되지 않도록, 디코딩 전에 헤더의 가로×세로를
+ * max-pixels와 비교해 거절하고, 큰 사진은 원본 해상도로 풀지 않고 서브샘플링하며 디코딩합니다.
+ */
+@Component
+public class ImagePreprocessor {
+
+    static {
+        // ImageIO가 디코딩 중 임시 파일 캐시를 만들지 않도록 (메모리 스트림으로 충분)
+        ImageIO.setUseCache(false);
+    }
+
+    private final boolean enabled;
+    private final int maxDimension;
+    private final float jpegQuality;
+    private final long maxPixels;
+
+    public ImagePreprocessor(
+            @Value("${ai.preprocess.enabled:false}") boolean enabled,
+            @Value("${ai.preprocess.max-dimension:1280}") int maxDimension,
+            @Value("${ai.preprocess.jpeg-quality:0.9}") float jpegQuality,
+            @Value("${ai.preprocess.max-pixels:100000000}") long maxPixels) {
+        this.enabled = enabled;
+        this.maxDimension = maxDimension;
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * 전처리된 이미지를 반환합니다. 전처리하지 않으면 original을 그대로 반환합니다.
+     * 캐시/저장 키가 바뀌지 않도록 결과의 sha256은 원본 값을 유지합니다.
+     */
+    public SpooledImage preprocess(SpooledImage original) throws IOException {
+        if (!enabled) {
+            return original;
+        }
+
+        int orientation = readExifOrientation(original);
+        BufferedImage decoded = decode(original, maxDimension, maxPixels);
+        if (decoded == null) {
+            // ImageIO가 모르는 형식(HEIC 등)은 원본 그대로 전송
+            return original;
+        }
+
+        byte[] encoded = encodeJpeg(resize(decoded, orientation, maxDimension), jpegQuality);
+        if (encoded.length >= original.getSize()) {
+            return original;
+        }
+        return SpooledImage.of(encoded, toJpegFilename(original.getFilename()), original.getSha256());
+    }
+
+    /**
+     * 헤더에서 해상도를 먼저 읽어 maxPixels를 넘으면 디코딩하지 않고 거절합니다.
+     * 긴 변이 목표(maxDimension)의 2배 이상이면 N픽셀마다 1픽셀만 읽어(source subsampling) 디코딩 메모리를 줄이고,
+     * 목표의 2배 이상은 남겨 이후 단계적 축소(resize)로 화질을 유지합니다. 읽을 수 없는 형식이면 null.
+     */
+    static BufferedImage decode(SpooledImage image, int maxDimension, long maxPixels) throws IOException {
+        try (InputStream in = image.openStream();
+                ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = iis == null ? null : ImageIO.getImageReaders(iis);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IOException("이미지 해상도가 너무 큽니다 (" + width + "x" + height + ", 최대 " + maxPixels + "픽셀)");
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int period = subsamplingPeriod(Math.max(width, height), maxDimension);
+                if (period > 1) {
+                    param.setSourceSubsampling(period, period, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 서브샘플링 후에도 긴 변이 maxDimension * 2 이상 남는 가장 큰 간격
+    static int subsamplingPeriod(int longSide, int maxDimension) {
+        return Math.max(1, longSide / (maxDimension * 2));
+    }
+
+    // ----------------------------------------------------
+    // 리사이즈 / 인코딩 (벤치마크에서도 사용하므로 package-private static)
+    // ----------------------------------------------------
+
+    static BufferedImage resize(BufferedImage src, int orientation, int maxDimension) {
+        boolean swapsAxes = orientation >= 5 && orientation <= 8;
+        int w = swapsAxes ? src.getHeight() : src.getWidth();
+        int h = swapsAxes ? src.getWidth() : src.getHeight();
+
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(w, h));
+        int targetW = Math.max(1, (int) Math.round(w * scale));
+        int targetH = Math.max(1, (int) Math.round(h * scale));
+
+        // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소 (첫 단계에서 회전도 같이 적용)
+        BufferedImage current = src;
+        AffineTransform pending = orientationTransform(orientation, src.getWidth(), src.getHeight());
+        do {
+            int nextW = Math.max(targetW, w / 2);
+            int nextH = Math.max(targetH, h / 2);
+            AffineTransform t = AffineTransform.getScaleInstance((double) nextW / w, (double) nextH / h);
+            t.concatenate(pending);
+            current = draw(current, t, nextW, nextH);
+            pending = new AffineTransform();
+            w = nextW;
+            h = nextH;
+        } while (w != targetW || h != targetH);
+        return current;
+    }
+
+    static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("JPEG ImageWriter를 찾을 수 없습니다.");
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(ios);
+            // 메타데이터(null)를 넘기지 않으므로 EXIF/GPS 등은 모두 제거됩니다.
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static BufferedImage draw(BufferedImage src, AffineTransform transform, int width, int height) {
+        // 투명도가 있는 PNG도 JPEG로 저장할 수 있도록 흰 배경의 RGB 이미지로 그림
+        BufferedImage dst = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return dst;
+    }
+
+    /**
+     * EXIF Orientation(1~8) 값을 원본 좌표 → 바로 세운 좌표 변환으로 바꿉니다.
+     * EXIF를 제거하면 회전 정보도 사라지므로 픽셀에 직접 적용해야 AI 서버가 보는 방향이 바뀌지 않습니다.
+     */
+    private static AffineTransform orientationTransform(int orientation, int w, int h) {
+        switch (orientation) {
+            case 2: return new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3: return new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4: return new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5: return new AffineTransform(0, 1, 1, 0, 0, 0);    // transpose
+            case 6: return new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7: return new AffineTransform(0, -1, -1, 0, h, w);  // transverse
+            case 8: return new AffineTransform(0, -1, 1, 0, 0, w);   // 반시계 방향 90도
+            default: return new AffineTransform();
+        }
+    }
+
+    /**
+     * JPEG의 APP1(Exif) 세그먼트에서 Orientation 태그(0x0112)만 읽습니다. 없거나 JPEG가 아니면 1.
+     */
+    static int readExifOrientation(SpooledImage image) throws IOException {
+        byte[] head;
+        try (InputStream in = image.openStream()) {
+            head = in.readNBytes(128 * 1024);
+        }
+        return readExifOrientation(head);
+    }
+
+    static int readExifOrientation(byte[] jpeg) {
+        if (jpeg.length < 4 || u8(jpeg, 0) != 0xFF || u8(jpeg, 1) != 0xD8) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= jpeg.length && u8(jpeg, pos) == 0xFF) {
+            int marker = u8(jpeg, pos + 1);
+            int length = (u8(jpeg, pos + 2) << 8) | u8(jpeg, pos + 3);
+            if (marker == 0xDA || length < 2) {
+                break; // 이미지 데이터 시작 (SOS) 이후에는 EXIF가 없음
+            }
+            int segment = pos + 4;
+            if (marker == 0xE1 && segment + 14 <= jpeg.length
+                    && jpeg[segment] == 'E' && jpeg[segment + 1] == 'x' && jpeg[segment + 2] == 'i' && jpeg[segment + 3] == 'f') {
+                return readTiffOrientation(jpeg, segment + 6, Math.min(jpeg.length, pos + 2 + length));
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int readTiffOrientation(byte[] b, int tiff, int end) {
+        boolean little = b[tiff] == 'I' && b[tiff + 1] == 'I';
+        int ifd = tiff + u32(b, tiff + 4, little);
+        if (ifd < tiff || ifd + 2 > end) {
+            return 1;
+        }
+        int count = u16(b, ifd, little);
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (u16(b, entry, little) == 0x0112) {
+                int value = u16(b, entry + 8, little);
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int u8(byte[] b, int i) {
+        return b[i] & 0xFF;
+    }
+
+    private static int u16(byte[] b, int i, boolean little) {
+        return little ? (u8(b, i) | (u8(b, i + 1) << 8)) : ((u8(b, i) << 8) | u8(b, i + 1));
+    }
+
+    private static int u32(byte[] b, int i, boolean little) {
+        return little
+                ? (u16(b, i, true) | (u16(b, i + 2, true) << 16))
+                : ((u16(b, i, false) << 16) | u16(b, i + 2, false));
+    }
+
+    private static String toJpegFilename(String filename) {
+        if (filename == null || filename.isBlank()) {
+            return "upload.jpg";
+        }
+        int dot = filename.lastIndexOf('.');
+        return (dot > 0 ? filename.substring(0, dot) : filename) + ".jpg";
+    }
+}
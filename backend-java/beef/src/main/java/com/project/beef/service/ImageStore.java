@@ -0,0 +1,150 @@
+package com.project.beef.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.project.beef.util.SpooledImage;
+
+/**
+ * 업로드 원본 이미지를 보관하는 로컬 content-addressed 저장소.
+ *
+ * 파일 이름이 이미지의 SHA-256이므로 같은 사진은 몇 번을 올려도 한 번만 저장되고(중복 제거),
+ * 한 번 쓴 파일은 바뀌지 않습니다(write-once). Cut.imageHash가 곧 저장소 키입니다.
+ * 한 디렉터리에 파일이 몰리지 않도록 해시 앞 4글자로 2단계 디렉터리를 나눕니다 (ab/cd/abcd...).
+ *
+ * 쓰기는 임시 파일에 다 쓴 뒤 원자적 이동(rename)으로 공개하므로, 읽는 쪽이 쓰다 만 파일을 보는 일은 없습니다.
+ */
+@Component
+public class ImageStore {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final boolean enabled;
+    private final Path root;
+    private final Path tmpDir;
+
+    private final AtomicLong stored = new AtomicLong();
+    private final AtomicLong deduplicated = new AtomicLong();
+    private final AtomicLong storedBytes = new AtomicLong();
+
+    public ImageStore(
+            @Value("${cut.image.store.enabled:true}") boolean enabled,
+            @Value("${cut.image.store.dir:./data/images}") String dir) throws IOException {
+        this.enabled = enabled;
+        this.root = Paths.get(dir).toAbsolutePath().normalize();
+        this.tmpDir = root.resolve("tmp");
+        if (enabled) {
+            Files.createDirectories(tmpDir);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 이미지를 해시 이름으로 저장합니다. 이미 있으면 아무것도 하지 않습니다.
+     * image의 SHA-256은 image 내용(전처리 전 원본)의 해시여야 합니다.
+     */
+    public void store(SpooledImage image) throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Path target = pathOf(image.getSha256());
+        if (Files.exists(target)) {
+            deduplicated.incrementAndGet();
+            return;
+        }
+
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(tmpDir, image.getSha256(), ".part");
+        try {
+            try (InputStream in = image.openStream()) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            // 복사하는 동안 같은 이미지를 다른 요청이 먼저 저장했으면 그 파일을 그대로 사용
+            if (Files.exists(target)) {
+                deduplicated.incrementAndGet();
+                return;
+            }
+            // rename은 대상이 있으면 덮어씀 (POSIX). 위 확인 직후 경합해도 내용이 같은 파일로 바뀔 뿐이라 읽는 쪽에 영향 없음
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            target.toFile().setReadOnly();
+            stored.incrementAndGet();
+            storedBytes.addAndGet(image.getSize());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 저장된 이미지 파일 경로. 해시 형식이 아니거나 저장된 적 없으면 비어 있습니다.
+     */
+    public Optional<Path> find(String sha256) {
+        if (!enabled || sha256 == null || !SHA256_HEX.matcher(sha256).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(sha256);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * 파일 앞부분(magic number)으로 이미지 형식을 판별합니다. 업로드 시 Content-Type은 믿을 수 없으므로 저장하지 않습니다.
+     */
+    public String contentType(Path path) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate(12);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (head.hasRemaining() && channel.read(head) > 0) {
+                // 12바이트를 채울 때까지 읽음
+            }
+        }
+        byte[] b = head.array();
+        int n = head.position();
+        if (n >= 3 && (b[0] & 0xFF) == 0xFF && (b[1] & 0xFF) == 0xD8 && (b[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        if (n >= 8 && (b[0] & 0xFF) == 0x89 && b[1] == 'P' && b[2] == 'N' && b[3] == 'G') {
+            return "image/png";
+        }
+        if (n >= 12 && b[0] == 'R' && b[1] == 'I' && b[2] == 'F' && b[3] == 'F'
+                && b[8] == 'W' && b[9] == 'E' && b[10] == 'B' && b[11] == 'P') {
+            return "image/webp";
+        }
+        if (n >= 6 && b[0] == 'G' && b[1] == 'I' && b[2] == 'F') {
+            return "image/gif";
+        }
+        return "application/octet-stream";
+    }
+
+    private Path pathOf(String sha256) {
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    /**
+     * 저장/중복 제거 건수 (GET /api/cut/image/stats)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("root", root.toString());
+        result.put("stored", stored.get());
+        result.put("deduplicated", deduplicated.get());
+        result.put("storedBytes", storedBytes.get());
+        return result;
+    }
+}
@@ -0,0 +1,192 @@
+package com.project.beef.service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 로그인 실패 횟수 제한 (메모리 슬라이딩 윈도우).
+ *
+ * 최근 window-seconds 동안의 실패 시각을 이메일별 / IP별로 보관하고, 한도를 넘으면 비밀번호 검증(BCrypt)을
+ * 하기 전에 바로 거절합니다. 존재하지 않는 이메일로의 시도도 실패로 집계합니다.
+ *
+ * 한도 확인과 기록은 tryAcquire()에서 한 번에 합니다. 허용된 시도는 검증 전에 실패로 미리 기록(예약)되므로,
+ * 동시에 들어온 시도들이 모두 확인을 통과한 뒤 실패가 기록되어 한도를 넘는 일이 없습니다.
+ * 로그인에 성공하면 해당 이메일의 기록은 지우고 IP에서는 이번 예약만 취소합니다.
+ * (IP의 다른 실패 기록은 유지 → 한 IP에서 여러 계정을 시도하는 경우 차단)
+ * 오래 시도가 없는 키는 캐시에서 자동으로 제거되며, 키 수는 max-tracked-keys로 제한합니다.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final long windowNanos;
+    private final int maxPerEmail;
+    private final int maxPerIp;
+    private final Cache<String, SlidingWindow> windows;
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong blockedByEmail = new AtomicLong();
+    private final AtomicLong blockedByIp = new AtomicLong();
+
+    @Autowired
+    public LoginAttemptLimiter(
+            @Value("${auth.throttle.window-seconds:300}") long windowSeconds,
+            @Value("${auth.throttle.max-failures-per-email:5}") int maxPerEmail,
+            @Value("${auth.throttle.max-failures-per-ip:30}") int maxPerIp,
+            @Value("${auth.throttle.max-tracked-keys:100000}") long maxTrackedKeys) {
+        this(windowSeconds, maxPerEmail, maxPerIp, maxTrackedKeys, System::nanoTime);
+    }
+
+    /**
+     * nanoClock: 윈도우 계산에 쓰는 시계 (테스트에서 시간을 직접 움직이기 위해 주입)
+     */
+    LoginAttemptLimiter(long windowSeconds, int maxPerEmail, int maxPerIp, long maxTrackedKeys, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        this.maxPerEmail = maxPerEmail;
+        this.maxPerIp = maxPerIp;
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(Duration.ofSeconds(windowSeconds))
+                .build();
+    }
+
+    /**
+     * 한도 안이면 이번 시도를 실패로 미리 기록하고 허용합니다.
+     * 막아야 하면 Attempt.getRetryAfterSeconds()에 다시 시도할 수 있을 때까지 남은 초(Retry-After)가 들어 있습니다.
+     *
+     * 허용된 시도는 검증 결과에 따라 onSuccess() 또는 cancel()로 끝내고, 비밀번호가 틀렸으면 그대로 둡니다.
+     */
+    public Attempt tryAcquire(String email, String ip) {
+        long now = nanoClock.getAsLong();
+        String ipKey = ipKey(ip);
+        String emailKey = emailKey(email);
+
+        long byIp = windows.get(ipKey, key -> new SlidingWindow()).tryAdd(now, windowNanos, maxPerIp);
+        if (byIp > 0) {
+            blockedByIp.incrementAndGet();
+            return new Attempt(toSeconds(byIp), ipKey, emailKey, now);
+        }
+        long byEmail = windows.get(emailKey, key -> new SlidingWindow()).tryAdd(now, windowNanos, maxPerEmail);
+        if (byEmail > 0) {
+            remove(ipKey, now);
+            blockedByEmail.incrementAndGet();
+            return new Attempt(toSeconds(byEmail), ipKey, emailKey, now);
+        }
+        return new Attempt(0, ipKey, emailKey, now);
+    }
+
+    /**
+     * 로그인 성공: 이메일 기록을 지우고 IP에 예약한 실패를 취소합니다.
+     */
+    public void onSuccess(Attempt attempt) {
+        windows.invalidate(attempt.emailKey);
+        remove(attempt.ipKey, attempt.reservedAt);
+    }
+
+    /**
+     * 비밀번호를 검증하지 못하고 끝난 시도 (해시 스레드 풀 포화 등): 예약한 실패를 모두 취소합니다.
+     */
+    public void cancel(Attempt attempt) {
+        remove(attempt.ipKey, attempt.reservedAt);
+        remove(attempt.emailKey, attempt.reservedAt);
+    }
+
+    private void remove(String key, long reservedAt) {
+        SlidingWindow window = windows.getIfPresent(key);
+        if (window != null) {
+            window.remove(reservedAt);
+        }
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + 999_999_999L));
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String ipKey(String ip) {
+        return "ip:" + ip;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("trackedKeys", windows.estimatedSize());
+        result.put("blockedByEmail", blockedByEmail.get());
+        result.put("blockedByIp", blockedByIp.get());
+        return result;
+    }
+
+    /**
+     * tryAcquire() 결과. 허용되지 않았으면 retryAfterSeconds > 0
+     */
+    public static final class Attempt {
+
+        private final long retryAfterSeconds;
+        private final String ipKey;
+        private final String emailKey;
+        private final long reservedAt;
+
+        private Attempt(long retryAfterSeconds, String ipKey, String emailKey, long reservedAt) {
+            this.retryAfterSeconds = retryAfterSeconds;
+            this.ipKey = ipKey;
+            this.emailKey = emailKey;
+            this.reservedAt = reservedAt;
+        }
+
+        public boolean isAllowed() {
+            return retryAfterSeconds == 0;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+
+    /**
+     * 키 하나의 실패 시각 목록. 오래된 항목은 조회/추가할 때 앞에서부터 제거합니다.
+     */
+    private static final class SlidingWindow {
+
+        private final Deque<Long> failures = new ArrayDeque<>();
+
+        /**
+         * 한도 안이면 now를 기록하고 0, 아니면 기록하지 않고 남은 나노초. 확인과 기록이 같은 락 안에서 일어납니다.
+         */
+        synchronized long tryAdd(long now, long windowNanos, int max) {
+            evict(now, windowNanos);
+            if (failures.size() < max) {
+                failures.addLast(now);
+                return 0;
+            }
+            // 실패 수가 한도 아래로 내려가는 시점 = 앞에서 (size - max + 1)번째 항목이 윈도우를 벗어나는 시점
+            long oldestBlocking = failures.stream().skip(failures.size() - max).findFirst().orElse(now);
+            return oldestBlocking + windowNanos - now;
+        }
+
+        synchronized void remove(long reservedAt) {
+            failures.removeLastOccurrence(reservedAt);
+        }
+
+        private void evict(long now, long windowNanos) {
+            while (!failures.isEmpty() && now - failures.peekFirst() >= windowNanos) {
+                failures.removeFirst();
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.beef.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.project.beef.domain.Member;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 이메일 → 회원 조회 캐시 (로그인, 토큰으로 회원을 찾는 요청).
+ *
+ * 없는 이메일도 "없음"(빈 Optional)으로 짧게(negative-ttl-seconds) 저장해, 존재하지 않는 계정에 대한
+ * 무차별 대입이 매번 DB까지 가지 않도록 합니다. Caffeine은 자주 쓰이는 항목을 우선 남기므로(W-TinyLFU)
+ * 한 번씩만 조회되는 가짜 이메일이 많이 들어와도 실제 회원 항목이 밀려나지 않습니다.
+ *
+ * 키는 요청한 이메일 문자열 그대로입니다 (대소문자 정규화는 DB collation에 맡김).
+ * 가입 / 회원 정보 변경 시 evict()로 지우며, 트랜잭션 안이면 커밋 직후에 한 번 더 지워
+ * 커밋 전에 다른 요청이 읽어 간 옛 값이 남지 않게 합니다.
+ * 적중률은 /actuator/prometheus 의 cache_gets_total{cache="member"} 와 GET /auth/password/stats 에서 확인합니다.
+ */
+@Component
+public class MemberCache {
+
+    private final boolean enabled;
+    private final Cache<String, Optional<Member>> cache;
+    private final Counter negativeHits;
+
+    // 조회 중(DB 읽기 ~ put 사이)에 evict가 일어났는지 확인하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    public MemberCache(
+            MeterRegistry meterRegistry,
+            @Value("${member.cache.enabled:true}") boolean enabled,
+            @Value("${member.cache.max-size:10000}") long maxSize,
+            @Value("${member.cache.ttl-minutes:10}") long ttlMinutes,
+            @Value("${member.cache.negative-ttl-seconds:60}") long negativeTtlSeconds) {
+        this.enabled = enabled;
+        long ttlNanos = Duration.ofMinutes(ttlMinutes).toNanos();
+        long negativeTtlNanos = Duration.ofSeconds(negativeTtlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Optional<Member>>() {
+                    @Override
+                    public long expireAfterCreate(String email, Optional<Member> member, long currentTime) {
+                        return member.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String email, Optional<Member> member, long currentTime, long currentDuration) {
+                        return expireAfterCreate(email, member, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String email, Optional<Member> member, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "member");
+        this.negativeHits = Counter.builder("beef.member.cache.negative.hits")
+                .description("없는 이메일 조회가 DB 대신 캐시에서 끝난 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 없으면 loader(DB 조회)로 읽어 저장합니다. 없는 회원이면 null.
+     *
+     * Cache.get(key, loader)는 읽는 동안 해시 버킷을 synchronized로 잡고 있어 가상 스레드 모드에서 고정(pinning)이 생기므로,
+     * 같은 이메일을 동시에 조회하면 DB를 두 번 읽는 것을 감수하고 getIfPresent → 조회 → put 으로 처리합니다.
+     */
+    public Member get(String email, Function<String, Optional<Member>> loader) {
+        if (!enabled || email == null) {
+            return loader.apply(email).orElse(null);
+        }
+        Optional<Member> cached = cache.getIfPresent(email);
+        if (cached != null) {
+            if (cached.isEmpty()) {
+                negativeHits.increment();
+            }
+            return cached.orElse(null);
+        }
+        long seen = generation.get();
+        Optional<Member> loaded = loader.apply(email);
+        if (generation.get() == seen) {
+            cache.put(email, loaded);
+            // 확인과 put 사이에 evict가 끼어들었으면 방금 넣은 값(옛 값일 수 있음)을 다시 뺌
+            if (generation.get() != seen) {
+                cache.asMap().remove(email, loaded);
+            }
+        }
+        return loaded.orElse(null);
+    }
+
+    /**
+     * 가입 / 회원 정보(비밀번호 등) 변경 시 호출합니다.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(email);
+                }
+            });
+        }
+    }
+
+    private void invalidate(String email) {
+        generation.incrementAndGet();
+        cache.invalidate(email);
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("negativeHitCount", (long) negativeHits.count());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+}
@@ -1,6 +1,5 @@
 package com.project.beef.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,12 +14,13 @@ import lombok.RequiredArgsConstructor;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashService passwordHashService;
+    private final MemberCache memberCache;
 
     // 회원가입 로직
     public Long join(Member member) {
-        // 비밀번호 암호화 (BCrypt 사용)
-        String encodedPassword = passwordEncoder.encode(member.getPassword());
+        // 비밀번호 암호화 (BCrypt 사용, 전용 해시 스레드 풀에서 계산)
+        String encodedPassword = passwordHashService.encode(member.getPassword());
         
         // 암호화된 비밀번호로 다시 셋팅 (빌더 패턴 사용 시 편리)
         Member encryptedMember = Member.builder()
@@ -29,10 +29,33 @@ public class MemberService {
                 .name(member.getName())
                 .build();
 
-        return memberRepository.save(encryptedMember).getMno();
+        Long mno = memberRepository.save(encryptedMember).getMno();
+        // 가입 전에 조회되어 "없음"으로 캐시된 이메일 제거
+        memberCache.evict(encryptedMember.getEmail());
+        return mno;
     }
     
+    // 로그인 / 토큰 인증 요청의 회원 조회 (MemberCache를 거치므로 없는 이메일 반복 조회도 DB까지 가지 않음)
     public Member findByEmail(String email) {
-        return memberRepository.findByEmail(email).orElse(null);
+        return memberCache.get(email, memberRepository::findByEmail);
+    }
+
+    // 로그인 검증 (회원이 없으면 해시 계산 없이 바로 실패)
+    public boolean matchesPassword(Member member, String rawPassword) {
+        return member != null && passwordHashService.matches(rawPassword, member.getPassword());
+    }
+
+    /**
+     * 로그인 성공 후 저장된 해시의 cost가 현재 설정과 다르면 새 cost로 다시 해시합니다.
+     * 평문 비밀번호는 로그인 순간에만 알 수 있으므로 이 시점에만 가능합니다.
+     */
+    public void rehashIfNeeded(Member member, String rawPassword) {
+        if (!passwordHashService.needsRehash(member.getPassword())) {
+            return;
+        }
+        String encodedPassword = passwordHashService.encode(rawPassword);
+        memberRepository.findById(member.getMno()).ifPresent(saved -> saved.changePassword(encodedPassword));
+        memberCache.evict(member.getEmail());
+        passwordHashService.recordRehash();
     }
 }
\ No newline at end of file
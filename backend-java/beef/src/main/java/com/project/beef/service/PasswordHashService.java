@@ -0,0 +1,143 @@
+package com.project.beef.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 비밀번호 해시 계산/검증 전용 서비스.
+ *
+ * BCrypt는 일부러 느린(CPU를 많이 쓰는) 연산이므로, 서블릿 스레드에서 바로 돌리지 않고
+ * 크기가 정해진 passwordHashExecutor에서만 실행합니다. 로그인 폭주(credential stuffing) 시에도
+ * 해시 계산에 쓰는 CPU는 스레드 수만큼으로 제한되고, 큐가 가득 차면 TaskRejectedException(→ 503)으로 바로 거절합니다.
+ */
+@Service
+public class PasswordHashService {
+
+    // $2a$10$... / $2b$12$... 형식에서 cost(log rounds)
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor hashExecutor;
+    private final int bcryptStrength;
+    private final long waitTimeoutMs;
+
+    private final Timer hashTimer;
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong rehashed = new AtomicLong();
+
+    public PasswordHashService(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor hashExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${auth.password.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${auth.password.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.hashExecutor = hashExecutor;
+        this.bcryptStrength = bcryptStrength;
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        this.hashTimer = Timer.builder("beef.password.hash")
+                .description("해시 스레드에서 BCrypt 계산/검증에 걸린 시간 (큐 대기 제외)")
+                .register(meterRegistry);
+        Gauge.builder("beef.password.hash.queue.depth", hashExecutor, executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("해시 계산을 기다리는 로그인/회원가입 요청 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("beef.password.hash.rejected", rejected, AtomicLong::get)
+                .description("큐가 가득 차거나 대기 시간을 넘어 거절한 해시 요청 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("beef.password.rehashed", rehashed, AtomicLong::get)
+                .description("로그인 시 현재 cost로 다시 해시한 비밀번호 수")
+                .register(meterRegistry);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 설정(auth.password.bcrypt-strength)과 다르면 true.
+     * 로그인 성공 시 평문을 알고 있을 때만 다시 해시할 수 있으므로 로그인 경로에서 확인합니다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != bcryptStrength;
+    }
+
+    public void recordRehash() {
+        rehashed.incrementAndGet();
+    }
+
+    private <T> T run(Callable<T> hashTask) {
+        Future<T> future;
+        try {
+            future = hashExecutor.submit(() -> hashTimer.recordCallable(hashTask));
+        } catch (TaskRejectedException e) {
+            rejected.incrementAndGet();
+            throw e;
+        }
+
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.incrementAndGet();
+            throw new TaskRejectedException("비밀번호 검증 대기 시간 초과 (" + waitTimeoutMs + "ms)", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new TaskRejectedException("비밀번호 검증 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 해시 소요 시간 / 실행기 큐 상태 (GET /auth/password/stats, 같은 값을 beef.password.* 미터로도 노출)
+     */
+    public Map<String, Object> stats() {
+        ThreadPoolExecutor pool = hashExecutor.getThreadPoolExecutor();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("bcryptStrength", bcryptStrength);
+        result.put("hashCount", hashTimer.count());
+        result.put("avgHashMs", hashTimer.mean(TimeUnit.MILLISECONDS));
+        result.put("maxHashMs", hashTimer.max(TimeUnit.MILLISECONDS));
+        result.put("queueDepth", pool.getQueue().size());
+        result.put("queueRemainingCapacity", pool.getQueue().remainingCapacity());
+        result.put("activeThreads", pool.getActiveCount());
+        result.put("rejected", rejected.get());
+        result.put("rehashed", rehashed.get());
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.beef.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 업로드 이미지의 내용 기반 해시(SHA-256)를 계산하는 유틸리티.
+ * 같은 사진을 다시 올리면 같은 값이 나오므로 캐시 키로 사용합니다.
+ */
+public final class ImageDigest {
+
+    private ImageDigest() {
+    }
+
+    public static String sha256Hex(byte[] bytes) {
+        MessageDigest digest = newDigest();
+        return HexFormat.of().formatHex(digest.digest(bytes));
+    }
+
+    /**
+     * 파일 전체를 힙에 올리지 않고 작은 direct 버퍼로 나눠 읽으면서 해시를 계산합니다.
+     */
+    public static String sha256Hex(Path path) throws IOException {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 하므로 여기 올 일은 없습니다.
+            throw new IllegalStateException(e);
+        }
+    }
+}
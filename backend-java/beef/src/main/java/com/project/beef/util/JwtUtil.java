@@ -1,6 +1,7 @@
 package com.project.beef.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -8,8 +9,13 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import java.security.Key;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
@@ -19,13 +25,51 @@ public class JwtUtil {
     private final Key key;
 
     // 만료 시간 설정 (1시간 = 3600000ms)
-    @Value("${jwt.expiration.time:3600000}") 
-    private long expirationTime;
+    private final long expirationTime;
+
+    // ⭐ 파서는 불변(thread-safe)이므로 한 번만 만들어 모든 요청에서 재사용합니다.
+    private final JwtParser parser;
+
+    // 이미 서명 검증을 마친 토큰 → (subject, 만료 시각). 토큰의 만료 시각이 되면 캐시에서도 제거됩니다.
+    private final boolean cacheEnabled;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    private record VerifiedToken(String subject, long expiresAtMillis) {
+    }
 
-    public JwtUtil(@Value("${jwt.secret.key}") String secretKey) {
+    public JwtUtil(
+            @Value("${jwt.secret.key}") String secretKey,
+            @Value("${jwt.expiration.time:3600000}") long expirationTime,
+            @Value("${jwt.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
         // Base64 디코딩을 통해 Secret Key를 Key 객체로 변환합니다.
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.expirationTime = expirationTime;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key) // ⭐ 이 키로 토큰 서명을 검증합니다.
+                .build();
+        this.cacheEnabled = cacheEnabled;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                        long remainingMillis = verified.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, verified, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     // 토큰 생성
@@ -42,12 +86,22 @@ public class JwtUtil {
     }
 
     // 토큰에서 사용자 이메일 추출 (토큰 검증 포함)
+    // 같은 토큰이 다시 오면 HMAC 검증/JSON 파싱 없이 캐시된 subject를 반환합니다.
     public String extractEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key) // ⭐ 이 키로 토큰 서명을 검증합니다.
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        if (cacheEnabled) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(token);
+            // 캐시 만료는 비동기 정리이므로 만료 시각을 한 번 더 확인
+            if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+                return cached.subject();
+            }
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Date expiration = claims.getExpiration();
+        // 만료 시각이 없는 토큰은 언제까지 유효한지 알 수 없으므로 캐시하지 않음
+        if (cacheEnabled && expiration != null) {
+            verifiedTokens.put(token, new VerifiedToken(claims.getSubject(), expiration.getTime()));
+        }
+        return claims.getSubject();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package com.project.beef.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import lombok.Getter;
+
+/**
+ * 업로드 이미지를 한 번만 보관해 두고 여러 AI 엔드포인트로 다시 보낼 수 있게 해 주는 래퍼.
+ *
+ * 임계값(in-memory threshold) 이하의 작은 파일은 byte[]로, 그보다 큰 파일은 임시 파일로 옮겨 두고
+ * 전송할 때마다 파일에서 바로 스트리밍합니다. 따라서 큰 이미지는 힙에 byte[] 복사본이 생기지 않습니다.
+ * 사용이 끝나면 반드시 close()로 임시 파일을 지워야 합니다 (try-with-resources 권장).
+ */
+public final class SpooledImage implements AutoCloseable {
+
+    @Getter
+    private final String filename;
+    @Getter
+    private final long size;
+    @Getter
+    private final String sha256;
+
+    private final byte[] bytes;   // 메모리 보관 시에만 사용
+    private final Path path;      // 임시 파일 보관 시에만 사용
+    private final boolean ownsFile; // true면 close() 때 path를 지움 (이미지 저장소 파일은 false)
+
+    private SpooledImage(String filename, long size, String sha256, byte[] bytes, Path path, boolean ownsFile) {
+        this.filename = filename;
+        this.size = size;
+        this.sha256 = sha256;
+        this.bytes = bytes;
+        this.path = path;
+        this.ownsFile = ownsFile;
+    }
+
+    public static SpooledImage of(byte[] bytes, String filename) {
+        return of(bytes, filename, ImageDigest.sha256Hex(bytes));
+    }
+
+    /**
+     * 전처리 등으로 내용이 바뀐 이미지에 원본의 해시를 그대로 붙일 때 사용합니다.
+     */
+    public static SpooledImage of(byte[] bytes, String filename, String sha256) {
+        return new SpooledImage(filename, bytes.length, sha256, bytes, null, false);
+    }
+
+    /**
+     * 이미지 저장소에 있는 파일을 복사 없이 그대로 사용합니다 (재분석용). close()해도 파일은 지우지 않습니다.
+     */
+    public static SpooledImage ofStoredFile(Path path, String filename, String sha256) throws IOException {
+        return new SpooledImage(filename, Files.size(path), sha256, null, path, false);
+    }
+
+    public static SpooledImage spool(MultipartFile file, long inMemoryThreshold) throws IOException {
+        if (file.getSize() <= inMemoryThreshold) {
+            return of(file.getBytes(), file.getOriginalFilename());
+        }
+
+        // 톰캣이 이미 디스크에 써 둔 파트라면 transferTo는 복사 없이 이동(rename)으로 처리됩니다.
+        Path temp = Files.createTempFile("beef-upload-", ".img");
+        try {
+            file.transferTo(temp.toFile());
+            return new SpooledImage(file.getOriginalFilename(), Files.size(temp), ImageDigest.sha256Hex(temp), null, temp, true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    public boolean isInMemory() {
+        return bytes != null;
+    }
+
+    public InputStream openStream() throws IOException {
+        return isInMemory() ? new ByteArrayInputStream(bytes) : Files.newInputStream(path);
+    }
+
+    /**
+     * multipart 전송용 Resource. 파일 보관 시에는 요청 본문에 쓰는 시점에 파일에서 바로 읽습니다.
+     */
+    public Resource asResource() {
+        if (isInMemory()) {
+            return new ByteArrayResource(bytes) {
+                @Override
+                public String getFilename() {
+                    return filename;
+                }
+            };
+        }
+        return new FileSystemResource(path) {
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        if (!ownsFile) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // 아직 다른 스레드가 읽는 중이라 지울 수 없는 경우(Windows) 종료 시 정리
+            path.toFile().deleteOnExit();
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package com.project.beef;
 
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
-class BeefApplicationTests {
+import com.project.beef.support.IntegrationTest;
+
+class BeefApplicationTests extends IntegrationTest {
 
 	@Test
 	void contextLoads() {
@@ -0,0 +1,125 @@
+package com.project.beef.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+class AbortableCallTest {
+
+    @Test
+    void abortCancelsRegisteredRequest() throws Exception {
+        AbortableCall call = new AbortableCall();
+        FlagRequest request = new FlagRequest();
+        CountDownLatch registered = new CountDownLatch(1);
+        CountDownLatch aborted = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> future = executor.submit(call.wrap(() -> {
+                AbortableCall.register(request);
+                registered.countDown();
+                aborted.await();
+                return AbortableCall.isCurrentAborted();
+            }));
+            registered.await();
+            call.abort();
+            aborted.countDown();
+
+            assertThat(request.cancelled.get()).isTrue();
+            assertThat(future.get()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void requestStartedAfterAbortIsCancelledImmediately() throws Exception {
+        AbortableCall call = new AbortableCall();
+        call.abort();
+        FlagRequest request = new FlagRequest();
+
+        call.wrap(() -> {
+            AbortableCall.register(request);
+            return null;
+        }).call();
+
+        assertThat(request.cancelled.get()).isTrue();
+    }
+
+    @Test
+    void registerOutsideWrapIsIgnored() {
+        FlagRequest request = new FlagRequest();
+
+        AbortableCall.register(request);
+
+        assertThat(request.cancelled.get()).isFalse();
+        assertThat(AbortableCall.isCurrentAborted()).isFalse();
+    }
+
+    @Test
+    void abortUnblocksHttpRequestWaitingForResponse() throws Exception {
+        // 연결은 받지만 응답하지 않는 서버: interrupt만으로는 read가 풀리지 않음
+        try (ServerSocket server = new ServerSocket(0);
+                CloseableHttpClient httpClient = HttpClients.createDefault()) {
+            CountDownLatch accepted = new CountDownLatch(1);
+            Thread acceptor = new Thread(() -> {
+                try (Socket socket = server.accept()) {
+                    accepted.countDown();
+                    Thread.sleep(60_000);
+                } catch (Exception ignored) {
+                    // 테스트 종료 시 소켓이 닫힘
+                }
+            });
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            RestTemplate restTemplate = new RestTemplate(new AbortableHttpRequestFactory(httpClient));
+            AbortableCall call = new AbortableCall();
+            CountDownLatch finished = new CountDownLatch(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<Object> future = executor.submit(call.wrap(() -> {
+                    try {
+                        return restTemplate.postForObject("http://localhost:" + server.getLocalPort() + "/predict", Map.of(), Map.class);
+                    } finally {
+                        finished.countDown();
+                    }
+                }));
+                assertThat(accepted.await(5, TimeUnit.SECONDS)).isTrue();
+                Thread.sleep(200); // 요청 전송 후 응답 대기 상태가 되도록
+
+                future.cancel(true);
+                call.abort();
+
+                assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+            } finally {
+                executor.shutdownNow();
+                acceptor.interrupt();
+            }
+        }
+    }
+
+    private static final class FlagRequest implements Cancellable {
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        @Override
+        public boolean cancel() {
+            return cancelled.compareAndSet(false, true);
+        }
+    }
+}
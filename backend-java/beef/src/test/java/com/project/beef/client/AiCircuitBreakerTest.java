@@ -0,0 +1,148 @@
+package com.project.beef.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.beef.client.AiCircuitBreaker.Permit;
+import com.project.beef.client.AiCircuitBreaker.State;
+
+class AiCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    // 윈도우 4, 최소 4회, 실패율 50%, 느린 호출 1초/100%, open 30초, half-open 시험 2회
+    private final AiCircuitBreaker breaker = new AiCircuitBreaker("part", 4, 4, 50, 1000, 100, 30_000, 2, clock::get);
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        record(false);
+        record(false);
+        record(true);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        record(true);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isNull();
+        assertThat(breaker.getNotPermittedCount()).isEqualTo(1);
+        assertThat(breaker.getOpenedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void staysOpenUntilOpenDurationElapses() {
+        open();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(29));
+        assertThat(breaker.tryAcquire()).isNull();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(breaker.tryAcquire()).isNotNull();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    }
+
+    @Test
+    void halfOpenLimitsTrialCallsAndClosesAfterAllSucceed() {
+        halfOpen();
+        Permit first = breaker.tryAcquire();
+        Permit second = breaker.tryAcquire();
+        assertThat(breaker.tryAcquire()).isNull();
+
+        breaker.onResult(first, FAST, false);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        breaker.onResult(second, FAST, false);
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void halfOpenReopensOnFailedOrSlowTrial() {
+        halfOpen();
+        breaker.onResult(breaker.tryAcquire(), TimeUnit.SECONDS.toNanos(2), false);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.getOpenedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void lateResultFromBeforeOpeningIsIgnoredAfterRecovery() {
+        Permit stale = breaker.tryAcquire();
+        open();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        breaker.onResult(breaker.tryAcquire(), FAST, false);
+        breaker.onResult(breaker.tryAcquire(), FAST, false);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        // OPEN 전에 나간 호출이 이제야 실패로 끝나도 새 CLOSED 윈도우에 섞이지 않음
+        breaker.onResult(stale, FAST, true);
+
+        assertThat(breaker.stats().get("bufferedCalls")).isEqualTo(0);
+    }
+
+    @Test
+    void staleResultDoesNotConsumeHalfOpenTrials() {
+        Permit stale = breaker.tryAcquire();
+        open();
+        halfOpen();
+        Permit trial = breaker.tryAcquire();
+
+        // 이전 세대의 실패가 시험 호출로 집계되어 다시 OPEN되면 안 됨
+        breaker.onResult(stale, FAST, true);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        breaker.onResult(trial, FAST, false);
+        breaker.onResult(breaker.tryAcquire(), FAST, false);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void staleReleaseDoesNotFreeAHalfOpenSlot() {
+        Permit stale = breaker.tryAcquire();
+        open();
+        halfOpen();
+        breaker.tryAcquire();
+        breaker.tryAcquire();
+
+        breaker.release(stale);
+
+        assertThat(breaker.tryAcquire()).isNull();
+    }
+
+    @Test
+    void releaseReturnsHalfOpenSlotWithoutRecordingResult() {
+        halfOpen();
+        Permit first = breaker.tryAcquire();
+        breaker.tryAcquire();
+
+        breaker.release(first);
+
+        assertThat(breaker.tryAcquire()).isNotNull();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    }
+
+    private void record(boolean failed) {
+        breaker.onResult(breaker.tryAcquire(), FAST, failed);
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            record(true);
+        }
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    private void halfOpen() {
+        if (breaker.getState() == State.CLOSED) {
+            open();
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        // tryAcquire가 HALF_OPEN으로 전환시키므로 허용 하나를 받아 바로 반납
+        breaker.release(breaker.tryAcquire());
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    }
+}
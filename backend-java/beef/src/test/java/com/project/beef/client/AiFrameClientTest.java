@@ -0,0 +1,242 @@
+package com.project.beef.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.project.beef.util.SpooledImage;
+
+class AiFrameClientTest {
+
+    private static final String BASE_URL = "http://127.0.0.1:8000";
+    private static final byte[] IMAGE = "fake-image-bytes".getBytes(StandardCharsets.US_ASCII);
+
+    private final List<Request> received = new CopyOnWriteArrayList<>();
+    private FrameServer server;
+    private AiFrameClient client;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (client != null) {
+            client.close();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void requestFrameCarriesTasksRequestIdAndImage() throws Exception {
+        start(Behavior.OK);
+
+        AiAnalysis result = client.analyze(BASE_URL, image(), true, true, "req-1");
+
+        Request request = received.get(0);
+        assertThat(request.version).isEqualTo(AiFrameClient.VERSION);
+        assertThat(request.tasks).isEqualTo(AiFrameClient.TASK_PART | AiFrameClient.TASK_GRADE);
+        assertThat(request.requestId).isEqualTo("req-1");
+        assertThat(request.image).isEqualTo(IMAGE);
+        assertThat(result).isEqualTo(new AiAnalysis("등심", "부위 설명", "1++", null, "v2"));
+    }
+
+    @Test
+    void singleTaskAndMissingRequestIdAreEncoded() throws Exception {
+        start(Behavior.OK);
+
+        client.analyze(BASE_URL, image(), false, true, null);
+
+        assertThat(received.get(0).tasks).isEqualTo(AiFrameClient.TASK_GRADE);
+        assertThat(received.get(0).requestId).isEmpty();
+    }
+
+    @Test
+    void connectionIsReusedForSequentialRequests() throws Exception {
+        start(Behavior.OK);
+
+        client.analyze(BASE_URL, image(), true, true, "a");
+        client.analyze(BASE_URL, image(), true, true, "b");
+
+        assertThat(client.stats()).containsEntry("connectionsOpened", 1L).containsEntry("connectionsReused", 1L);
+        assertThat(server.accepted).isEqualTo(1);
+    }
+
+    @Test
+    void errorStatusIsReportedAndConnectionKept() throws Exception {
+        start(Behavior.ERROR);
+
+        assertThatThrownBy(() -> client.analyze(BASE_URL, image(), true, true, "a"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("모델 로딩 실패");
+        assertThatThrownBy(() -> client.analyze(BASE_URL, image(), true, true, "b"))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(server.accepted).isEqualTo(1);
+    }
+
+    @Test
+    void staleIdleConnectionIsRetriedOnFreshSocket() throws Exception {
+        start(Behavior.OK_THEN_CLOSE);
+
+        client.analyze(BASE_URL, image(), true, true, "a");
+        AiAnalysis second = client.analyze(BASE_URL, image(), true, true, "b");
+
+        assertThat(second.detectedPart()).isEqualTo("등심");
+        assertThat(client.stats()).containsEntry("staleRetries", 1L).containsEntry("connectionsOpened", 2L);
+    }
+
+    @Test
+    void truncatedResponseBecomesResourceAccessException() throws Exception {
+        start(Behavior.TRUNCATED_STRING);
+
+        assertThatThrownBy(() -> client.analyze(BASE_URL, image(), true, true, "a"))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(client.stats()).containsEntry("idleConnections", 0);
+    }
+
+    @Test
+    void oversizedResponseLengthIsRejected() throws Exception {
+        start(Behavior.HUGE_LENGTH);
+
+        assertThatThrownBy(() -> client.analyze(BASE_URL, image(), true, true, "a"))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasMessageContaining("응답 길이");
+    }
+
+    @Test
+    void unreachableServerBecomesResourceAccessException() throws Exception {
+        int port;
+        try (ServerSocket unused = new ServerSocket(0)) {
+            port = unused.getLocalPort();
+        }
+        client = new AiFrameClient("frame", port, 500, 1000, 4, 30);
+
+        assertThatThrownBy(() -> client.analyze(BASE_URL, image(), true, true, "a"))
+                .isInstanceOf(ResourceAccessException.class);
+    }
+
+    private void start(Behavior behavior) throws IOException {
+        server = new FrameServer(behavior);
+        client = new AiFrameClient("frame", server.socket.getLocalPort(), 1000, 2000, 4, 30);
+    }
+
+    private static SpooledImage image() throws IOException {
+        return SpooledImage.of(IMAGE, "a.jpg");
+    }
+
+    private enum Behavior { OK, ERROR, OK_THEN_CLOSE, TRUNCATED_STRING, HUGE_LENGTH }
+
+    private record Request(int version, int tasks, String requestId, byte[] image) {
+    }
+
+    /**
+     * 한 연결에서 요청 프레임을 읽고 behavior대로 응답하는 최소 프레임 서버 (ai-server/frame_protocol.py와 같은 형식)
+     */
+    private final class FrameServer implements AutoCloseable {
+
+        final ServerSocket socket = new ServerSocket(0);
+        final Behavior behavior;
+        volatile int accepted;
+
+        FrameServer(Behavior behavior) throws IOException {
+            this.behavior = behavior;
+            Thread acceptor = new Thread(this::acceptLoop, "frame-stub");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        private void acceptLoop() {
+            while (!socket.isClosed()) {
+                try {
+                    Socket connection = socket.accept();
+                    accepted++;
+                    Thread handler = new Thread(() -> serve(connection), "frame-stub-conn");
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket connection) {
+            try (connection) {
+                DataInputStream in = new DataInputStream(connection.getInputStream());
+                DataOutputStream out = new DataOutputStream(connection.getOutputStream());
+                while (true) {
+                    received.add(readRequest(in));
+                    switch (behavior) {
+                        case OK, OK_THEN_CLOSE -> writeFrame(out, ok());
+                        case ERROR -> writeFrame(out, error("모델 로딩 실패"));
+                        case TRUNCATED_STRING -> writeFrame(out, new byte[] { 0, 0, 50, 'x' });
+                        case HUGE_LENGTH -> out.writeInt(Integer.MAX_VALUE);
+                    }
+                    out.flush();
+                    if (behavior == Behavior.OK_THEN_CLOSE) {
+                        return;
+                    }
+                }
+            } catch (EOFException e) {
+                // 클라이언트가 연결을 닫음
+            } catch (IOException e) {
+                // 테스트 종료
+            }
+        }
+
+        private Request readRequest(DataInputStream in) throws IOException {
+            in.readInt();
+            int version = in.readUnsignedByte();
+            int tasks = in.readUnsignedByte();
+            byte[] id = in.readNBytes(in.readUnsignedShort());
+            byte[] image = in.readNBytes(in.readInt());
+            return new Request(version, tasks, new String(id, StandardCharsets.UTF_8), image);
+        }
+
+        private byte[] ok() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream payload = new DataOutputStream(bytes);
+            payload.writeByte(0);
+            for (String value : new String[] { "등심", "부위 설명", "1++", "", "v2" }) {
+                writeString(payload, value);
+            }
+            return bytes.toByteArray();
+        }
+
+        private byte[] error(String message) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream payload = new DataOutputStream(bytes);
+            payload.writeByte(1);
+            writeString(payload, message);
+            return bytes.toByteArray();
+        }
+
+        private void writeString(DataOutputStream out, String value) throws IOException {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(encoded.length);
+            out.write(encoded);
+        }
+
+        private void writeFrame(DataOutputStream out, byte[] payload) throws IOException {
+            out.writeInt(payload.length);
+            out.write(payload);
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.project.beef.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.beef.client.AiServerPool.Balancer;
+
+class AiServerPoolTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    void leastOutstandingPicksFewestInFlightPerWeight() {
+        AiServerInstance busy = instance("a", 1);
+        AiServerInstance idle = instance("b", 1);
+        AiServerPool pool = pool(Balancer.LEAST_OUTSTANDING, busy, idle);
+        pool.onStart(busy);
+        pool.onStart(busy);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(pool.choose(null)).isSameAs(idle);
+        }
+
+        // 가중치 4, 진행 중 2 → (2+1)/4 = 0.75 < 가중치 1, 진행 중 0 → 1.0
+        AiServerInstance heavy = instance("c", 4);
+        AiServerInstance light = instance("d", 1);
+        AiServerPool weighted = pool(Balancer.LEAST_OUTSTANDING, heavy, light);
+        weighted.onStart(heavy);
+        weighted.onStart(heavy);
+        assertThat(weighted.choose(null)).isSameAs(heavy);
+    }
+
+    @Test
+    void leastOutstandingRotatesAmongTies() {
+        AiServerInstance a = instance("a", 1);
+        AiServerInstance b = instance("b", 1);
+        AiServerInstance c = instance("c", 1);
+        AiServerPool pool = pool(Balancer.LEAST_OUTSTANDING, a, b, c);
+
+        assertThat(List.of(pool.choose(null), pool.choose(null), pool.choose(null))).containsExactlyInAnyOrder(a, b, c);
+    }
+
+    @Test
+    void smoothWeightedRoundRobinInterleavesByWeight() {
+        AiServerInstance a = instance("a", 5);
+        AiServerInstance b = instance("b", 1);
+        AiServerInstance c = instance("c", 1);
+        AiServerPool pool = pool(Balancer.WEIGHTED_ROUND_ROBIN, a, b, c);
+
+        List<AiServerInstance> picks = new ArrayList<>();
+        for (int i = 0; i < 14; i++) {
+            picks.add(pool.choose(null));
+        }
+
+        // nginx와 같은 순서: 가중치 5인 a도 연속으로 몰리지 않고 b, c 사이에 고르게 섞임
+        List<AiServerInstance> cycle = List.of(a, a, b, a, c, a, a);
+        assertThat(picks.subList(0, 7)).containsExactlyElementsOf(cycle);
+        assertThat(picks.subList(7, 14)).containsExactlyElementsOf(cycle);
+    }
+
+    @Test
+    void unavailableInstancesAreSkippedAndRetryExcludesTheFailedOne() {
+        AiServerInstance a = instance("a", 1);
+        AiServerInstance b = instance("b", 1);
+        AiServerPool pool = pool(Balancer.LEAST_OUTSTANDING, a, b);
+
+        a.onHealthCheck(false, 1);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(pool.choose(null)).isSameAs(b);
+        }
+        assertThat(pool.choose(b)).isNull();
+    }
+
+    @Test
+    void allUnavailableFallsBackToPanicMode() {
+        AiServerInstance a = instance("a", 1);
+        AiServerInstance b = instance("b", 1);
+        AiServerPool pool = pool(Balancer.LEAST_OUTSTANDING, a, b);
+        a.onHealthCheck(false, 1);
+        b.onHealthCheck(false, 1);
+
+        assertThat(pool.choose(null)).isIn(a, b);
+    }
+
+    @Test
+    void ejectionIsCappedByMaxEjectionPercent() {
+        AiServerInstance a = instance("a", 1);
+        AiServerInstance b = instance("b", 1);
+        AiServerPool pool = pool(Balancer.LEAST_OUTSTANDING, a, b);
+
+        fail(pool, a);
+        fail(pool, b);
+
+        assertThat(a.isEjected()).isTrue();
+        assertThat(b.isEjected()).isFalse();
+    }
+
+    @Test
+    void ejectionGrowsWithRepeatsAndDecaysAfterHealthyPeriods() {
+        AiServerInstance a = instance("a", 1);
+        AiServerPool pool = pool(Balancer.LEAST_OUTSTANDING, a, instance("b", 1), instance("c", 1), instance("d", 1));
+
+        fail(pool, a);
+        assertEjectedFor(a, 1);
+        fail(pool, a);
+        assertEjectedFor(a, 2);
+        fail(pool, a);
+        assertEjectedFor(a, 3);
+
+        // 제외가 끝난 뒤 1초(base)마다 성공하면 배수가 하나씩 줄어듦
+        succeed(pool, a);
+        advanceSeconds(1);
+        succeed(pool, a);
+        advanceSeconds(1);
+        succeed(pool, a);
+        assertThat(a.stats().get("ejectionCount")).isEqualTo(1);
+
+        fail(pool, a);
+        assertEjectedFor(a, 2);
+    }
+
+    @Test
+    void ejectionCountDoesNotDecayWithoutAHealthyPeriod() {
+        AiServerInstance a = instance("a", 1);
+        AiServerPool pool = pool(Balancer.LEAST_OUTSTANDING, a, instance("b", 1), instance("c", 1), instance("d", 1));
+
+        fail(pool, a);
+        assertEjectedFor(a, 1);
+        succeed(pool, a);
+        fail(pool, a);
+
+        assertEjectedFor(a, 2);
+    }
+
+    // base-ejection 1초 기준으로 seconds초 동안 제외되는지 확인하고 그 시간만큼 시계를 진행
+    private void assertEjectedFor(AiServerInstance instance, long seconds) {
+        assertThat(instance.isEjected()).isTrue();
+        advanceSeconds(seconds);
+        clock.addAndGet(-1);
+        assertThat(instance.isEjected()).isTrue();
+        clock.addAndGet(1);
+        assertThat(instance.isEjected()).isFalse();
+    }
+
+    private void fail(AiServerPool pool, AiServerInstance instance) {
+        pool.onStart(instance);
+        pool.onFinish(instance, TimeUnit.MILLISECONDS.toNanos(5), true);
+    }
+
+    private void succeed(AiServerPool pool, AiServerInstance instance) {
+        pool.onStart(instance);
+        pool.onFinish(instance, TimeUnit.MILLISECONDS.toNanos(5), false);
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    private AiServerInstance instance(String name, int weight) {
+        return new AiServerInstance("http://" + name + ":5000", weight, clock::get);
+    }
+
+    // 연속 실패 1회면 제외, base 1초, 최대 50%
+    private static AiServerPool pool(Balancer balancer, AiServerInstance... instances) {
+        return new AiServerPool("test", List.of(instances), balancer, 1, 1000, 50);
+    }
+}
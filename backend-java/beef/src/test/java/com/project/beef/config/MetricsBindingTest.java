@@ -0,0 +1,66 @@
+package com.project.beef.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.project.beef.service.PasswordHashService;
+import com.project.beef.support.IntegrationTest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * JSON stats 엔드포인트로만 보이던 값들이 Micrometer 지표로도 등록되는지 확인
+ */
+class MetricsBindingTest extends IntegrationTest {
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    PasswordHashService passwordHashService;
+
+    @Test
+    void aiResultCacheIsMonitored() {
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "ai-result").tag("result", "hit").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "ai-result").tag("result", "miss").functionCounter()).isNotNull();
+    }
+
+    @Test
+    void aiConnectionPoolIsMonitored() {
+        assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.connections")
+                .tag("httpclient", "ai-server").tag("state", "leased").gauge()).isNotNull();
+        assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.pending")
+                .tag("httpclient", "ai-server").gauge()).isNotNull();
+    }
+
+    @Test
+    void breakerStateIsExposedPerTask() {
+        for (String task : new String[] { "part", "grade" }) {
+            assertThat(meterRegistry.get("beef.ai.breaker.state").tag("task", task).tag("state", "closed").gauge().value()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("beef.ai.breaker.state").tag("task", task).tag("state", "open").gauge().value()).isEqualTo(0.0);
+            assertThat(meterRegistry.get("beef.ai.bulkhead.in.use").tag("task", task).gauge().value()).isEqualTo(0.0);
+            assertThat(meterRegistry.find("beef.ai.breaker.not.permitted").tag("task", task).functionCounter()).isNotNull();
+        }
+    }
+
+    @Test
+    void queuesAreExposed() {
+        assertThat(meterRegistry.get("beef.persist.queue.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.get("beef.job.queue.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.get("beef.password.hash.queue.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.find("beef.job.completed").tag("outcome", "failed").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("beef.persist.written").functionCounter()).isNotNull();
+    }
+
+    @Test
+    void passwordHashTimeIsTimed() {
+        long before = meterRegistry.get("beef.password.hash").timer().count();
+
+        passwordHashService.matches("password", passwordHashService.encode("password"));
+
+        assertThat(meterRegistry.get("beef.password.hash").timer().count() - before).isEqualTo(2);
+        assertThat(passwordHashService.stats().get("hashCount")).isEqualTo(before + 2);
+    }
+}
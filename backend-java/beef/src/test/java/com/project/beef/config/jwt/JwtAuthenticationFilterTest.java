@@ -0,0 +1,40 @@
+package com.project.beef.config.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.project.beef.util.JwtUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "QkY2RkYyODczMzk1NkREREM4RjZGNkY3OTg1NjEzNzY0MzQxMTU4Nzc1MzMxM0MyQTc4MkE4RDc0RkU3QzU5Ng==";
+
+    private final JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(new JwtUtil(SECRET, 3_600_000L, true, 100), new SimpleMeterRegistry(), "");
+
+    @Test
+    void publicRoutesSkipTheFilter() throws Exception {
+        assertThat(filter.shouldNotFilter(request("POST", "/auth/login"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("POST", "/auth"))).isTrue();
+        assertThat(filter.shouldNotFilter(request("OPTIONS", "/api/member/me"))).isTrue();
+    }
+
+    @Test
+    void otherRoutesAreFiltered() throws Exception {
+        assertThat(filter.shouldNotFilter(request("GET", "/auth/login"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("POST", "/authx"))).isFalse();
+        assertThat(filter.shouldNotFilter(request("GET", "/api/member/me"))).isFalse();
+        // 분석 API도 토큰이 있으면 검증해야 하므로 필터를 거침
+        assertThat(filter.shouldNotFilter(request("POST", "/api/cut/analyze"))).isFalse();
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,160 @@
+package com.project.beef.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.oneOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.awt.Color;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.jayway.jsonpath.JsonPath;
+import com.project.beef.client.AiServerClient;
+import com.project.beef.client.AiTask;
+import com.project.beef.support.IntegrationTest;
+import com.project.beef.support.TestImages;
+import com.project.beef.util.JwtUtil;
+
+/**
+ * 비동기 분석 작업: 등록 → 상태 조회 → SSE 완료 알림, 소유자 확인, 큐가 가득 찼을 때 503
+ */
+class AnalysisJobControllerTest extends IntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    @Autowired
+    @Qualifier("analysisJobExecutor")
+    ThreadPoolTaskExecutor analysisJobExecutor;
+
+    @MockitoBean
+    AiServerClient aiServerClient;
+
+    // 부위 분석이 이 latch를 기다림 (SSE 구독이 먼저 걸리도록)
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void stubAiServer() throws Exception {
+        given(aiServerClient.analyze(eq(AiTask.PART), any())).willAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Map.of("detectedPart", "등심", "insight", "부위 분석");
+        });
+        given(aiServerClient.analyze(eq(AiTask.GRADE), any()))
+                .willReturn(Map.of("detectedGrade", "1++", "insight", "등급 분석"));
+    }
+
+    @Test
+    void submittedJobCompletesOverSseAndStatus() throws Exception {
+        String email = "job-" + System.nanoTime() + "@test.com";
+        String token = bearer(email);
+
+        String jobId = submit(token, Color.ORANGE);
+        mockMvc.perform(get("/api/cut/jobs/" + jobId).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value(jobId))
+                .andExpect(jsonPath("$.status").value(oneOf("QUEUED", "RUNNING")))
+                .andExpect(jsonPath("$.memberId").doesNotExist());
+
+        MvcResult events = mockMvc.perform(get("/api/cut/jobs/" + jobId + "/events").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        release.countDown();
+        events.getAsyncResult(10_000);
+
+        String stream = events.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(stream).contains("event:done").contains("\"detectedPart\":\"등심\"").doesNotContain(email);
+
+        mockMvc.perform(get("/api/cut/jobs/" + jobId).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.result.detectedGrade").value("1++"))
+                .andExpect(jsonPath("$.cutId").isNumber());
+    }
+
+    @Test
+    void otherMembersCannotSeeTheJob() throws Exception {
+        release.countDown();
+        String owner = bearer("owner-" + System.nanoTime() + "@test.com");
+        String other = bearer("other-" + System.nanoTime() + "@test.com");
+
+        String jobId = submit(owner, Color.PINK);
+
+        mockMvc.perform(get("/api/cut/jobs/" + jobId).header(HttpHeaders.AUTHORIZATION, other))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/cut/jobs/" + jobId + "/events").header(HttpHeaders.AUTHORIZATION, other))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/cut/jobs/" + jobId).header(HttpHeaders.AUTHORIZATION, owner))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void fullQueueIsRejectedWith503AndRetryAfter() throws Exception {
+        // 작업 스레드와 큐를 모두 막는 작업으로 채움
+        CountDownLatch blocked = new CountDownLatch(1);
+        int filled = 0;
+        try {
+            while (true) {
+                analysisJobExecutor.execute(() -> {
+                    try {
+                        blocked.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                filled++;
+            }
+        } catch (TaskRejectedException e) {
+            // 가득 참
+        }
+        assertThat(filled).isPositive();
+
+        try {
+            mockMvc.perform(multipart("/api/cut/jobs")
+                            .file(TestImages.png("busy.png", Color.GRAY))
+                            .header(HttpHeaders.AUTHORIZATION, bearer("busy-" + System.nanoTime() + "@test.com")))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+        } finally {
+            blocked.countDown();
+            release.countDown();
+        }
+    }
+
+    private String submit(String token, Color color) throws Exception {
+        MvcResult result = mockMvc.perform(multipart("/api/cut/jobs")
+                        .file(TestImages.png("job.png", color))
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.memberId").doesNotExist())
+                .andReturn();
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.jobId");
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtUtil.generateToken(email);
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.beef.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.awt.Color;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.project.beef.client.AiServerClient;
+import com.project.beef.client.AiServerException;
+import com.project.beef.client.AiTask;
+import com.project.beef.support.IntegrationTest;
+import com.project.beef.support.TestImages;
+import com.project.beef.util.JwtUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * AI 호출 실패가 감싼 예외로 올라와도 "beef.errors"의 cause 태그에는 가장 안쪽 원인이 기록되어야 함
+ */
+class CutControllerErrorMetricsTest extends IntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    @MockitoBean
+    AiServerClient aiServerClient;
+
+    @Test
+    void errorCounterIsTaggedWithRootCause() throws Exception {
+        ResourceAccessException io = new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out"));
+        given(aiServerClient.analyze(eq(AiTask.PART), any()))
+                .willThrow(new AiServerException("AI 분석 서버 통신 오류: I/O error", "io-error", io));
+        given(aiServerClient.analyze(eq(AiTask.GRADE), any()))
+                .willReturn(Map.of("detectedGrade", "1++", "insight", "등급 분석"));
+
+        mockMvc.perform(multipart("/api/cut/analyze")
+                        .file(TestImages.png("timeout.png", new Color(12, 34, 56)))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken("metrics@test.com")))
+                .andExpect(status().isInternalServerError());
+
+        Counter counter = meterRegistry.find("beef.errors")
+                .tag("endpoint", "analyze")
+                .tag("exception", "AiServerException")
+                .tag("cause", "SocketTimeoutException")
+                .counter();
+        assertThat(counter).isNotNull();
+        assertThat(counter.count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.beef.controller;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.awt.Color;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.project.beef.client.AiServerClient;
+import com.project.beef.client.AiTask;
+import com.project.beef.support.IntegrationTest;
+import com.project.beef.support.TestImages;
+import com.project.beef.util.JwtUtil;
+
+/**
+ * 분석 API에 토큰을 보내면 결과가 그 회원 이력으로 저장되고 GET /api/cut/history로 다시 읽혀야 함
+ */
+class CutControllerHistoryTest extends IntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    @MockitoBean
+    AiServerClient aiServerClient;
+
+    @BeforeEach
+    void stubAiServer() throws Exception {
+        given(aiServerClient.analyze(eq(AiTask.PART), any()))
+                .willReturn(Map.of("detectedPart", "등심", "insight", "부위 분석"));
+        given(aiServerClient.analyze(eq(AiTask.GRADE), any()))
+                .willReturn(Map.of("detectedGrade", "1++", "insight", "등급 분석"));
+    }
+
+    @Test
+    void analysisWithTokenIsSavedToThatMembersHistory() throws Exception {
+        String email = "history-" + System.nanoTime() + "@test.com";
+        String token = jwtUtil.generateToken(email);
+
+        mockMvc.perform(multipart("/api/cut/analyze")
+                        .file(TestImages.png("mine.png", Color.RED))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.detectedPart").value("등심"));
+
+        mockMvc.perform(get("/api/cut/history").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].fileName").value("mine.png"))
+                .andExpect(jsonPath("$.items[0].detectedGrade").value("1++"));
+    }
+
+    @Test
+    void analysisWithTokenCountsInThatMembersStats() throws Exception {
+        String token = jwtUtil.generateToken("stats-" + System.nanoTime() + "@test.com");
+
+        mockMvc.perform(multipart("/api/cut/analyze")
+                        .file(TestImages.png("counted.png", Color.GREEN))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/cut/stats").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.member.total").value(1))
+                .andExpect(jsonPath("$.member.byPartGrade[0].detectedPart").value("등심"));
+    }
+
+    @Test
+    void analysisWithoutTokenIsRejected() throws Exception {
+        String token = jwtUtil.generateToken("anonymous-check-" + System.nanoTime() + "@test.com");
+
+        mockMvc.perform(multipart("/api/cut/analyze").file(TestImages.png("anonymous.png", Color.BLUE)))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(aiServerClient);
+
+        mockMvc.perform(get("/api/cut/history").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].fileName", not(hasItem("anonymous.png"))));
+    }
+
+    @Test
+    void invalidTokenOnAnalysisIsRejected() throws Exception {
+        mockMvc.perform(multipart("/api/cut/analyze")
+                        .file(TestImages.png("invalid.png", Color.GREEN))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer not-a-jwt"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,156 @@
+package com.project.beef.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.project.beef.service.CutExportService;
+import com.project.beef.support.IntegrationTest;
+import com.project.beef.util.JwtUtil;
+
+/**
+ * GET /api/cut/export: 허용 목록(IntegrationTest.ADMIN), CSV 이스케이프, 조건, gzip, 동시 실행 제한
+ * 다른 테스트의 Cut과 섞이지 않도록 테스트마다 고유한 부위 이름으로 걸러서 확인합니다.
+ */
+class CutExportControllerTest extends IntegrationTest {
+
+    private static final String CSV_HEADER =
+            "id,createdAt,detectedPart,detectedGrade,marblingRatio,insight,fileName,imageHash,modelVersion\r\n";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    CutExportService cutExportService;
+
+    @Test
+    void csvQuotesCommasQuotesAndNewlines() throws Exception {
+        String part = part();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 30);
+        long id = insertCut("csv@test.com", createdAt, part, "1+", 55, "결이 \"곱고\", 지방이\n고르게 분포", "a,b.png");
+
+        String body = export("format=csv&part=" + part);
+
+        assertThat(body).isEqualTo(CSV_HEADER
+                + id + ",2024-03-01T09:30," + part + ",1+,55,\"결이 \"\"곱고\"\", 지방이\n고르게 분포\",\"a,b.png\",,\r\n");
+    }
+
+    @Test
+    void dateAndMemberFiltersSelectOnlyMatchingRows() throws Exception {
+        String part = part();
+        insertCut("alice@test.com", LocalDateTime.of(2024, 1, 1, 23, 59), part, "1", null, null, null);
+        long second = insertCut("alice@test.com", LocalDateTime.of(2024, 1, 2, 0, 0), part, "1", null, null, null);
+        long third = insertCut("alice@test.com", LocalDateTime.of(2024, 1, 3, 23, 59), part, "1", null, null, null);
+        long bobs = insertCut("bob@test.com", LocalDateTime.of(2024, 1, 2, 12, 0), part, "1", null, null, null);
+        insertCut("alice@test.com", LocalDateTime.of(2024, 1, 4, 0, 0), part, "1", null, null, null);
+
+        // from/to는 둘 다 포함 (to 날짜의 마지막 순간까지)
+        assertThat(ids(export("format=csv&part=" + part + "&from=2024-01-02&to=2024-01-03")))
+                .containsExactly(second, third, bobs);
+        assertThat(ids(export("format=csv&part=" + part + "&from=2024-01-02&to=2024-01-03&memberId=alice@test.com")))
+                .containsExactly(second, third);
+        assertThat(ids(export("format=csv&part=" + part + "&memberId=bob@test.com")))
+                .containsExactly(bobs);
+        // 회원 식별자는 출력하지 않음
+        assertThat(export("format=ndjson&part=" + part)).doesNotContain("alice").doesNotContain("bob");
+    }
+
+    @Test
+    void gzipIsAValidStreamOfTheSameBody() throws Exception {
+        String part = part();
+        for (int i = 0; i < 20; i++) {
+            insertCut("gzip@test.com", LocalDateTime.of(2024, 5, 1, 12, i), part, "2", i, "설명 " + i, null);
+        }
+        String plain = export("format=ndjson&part=" + part);
+
+        MvcResult result = mockMvc.perform(get("/api/cut/export?format=ndjson&part=" + part)
+                        .header(HttpHeaders.AUTHORIZATION, bearer(ADMIN))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            String unzipped = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(unzipped).isEqualTo(plain);
+            assertThat(unzipped.lines()).hasSize(20);
+        }
+    }
+
+    @Test
+    void exportsBeyondTheConcurrencyLimitGet429() throws Exception {
+        int held = 0;
+        try {
+            while (cutExportService.tryAcquire()) {
+                held++;
+            }
+            mockMvc.perform(get("/api/cut/export").header(HttpHeaders.AUTHORIZATION, bearer(ADMIN)))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        } finally {
+            for (int i = 0; i < held; i++) {
+                cutExportService.release();
+            }
+        }
+        assertThat(held).isEqualTo(2);
+        // 자리가 나면 다시 가능 (실패한 요청이 자리를 가져가지 않음)
+        mockMvc.perform(get("/api/cut/export?part=" + part()).header(HttpHeaders.AUTHORIZATION, bearer(ADMIN)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void membersOutsideTheAllowListAreRejected() throws Exception {
+        mockMvc.perform(get("/api/cut/export").header(HttpHeaders.AUTHORIZATION, bearer("member@test.com")))
+                .andExpect(status().isForbidden());
+    }
+
+    private String export(String query) throws Exception {
+        return mockMvc.perform(get("/api/cut/export?" + query).header(HttpHeaders.AUTHORIZATION, bearer(ADMIN)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    // CSV 본문의 id 열 (헤더 제외)
+    private static List<Long> ids(String csv) {
+        return csv.lines().skip(1).map(line -> Long.parseLong(line.substring(0, line.indexOf(',')))).toList();
+    }
+
+    private long insertCut(String member, LocalDateTime createdAt, String part, String grade, Integer marbling,
+            String insight, String fileName) {
+        long id = jdbcTemplate.queryForObject("SELECT NEXTVAL(cut_seq)", Long.class);
+        jdbcTemplate.update("INSERT INTO cut (id, member_id, created_at, detected_part, detected_grade, marbling_ratio, insight, file_name) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", id, member, Timestamp.valueOf(createdAt), part, grade, marbling, insight, fileName);
+        return id;
+    }
+
+    private static String part() {
+        return "export-" + System.nanoTime();
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtUtil.generateToken(email);
+    }
+}
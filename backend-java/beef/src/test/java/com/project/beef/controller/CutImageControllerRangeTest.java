@@ -0,0 +1,52 @@
+package com.project.beef.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CutImageControllerRangeTest {
+
+    private static final long LENGTH = 1000;
+
+    @Test
+    void closedRange() {
+        assertThat(CutImageController.parseRange("bytes=0-99", LENGTH)).containsExactly(0, 99);
+        assertThat(CutImageController.parseRange("bytes=500-500", LENGTH)).containsExactly(500, 500);
+    }
+
+    @Test
+    void endBeyondLengthIsClampedToLastByte() {
+        assertThat(CutImageController.parseRange("bytes=900-5000", LENGTH)).containsExactly(900, 999);
+    }
+
+    @Test
+    void openEndedRangeRunsToLastByte() {
+        assertThat(CutImageController.parseRange("bytes=100-", LENGTH)).containsExactly(100, 999);
+    }
+
+    @Test
+    void suffixRangeSelectsLastBytes() {
+        assertThat(CutImageController.parseRange("bytes=-100", LENGTH)).containsExactly(900, 999);
+        // 파일보다 긴 suffix는 전체
+        assertThat(CutImageController.parseRange("bytes=-5000", LENGTH)).containsExactly(0, 999);
+    }
+
+    @Test
+    void unsatisfiableRangesReturnEmpty() {
+        assertThat(CutImageController.parseRange("bytes=1000-", LENGTH)).isEmpty();
+        assertThat(CutImageController.parseRange("bytes=2000-3000", LENGTH)).isEmpty();
+        assertThat(CutImageController.parseRange("bytes=-0", LENGTH)).isEmpty();
+        assertThat(CutImageController.parseRange("bytes=-10", 0)).isEmpty();
+    }
+
+    @Test
+    void unsupportedOrMalformedRangesAreIgnored() {
+        // null → Range를 무시하고 200으로 전체 전송
+        assertThat(CutImageController.parseRange("bytes=0-10,20-30", LENGTH)).isNull();
+        assertThat(CutImageController.parseRange("items=0-10", LENGTH)).isNull();
+        assertThat(CutImageController.parseRange("bytes=10", LENGTH)).isNull();
+        assertThat(CutImageController.parseRange("bytes=-", LENGTH)).isNull();
+        assertThat(CutImageController.parseRange("bytes=abc-def", LENGTH)).isNull();
+        assertThat(CutImageController.parseRange("bytes=50-10", LENGTH)).isNull();
+    }
+}
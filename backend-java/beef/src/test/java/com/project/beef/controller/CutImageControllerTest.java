@@ -0,0 +1,133 @@
+package com.project.beef.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.project.beef.client.AiServerClient;
+import com.project.beef.client.AiTask;
+import com.project.beef.dto.CutHistoryPageDto;
+import com.project.beef.service.CutService;
+import com.project.beef.support.IntegrationTest;
+import com.project.beef.support.TestImages;
+import com.project.beef.util.JwtUtil;
+
+/**
+ * GET /api/cut/{id}/image : 소유자만, ETag / 304 / Range(206, 416)
+ */
+class CutImageControllerTest extends IntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    @Autowired
+    CutService cutService;
+
+    @MockitoBean
+    AiServerClient aiServerClient;
+
+    @BeforeEach
+    void stubAiServer() throws Exception {
+        given(aiServerClient.analyze(eq(AiTask.PART), any()))
+                .willReturn(Map.of("detectedPart", "안심", "insight", "부위 분석"));
+        given(aiServerClient.analyze(eq(AiTask.GRADE), any()))
+                .willReturn(Map.of("detectedGrade", "1+", "insight", "등급 분석"));
+    }
+
+    @Test
+    void ownerGetsOriginalWithEtagAndRangeSupport() throws Exception {
+        String email = "image-owner-" + System.nanoTime() + "@test.com";
+        String bearer = "Bearer " + jwtUtil.generateToken(email);
+        byte[] original = TestImages.pngBytes(80, 60, new Color(0x8B0000));
+        long id = analyze(bearer, original);
+
+        byte[] body = mockMvc.perform(get("/api/cut/{id}/image", id).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(body).isEqualTo(original);
+        String etag = "\"" + cutService.spool(new MockMultipartFile("file", original)).getSha256() + "\"";
+
+        mockMvc.perform(get("/api/cut/{id}/image", id)
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        byte[] part = mockMvc.perform(get("/api/cut/{id}/image", id)
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/" + original.length))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(part).isEqualTo(Arrays.copyOfRange(original, 10, 20));
+
+        mockMvc.perform(get("/api/cut/{id}/image", id)
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.RANGE, "bytes=" + original.length + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + original.length));
+
+        // If-Range가 다른 버전이면 Range를 무시하고 전체
+        mockMvc.perform(get("/api/cut/{id}/image", id)
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.RANGE, "bytes=10-19")
+                        .header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void otherMembersCannotSeeTheImage() throws Exception {
+        String owner = "Bearer " + jwtUtil.generateToken("image-a-" + System.nanoTime() + "@test.com");
+        String other = "Bearer " + jwtUtil.generateToken("image-b-" + System.nanoTime() + "@test.com");
+        long id = analyze(owner, TestImages.pngBytes(32, 32, new Color(0x123456)));
+
+        mockMvc.perform(get("/api/cut/{id}/image", id).header(HttpHeaders.AUTHORIZATION, other))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/cut/{id}/image", id))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void storeStatsRequireAnAdmin() throws Exception {
+        mockMvc.perform(get("/api/cut/image/stats"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/cut/image/stats")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken("stats@test.com")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/cut/image/stats")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken(ADMIN)))
+                .andExpect(status().isOk());
+    }
+
+    private long analyze(String bearer, byte[] image) throws Exception {
+        mockMvc.perform(multipart("/api/cut/analyze")
+                        .file(new MockMultipartFile("file", "cut.png", "image/png", image))
+                        .header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+        String email = jwtUtil.extractEmail(bearer.substring(7));
+        CutHistoryPageDto history = cutService.findHistory(email, null, 1);
+        return history.getItems().get(0).getId();
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.beef.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.project.beef.support.IntegrationTest;
+import com.project.beef.util.JwtUtil;
+
+/**
+ * 재분석 API는 cut.reanalysis.admin-members 에 있는 회원만 (IntegrationTest.ADMIN)
+ */
+class CutReanalysisControllerTest extends IntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    @Test
+    void nonAdminMembersAreRejected() throws Exception {
+        String token = "Bearer " + jwtUtil.generateToken("member@test.com");
+
+        mockMvc.perform(post("/admin/reanalysis/start").param("modelVersion", "v2")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/admin/reanalysis/pause")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/admin/reanalysis/status")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminCanReadTheStatus() throws Exception {
+        String token = "Bearer " + jwtUtil.generateToken(ADMIN);
+
+        mockMvc.perform(get("/admin/reanalysis/status")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").exists());
+        // 권한 확인을 통과하면 입력 검증까지 감 (실제로 시작하지는 않음)
+        mockMvc.perform(post("/admin/reanalysis/start").param("modelVersion", " ")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isBadRequest());
+    }
+}
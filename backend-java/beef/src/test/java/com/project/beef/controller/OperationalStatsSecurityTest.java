@@ -0,0 +1,62 @@
+package com.project.beef.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.project.beef.support.IntegrationTest;
+import com.project.beef.util.JwtUtil;
+
+/**
+ * 운영 통계(/api/cut/{name}/stats)와 로그인 제한 / 회원 캐시 현황(/auth/password/stats)은
+ * auth.admin-members 회원만, 사용자용 GET /api/cut/stats는 공개
+ */
+class OperationalStatsSecurityTest extends IntegrationTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JwtUtil jwtUtil;
+
+    @ParameterizedTest
+    @ValueSource(strings = { "cache", "pool", "persist", "ai", "ratelimit", "image", "jobs", "export" })
+    void operationalStatsRequireAnAdmin(String name) throws Exception {
+        mockMvc.perform(get("/api/cut/" + name + "/stats"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/api/cut/" + name + "/stats")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken("ops@test.com")))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/cut/" + name + "/stats")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken(ADMIN)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void passwordStatsRequireAnAdmin() throws Exception {
+        mockMvc.perform(get("/auth/password/stats"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/auth/password/stats")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken("member@test.com")))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/auth/password/stats")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken(ADMIN)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void userFacingStatsStayPublic() throws Exception {
+        mockMvc.perform(get("/api/cut/stats"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,156 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AnalysisRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long NOW = TimeUnit.HOURS.toNanos(1);
+
+    // 분당 60개 = 1초에 토큰 1개, 최대 3개
+    private final AnalysisRateLimiter.Bucket bucket = new AnalysisRateLimiter.Bucket(60, 3);
+
+    @Test
+    void burstIsAllowedThenRefillsOneTokenPerInterval() {
+        AtomicLong state = new AtomicLong();
+
+        assertThat(bucket.tryConsume(state, 1, NOW)).isZero();
+        assertThat(bucket.tryConsume(state, 1, NOW)).isZero();
+        assertThat(bucket.tryConsume(state, 1, NOW)).isZero();
+        assertThat(bucket.tryConsume(state, 1, NOW)).isEqualTo(SECOND);
+
+        assertThat(bucket.tryConsume(state, 1, NOW + SECOND / 2)).isEqualTo(SECOND / 2);
+        assertThat(bucket.tryConsume(state, 1, NOW + SECOND)).isZero();
+        assertThat(bucket.tryConsume(state, 1, NOW + SECOND)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void idleTimeDoesNotAccumulateMoreThanBurst() {
+        AtomicLong state = new AtomicLong();
+        bucket.tryConsume(state, 3, NOW);
+
+        long later = NOW + 100 * SECOND;
+        assertThat(bucket.tryConsume(state, 3, later)).isZero();
+        assertThat(bucket.tryConsume(state, 1, later)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void costIsChargedAsSeveralTokens() {
+        AtomicLong state = new AtomicLong();
+        bucket.tryConsume(state, 2, NOW);
+
+        // 남은 토큰 1개로는 2개짜리 요청을 못 하고, 1개가 더 모일 때까지 기다려야 함
+        assertThat(bucket.tryConsume(state, 2, NOW)).isEqualTo(SECOND);
+        assertThat(bucket.tryConsume(state, 1, NOW)).isZero();
+    }
+
+    @Test
+    void requestMoreExpensiveThanBurstUsesAFullBucket() {
+        AtomicLong state = new AtomicLong();
+
+        assertThat(bucket.tryConsume(state, 10, NOW)).isZero();
+        assertThat(bucket.tryConsume(state, 10, NOW)).isEqualTo(3 * SECOND);
+        assertThat(bucket.tryConsume(state, 10, NOW + 3 * SECOND)).isZero();
+    }
+
+    @Test
+    void concurrentConsumersNeverExceedBurst() throws Exception {
+        AnalysisRateLimiter.Bucket large = new AnalysisRateLimiter.Bucket(1, 50);
+        AtomicLong state = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < 100; i++) {
+                        if (large.tryConsume(state, 1, NOW) == 0) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(50);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void memberAndIpAreLimitedSeparately() {
+        AnalysisRateLimiter limiter = new AnalysisRateLimiter(new SimpleMeterRegistry(), true, 60, 1, 60, 1, 16, 1000);
+
+        assertThat(limiter.tryConsume("a@test.com", "10.0.0.1", 1)).isEqualTo(AnalysisRateLimiter.ALLOWED);
+        assertThat(limiter.tryConsume("a@test.com", "10.0.0.1", 1)).isEqualTo(1);
+        // 같은 IP라도 다른 회원, 비로그인 요청은 각자의 버킷을 씀
+        assertThat(limiter.tryConsume("b@test.com", "10.0.0.1", 1)).isEqualTo(AnalysisRateLimiter.ALLOWED);
+        assertThat(limiter.tryConsume(null, "10.0.0.1", 1)).isEqualTo(AnalysisRateLimiter.ALLOWED);
+        assertThat(limiter.tryConsume(null, "10.0.0.1", 1)).isEqualTo(1);
+
+        assertThat(limiter.stats().get("rejectedByMember")).isEqualTo(1L);
+        assertThat(limiter.stats().get("rejectedByIp")).isEqualTo(1L);
+    }
+
+    @Test
+    void inFlightCapRejectsUntilReleased() {
+        AnalysisRateLimiter limiter = new AnalysisRateLimiter(new SimpleMeterRegistry(), true, 60, 1, 60, 1, 2, 1000);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release();
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.stats().get("inFlight")).isEqualTo(2);
+        assertThat(limiter.stats().get("rejectedByConcurrency")).isEqualTo(1L);
+    }
+
+    @Test
+    void concurrentAcquiresNeverExceedCap() throws Exception {
+        AnalysisRateLimiter limiter = new AnalysisRateLimiter(new SimpleMeterRegistry(), true, 60, 1, 60, 1, 4, 1000);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return limiter.tryAcquire();
+                }));
+            }
+            start.countDown();
+            int acquired = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    acquired++;
+                }
+            }
+            assertThat(acquired).isEqualTo(4);
+            assertThat(limiter.stats().get("rejectedByConcurrency")).isEqualTo(12L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.beef.service.CutExportService.Format;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 내보내기는 forward-only 커서를 fetch-size 단위로 읽고, 행을 모으지 않고 읽는 대로 출력에 씀
+ */
+class CutExportServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CutExportService service =
+            new CutExportService(jdbcTemplate, new ObjectMapper(), new SimpleMeterRegistry(), 500, 2);
+
+    @Test
+    void readsAForwardOnlyCursorAndWritesEachRowBeforeTheNextIsFetched() throws Exception {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        given(connection.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+                .willReturn(statement);
+        ResultSet rs = mock(ResultSet.class);
+        StringWriter out = new StringWriter();
+        // 커서에서 다음 행을 받을 때마다 그때까지 출력된 내용
+        List<String> writtenBeforeEachRow = new ArrayList<>();
+
+        willAnswer(invocation -> {
+            PreparedStatementCreator creator = invocation.getArgument(0);
+            assertThat(creator.createPreparedStatement(connection)).isSameAs(statement);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (long id = 1; id <= 3; id++) {
+                writtenBeforeEachRow.add(out.toString());
+                given(rs.getLong("id")).willReturn(id);
+                given(rs.getTimestamp("created_at")).willReturn(Timestamp.valueOf(LocalDateTime.of(2024, 1, (int) id, 0, 0)));
+                given(rs.getString("detected_part")).willReturn("등심");
+                handler.processRow(rs);
+            }
+            return null;
+        }).given(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        long rows = service.export(null, null, null, null, null, Format.CSV, out);
+
+        assertThat(rows).isEqualTo(3);
+        verify(statement).setFetchSize(500);
+        assertThat(writtenBeforeEachRow.get(1)).contains("\r\n1,2024-01-01T00:00,등심,");
+        assertThat(writtenBeforeEachRow.get(2)).contains("\r\n2,2024-01-02T00:00,등심,");
+        assertThat(out.toString().lines()).hasSize(4);
+    }
+}
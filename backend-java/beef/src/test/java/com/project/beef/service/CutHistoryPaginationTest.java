@@ -0,0 +1,86 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.project.beef.domain.Cut;
+import com.project.beef.dto.CutHistoryDto;
+import com.project.beef.dto.CutHistoryPageDto;
+import com.project.beef.dto.SaveRequestDto;
+import com.project.beef.support.IntegrationTest;
+
+/**
+ * keyset 페이지네이션: (createdAt, id) 역순이며 createdAt이 같은 행은 id로 나뉘어 빠지거나 겹치지 않아야 함
+ */
+class CutHistoryPaginationTest extends IntegrationTest {
+
+    @Autowired
+    CutService cutService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rowsWithSameCreatedAtArePagedByIdWithoutGapsOrDuplicates() {
+        String memberId = "pagination-" + System.nanoTime() + "@test.com";
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(save(memberId, "cut-" + i + ".jpg"));
+        }
+        // 0~4는 같은 시각, 5~6은 더 이른 시각
+        LocalDateTime tied = LocalDateTime.of(2025, 5, 1, 9, 0);
+        for (int i = 0; i < 7; i++) {
+            jdbcTemplate.update("UPDATE cut SET created_at = ? WHERE id = ?",
+                    Timestamp.valueOf(i < 5 ? tied : tied.minusMinutes(i)), ids.get(i));
+        }
+
+        List<CutHistoryDto> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CutHistoryPageDto page = cutService.findHistory(memberId, cursor, 2);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(4);
+        assertThat(seen).extracting(CutHistoryDto::getId).containsExactly(
+                ids.get(4), ids.get(3), ids.get(2), ids.get(1), ids.get(0), ids.get(5), ids.get(6));
+        assertThat(seen).isSortedAccordingTo(Comparator.comparing(CutHistoryDto::getCreatedAt).reversed());
+    }
+
+    @Test
+    void otherMembersRowsAreNotReturned() {
+        String memberId = "owner-" + System.nanoTime() + "@test.com";
+        long own = save(memberId, "own.jpg");
+        save("other-" + System.nanoTime() + "@test.com", "other.jpg");
+
+        CutHistoryPageDto page = cutService.findHistory(memberId, null, 20);
+
+        assertThat(page.getItems()).extracting(CutHistoryDto::getId).containsExactly(own);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    private long save(String memberId, String fileName) {
+        Cut cut = cutService.saveAnalysisResult(SaveRequestDto.builder()
+                .detectedPart("등심")
+                .detectedGrade("1++")
+                .insight("test")
+                .fileName(fileName)
+                .memberId(memberId)
+                .build());
+        return cut.getId();
+    }
+}
@@ -0,0 +1,337 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.awt.Color;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.beef.client.AiCircuitBreaker;
+import com.project.beef.client.AiServerClient;
+import com.project.beef.client.AiTask;
+import com.project.beef.support.IntegrationTest;
+import com.project.beef.support.TestImages;
+import com.project.beef.util.SpooledImage;
+
+/**
+ * 재분석 작업을 내장 MariaDB 위에서 실행 (AI 서버만 mock).
+ * 컨텍스트의 재분석 빈 대신 chunk를 작게 잡은 인스턴스를 직접 만들고, "서버 재시작"은 새 인스턴스로 흉내 냅니다.
+ * 다른 테스트가 남긴 Cut을 건드리지 않도록 시작 전에 체크포인트를 현재 마지막 id로 맞춰 둡니다.
+ */
+class CutReanalysisServiceTest extends IntegrationTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ImageStore imageStore;
+
+    @Autowired
+    ImagePreprocessor imagePreprocessor;
+
+    @Autowired
+    CutStatisticsStore cutStatisticsStore;
+
+    @Autowired
+    CutStatistics cutStatistics;
+
+    private final AiServerClient aiServerClient = mock(AiServerClient.class);
+    private final List<CutReanalysisService> services = new ArrayList<>();
+
+    // AI 서버로 보낸 부위 분석 이미지 (SHA-256, 보낸 순서)
+    private final List<String> sentParts = new CopyOnWriteArrayList<>();
+
+    private String target;
+
+    @BeforeEach
+    void setUp() {
+        target = "reanalysis-" + System.nanoTime();
+        given(aiServerClient.breakerState(any())).willReturn(AiCircuitBreaker.State.CLOSED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(CutReanalysisService::stop);
+    }
+
+    @Test
+    void resumesFromTheCheckpointAfterRestartWithoutRepeatingOrSkippingRows() throws Exception {
+        CountDownLatch secondChunkSent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger partImages = new AtomicInteger();
+        stubAi(image -> {
+            // 세 번째 이미지 = 두 번째 chunk의 첫 이미지
+            if (partImages.incrementAndGet() == 3) {
+                secondChunkSent.countDown();
+                await(release);
+            }
+            return "등심";
+        });
+        seedCheckpoint();
+        List<Long> ids = insertCuts(member(), LocalDateTime.now(), 6);
+
+        CutReanalysisService first = service();
+        first.start(target, false);
+        assertThat(secondChunkSent.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 두 번째 chunk를 AI 서버가 처리하는 동안 서버 종료 (stop은 현재 chunk를 쓸 때까지 기다림)
+        Thread stopper = new Thread(first::stop);
+        stopper.start();
+        waitUntil(() -> stopper.getState() == Thread.State.TIMED_WAITING);
+        release.countDown();
+        stopper.join(10_000);
+
+        assertThat(checkpoint()).containsEntry("status", "RUNNING").containsEntry("last_cut_id", ids.get(3));
+        assertThat(versions(ids)).containsExactly(target, target, target, target, null, null);
+
+        // 재시작: 새 인스턴스가 체크포인트 다음 id부터 이어서 실행
+        CutReanalysisService restarted = service();
+        restarted.start();
+        awaitCheckpoint("DONE");
+
+        assertThat(versions(ids)).containsOnly(target);
+        assertThat(sentParts).containsExactlyElementsOf(hashes(ids));
+        assertThat(checkpoint()).containsEntry("status", "DONE")
+                .containsEntry("last_cut_id", ids.get(5))
+                .containsEntry("processed", 6L)
+                .containsEntry("updated", 6L);
+    }
+
+    @Test
+    void failedChunkRollsBackTheCutUpdateAndTheStatisticsMove() throws Exception {
+        String member = member();
+        LocalDateTime createdAt = LocalDate.now().minusDays(5).atTime(12, 0);
+        seedCheckpoint();
+        List<Long> ids = insertCuts(member, createdAt, 2);
+        String tooLong = hashes(ids).get(1);
+        // 두 번째 행의 부위가 컬럼 길이를 넘어 UPDATE가 실패하도록 (통계 이동은 그보다 먼저 실행됨)
+        stubAi(image -> image.getSha256().equals(tooLong) ? "등심".repeat(200) : "등심");
+        // 5일 전 날을 확정시켜 재분류가 롤업 칸을 직접 옮기도록
+        jdbcTemplate.update("UPDATE cut_stat_checkpoint SET watermark = ? WHERE id = 1",
+                Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)));
+        cutStatisticsStore.checkpoint();
+        assertThat(rollupCounts(member)).containsExactly(Map.entry("목심|2", 2L));
+        long lastCutId = (Long) checkpoint().get("last_cut_id");
+
+        CutReanalysisService service = service();
+        service.start(target, false);
+        awaitCheckpoint("PAUSED");
+
+        assertThat(versions(ids)).containsExactly(null, null);
+        assertThat(jdbcTemplate.queryForList("SELECT detected_part FROM cut WHERE id IN (?, ?)", String.class, ids.get(0), ids.get(1)))
+                .containsOnly("목심");
+        assertThat(rollupCounts(member)).containsExactly(Map.entry("목심|2", 2L));
+        assertThat(cells(cutStatistics.member(member))).containsExactly(Map.entry("목심|2", 2L));
+        assertThat(checkpoint()).containsEntry("status", "PAUSED").containsEntry("last_cut_id", lastCutId);
+        assertThat(checkpoint().get("last_error")).isNotNull();
+        assertThat(service.stats()).containsEntry("lastCutId", lastCutId).containsEntry("updated", 0L);
+    }
+
+    @Test
+    void pauseFinishesTheChunkInFlightThenStartContinues() throws Exception {
+        CountDownLatch firstChunkSent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        stubAi(image -> {
+            firstChunkSent.countDown();
+            await(release);
+            return "등심";
+        });
+        seedCheckpoint();
+        List<Long> ids = insertCuts(member(), LocalDateTime.now(), 4);
+
+        CutReanalysisService service = service();
+        service.start(target, false);
+        assertThat(firstChunkSent.await(10, TimeUnit.SECONDS)).isTrue();
+        service.pause();
+        release.countDown();
+        awaitCheckpoint("PAUSED");
+
+        assertThat(versions(ids)).containsExactly(target, target, null, null);
+        assertThat(checkpoint()).containsEntry("status", "PAUSED").containsEntry("last_cut_id", ids.get(1));
+
+        service.start(target, false);
+        awaitCheckpoint("DONE");
+
+        assertThat(versions(ids)).containsOnly(target);
+        assertThat(sentParts).containsExactlyElementsOf(hashes(ids));
+    }
+
+    @Test
+    void stopWhileYieldingToLiveTrafficReturnsPromptlyAndKeepsTheJobForTheNextStart() throws Exception {
+        stubAi(image -> "등심");
+        given(aiServerClient.breakerState(AiTask.PART)).willReturn(AiCircuitBreaker.State.OPEN);
+        seedCheckpoint();
+        List<Long> ids = insertCuts(member(), LocalDateTime.now(), 2);
+        long lastCutId = (Long) checkpoint().get("last_cut_id");
+
+        CutReanalysisService service = service();
+        service.start(target, false);
+        waitUntil(() -> (Long) service.stats().get("yieldsToLiveTraffic") > 0);
+
+        long startedAt = System.nanoTime();
+        service.stop();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(5_000);
+
+        verify(aiServerClient, never()).analyzeBatch(any(), anyList());
+        assertThat(versions(ids)).containsExactly(null, null);
+        // 종료로 멈춘 작업은 RUNNING으로 남아 다음 시작 때 이어서 실행
+        assertThat(checkpoint()).containsEntry("status", "RUNNING").containsEntry("last_cut_id", lastCutId);
+
+        given(aiServerClient.breakerState(AiTask.PART)).willReturn(AiCircuitBreaker.State.CLOSED);
+        CutReanalysisService restarted = service();
+        restarted.start();
+        awaitCheckpoint("DONE");
+        assertThat(versions(ids)).containsOnly(target);
+    }
+
+    // ----------------------------------------------------
+
+    private CutReanalysisService service() {
+        // chunk 2건, 요청 1개씩, 속도 제한 없음
+        CutReanalysisService service = new CutReanalysisService(jdbcTemplate, transactionTemplate, aiServerClient,
+                imageStore, imagePreprocessor, cutStatisticsStore, 2, 2, 1, 0, 0.5, 20);
+        services.add(service);
+        return service;
+    }
+
+    // 부위는 part(이미지), 등급은 항상 "1". 모델 버전은 목표 버전
+    private void stubAi(Function<SpooledImage, String> part) throws Exception {
+        given(aiServerClient.analyzeBatch(eq(AiTask.PART), anyList())).willAnswer(invocation -> {
+            List<SpooledImage> images = invocation.getArgument(1);
+            List<Map<String, Object>> results = new ArrayList<>();
+            for (SpooledImage image : images) {
+                sentParts.add(image.getSha256());
+                results.add(Map.of("detectedPart", part.apply(image), "insight", "부위", "modelVersion", target));
+            }
+            return results;
+        });
+        given(aiServerClient.analyzeBatch(eq(AiTask.GRADE), anyList())).willAnswer(invocation -> {
+            List<SpooledImage> images = invocation.getArgument(1);
+            List<Map<String, Object>> results = new ArrayList<>();
+            for (int i = 0; i < images.size(); i++) {
+                results.add(Map.of("detectedGrade", "1", "insight", "등급", "modelVersion", target));
+            }
+            return results;
+        });
+    }
+
+    // 이번 테스트가 넣는 Cut만 재분석하도록 체크포인트를 현재 마지막 id에 맞춤
+    private void seedCheckpoint() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cut", Long.class);
+        jdbcTemplate.update("REPLACE INTO cut_reanalysis_checkpoint "
+                + "(id, target_version, last_cut_id, status, processed, updated, failed, skipped) "
+                + "VALUES (1, ?, ?, 'PAUSED', 0, 0, 0, 0)", target, maxId);
+    }
+
+    // 원본 이미지가 저장된 Cut (부위 목심, 등급 2)
+    private List<Long> insertCuts(String member, LocalDateTime createdAt, int count) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int seed = (int) (System.nanoTime() & 0xFFFFFF);
+            SpooledImage image = SpooledImage.of(TestImages.pngBytes(16, 16, new Color(seed)), "cut" + i + ".png");
+            imageStore.store(image);
+            long id = jdbcTemplate.queryForObject("SELECT NEXTVAL(cut_seq)", Long.class);
+            jdbcTemplate.update("INSERT INTO cut (id, member_id, created_at, detected_part, detected_grade, marbling_ratio, "
+                    + "image_hash, file_name) VALUES (?, ?, ?, '목심', '2', 40, ?, ?)",
+                    id, member, Timestamp.valueOf(createdAt), image.getSha256(), image.getFilename());
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private List<String> versions(List<Long> ids) {
+        List<String> versions = new ArrayList<>();
+        for (Long id : ids) {
+            versions.add(jdbcTemplate.queryForObject("SELECT model_version FROM cut WHERE id = ?", String.class, id));
+        }
+        return versions;
+    }
+
+    private List<String> hashes(List<Long> ids) {
+        List<String> hashes = new ArrayList<>();
+        for (Long id : ids) {
+            hashes.add(jdbcTemplate.queryForObject("SELECT image_hash FROM cut WHERE id = ?", String.class, id));
+        }
+        return hashes;
+    }
+
+    private Map<String, Object> checkpoint() {
+        return jdbcTemplate.queryForMap("SELECT status, last_cut_id, processed, updated, last_error "
+                + "FROM cut_reanalysis_checkpoint WHERE id = 1");
+    }
+
+    // 작업 스레드는 상태를 바꾼 뒤 마지막에 체크포인트를 쓰므로, 메모리 상태 대신 저장된 행을 기다림
+    // (start가 RUNNING을 먼저 저장하므로 이전 실행의 상태가 남아 있을 일은 없음)
+    private void awaitCheckpoint(String status) throws InterruptedException {
+        waitUntil(() -> status.equals(checkpoint().get("status")));
+    }
+
+    private Map<String, Long> rollupCounts(String member) {
+        Map<String, Long> result = new HashMap<>();
+        jdbcTemplate.query("SELECT detected_part, detected_grade, SUM(cut_count) FROM cut_stat_rollup "
+                + "WHERE member_id = ? GROUP BY detected_part, detected_grade", rs -> {
+            result.put(rs.getString(1) + "|" + rs.getString(2), rs.getLong(3));
+        }, member);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> cells(Map<String, Object> snapshot) {
+        Map<String, Long> result = new HashMap<>();
+        for (Map<String, Object> row : (List<Map<String, Object>>) snapshot.get("byPartGrade")) {
+            long count = (Long) row.get("count");
+            if (count > 0) {
+                result.put(row.get("detectedPart") + "|" + row.get("detectedGrade"), count);
+            }
+        }
+        return result;
+    }
+
+    private static String member() {
+        return "reanalysis-" + System.nanoTime() + "@test.com";
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("10초 안에 조건을 만족해야 함").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
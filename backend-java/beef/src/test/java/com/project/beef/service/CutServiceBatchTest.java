@@ -0,0 +1,196 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.beef.client.AiServerClient;
+import com.project.beef.client.AiTask;
+import com.project.beef.dto.CutDto;
+import com.project.beef.repository.CutRepository;
+import com.project.beef.support.TestImages;
+import com.project.beef.util.SpooledImage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+class CutServiceBatchTest {
+
+    private final ExecutorService threads = Executors.newCachedThreadPool();
+    private final AiServerClient aiServerClient = mock(AiServerClient.class);
+    private final AiResultCache aiResultCache = new AiResultCache(new SimpleMeterRegistry(), true, 100, 10);
+
+    // AI 서버로 실제 보낸 일괄 요청 (작업, 파일 이름 목록)
+    private final List<String> partRequests = new CopyOnWriteArrayList<>();
+    private final List<String> gradeRequests = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void imagesAreSentInChunksAndResultsKeepUploadOrder() throws Exception {
+        stubBatch();
+        List<SpooledImage> images = images(5);
+
+        List<CutDto> results = cutService(threads::execute).analyzeBatch(images);
+
+        assertThat(partRequests).containsExactly("[0.png, 1.png]", "[2.png, 3.png]", "[4.png]");
+        assertThat(gradeRequests).containsExactly("[0.png, 1.png]", "[2.png, 3.png]", "[4.png]");
+        assertThat(results).extracting(CutDto::getDetectedPart).containsExactly("part-0", "part-1", "part-2", "part-3", "part-4");
+        assertThat(results).extracting(CutDto::getDetectedGrade).containsExactly("grade-0", "grade-1", "grade-2", "grade-3", "grade-4");
+        for (int i = 0; i < images.size(); i++) {
+            assertThat(results.get(i).getImageHash()).isEqualTo(images.get(i).getSha256());
+            assertThat(results.get(i).getStatus()).isEqualTo("success");
+        }
+    }
+
+    @Test
+    void onlyCacheMissesAreSentAndHitsAreMergedBackInPlace() throws Exception {
+        stubBatch();
+        List<SpooledImage> images = images(4);
+        aiResultCache.put(AiTask.PART.getPath(), images.get(1).getSha256(), Map.of("detectedPart", "cached-1", "insight", "캐시"));
+        aiResultCache.put(AiTask.PART.getPath(), images.get(2).getSha256(), Map.of("detectedPart", "cached-2", "insight", "캐시"));
+        aiResultCache.put(AiTask.GRADE.getPath(), images.get(3).getSha256(), Map.of("detectedGrade", "cached-3", "insight", "캐시"));
+
+        List<CutDto> results = cutService(threads::execute).analyzeBatch(images);
+
+        assertThat(partRequests).containsExactly("[0.png]", "[3.png]");
+        assertThat(gradeRequests).containsExactly("[0.png, 1.png]", "[2.png]");
+        assertThat(results).extracting(CutDto::getDetectedPart).containsExactly("part-0", "cached-1", "cached-2", "part-3");
+        assertThat(results).extracting(CutDto::getDetectedGrade).containsExactly("grade-0", "grade-1", "grade-2", "cached-3");
+
+        // 두 번째 요청은 모두 캐시에서
+        partRequests.clear();
+        gradeRequests.clear();
+        cutService(threads::execute).analyzeBatch(images);
+        assertThat(partRequests).isEmpty();
+        assertThat(gradeRequests).isEmpty();
+    }
+
+    @Test
+    void failedChunkOrItemOnlyMarksItsOwnResults() throws Exception {
+        given(aiServerClient.analyzeBatch(eq(AiTask.PART), any())).willAnswer(invocation -> {
+            List<SpooledImage> chunk = invocation.getArgument(1);
+            if (chunk.get(0).getFilename().equals("2.png")) {
+                throw new IllegalStateException("AI 서버 오류");
+            }
+            return respond(invocation, "detectedPart", "part-");
+        });
+        given(aiServerClient.analyzeBatch(eq(AiTask.GRADE), any())).willAnswer(invocation -> {
+            List<Map<String, Object>> responses = respond(invocation, "detectedGrade", "grade-");
+            List<SpooledImage> chunk = invocation.getArgument(1);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (chunk.get(i).getFilename().equals("4.png")) {
+                    responses.set(i, Map.of("error", "이미지를 읽을 수 없습니다."));
+                }
+            }
+            return responses;
+        });
+
+        List<CutDto> results = cutService(threads::execute).analyzeBatch(images(5));
+
+        assertThat(results).extracting(CutDto::getStatus).containsExactly("success", "success", "error", "error", "error");
+        assertThat(results.get(2).getInsight()).contains("AI 서버 오류");
+        assertThat(results.get(4).getInsight()).isEqualTo("이미지를 읽을 수 없습니다.");
+        // 오류 항목은 캐시하지 않음
+        assertThat(aiResultCache.get(AiTask.GRADE.getPath(), images(5).get(4).getSha256())).isNull();
+    }
+
+    @Test
+    void rejectedGradeSubmitCancelsThePartBatchCall() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        given(aiServerClient.analyzeBatch(eq(AiTask.PART), any())).willAnswer(invocation -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return null;
+        });
+        AtomicInteger submitted = new AtomicInteger();
+        AsyncTaskExecutor acceptFirstThenReject = task -> {
+            if (submitted.incrementAndGet() > 1) {
+                throw new TaskRejectedException("aiExecutor 포화");
+            }
+            threads.execute(task);
+            try {
+                started.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        List<CutDto> results = cutService(acceptFirstThenReject).analyzeBatch(images(2));
+
+        assertThat(results).extracting(CutDto::getStatus).containsExactly("error", "error");
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void stubBatch() throws Exception {
+        given(aiServerClient.analyzeBatch(eq(AiTask.PART), any())).willAnswer(invocation -> {
+            partRequests.add(filenames(invocation));
+            return respond(invocation, "detectedPart", "part-");
+        });
+        given(aiServerClient.analyzeBatch(eq(AiTask.GRADE), any())).willAnswer(invocation -> {
+            gradeRequests.add(filenames(invocation));
+            return respond(invocation, "detectedGrade", "grade-");
+        });
+    }
+
+    private static String filenames(InvocationOnMock invocation) {
+        List<SpooledImage> chunk = invocation.getArgument(1);
+        return chunk.stream().map(SpooledImage::getFilename).toList().toString();
+    }
+
+    // "3.png" → {key: prefix + "3"} (AI 서버처럼 요청 순서대로)
+    private static List<Map<String, Object>> respond(InvocationOnMock invocation, String key, String prefix) {
+        List<SpooledImage> chunk = invocation.getArgument(1);
+        List<Map<String, Object>> responses = new ArrayList<>();
+        for (SpooledImage image : chunk) {
+            String index = image.getFilename().replace(".png", "");
+            responses.add(Map.of(key, prefix + index, "insight", prefix + index + " 설명", "modelVersion", "v1"));
+        }
+        return responses;
+    }
+
+    private static List<SpooledImage> images(int count) throws Exception {
+        List<SpooledImage> images = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            images.add(SpooledImage.of(TestImages.pngBytes(8, 8, new Color(10, 20, 30 + i)), i + ".png"));
+        }
+        return images;
+    }
+
+    private CutService cutService(AsyncTaskExecutor executor) {
+        CutService cutService = new CutService(mock(CutRepository.class), aiServerClient, executor, aiResultCache,
+                mock(ImagePreprocessor.class), mock(CutWriteBehindQueue.class), ObservationRegistry.NOOP, mock(ImageStore.class));
+        ReflectionTestUtils.setField(cutService, "aiTimeoutMs", 5_000L);
+        ReflectionTestUtils.setField(cutService, "batchSize", 2);
+        return cutService;
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.awt.Color;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.beef.client.AiServerClient;
+import com.project.beef.client.AiTask;
+import com.project.beef.repository.CutRepository;
+import com.project.beef.support.TestImages;
+import com.project.beef.util.SpooledImage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * 두 번째 AI 호출 제출이 거절되어도 이미 시작된 첫 번째 호출은 취소(interrupt + HTTP 중단)되어야 함
+ */
+class CutServiceCancellationTest {
+
+    private final ExecutorService threads = Executors.newCachedThreadPool();
+    private final AiServerClient aiServerClient = mock(AiServerClient.class);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void firstCallIsCancelledWhenSecondSubmitIsRejected() throws Exception {
+        given(aiServerClient.analyze(eq(AiTask.PART), any())).willAnswer(invocation -> blockUntilInterrupted());
+        CutService cutService = cutService(acceptFirstThenReject());
+
+        SpooledImage image = SpooledImage.of(TestImages.pngBytes(10, 10, Color.RED), "a.png");
+
+        assertThatThrownBy(() -> cutService.analyzeAndCombine(image)).isInstanceOf(TaskRejectedException.class);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Object blockUntilInterrupted() throws InterruptedException {
+        started.countDown();
+        try {
+            Thread.sleep(60_000);
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            throw e;
+        }
+        return null;
+    }
+
+    // 첫 작업은 시작될 때까지 기다렸다가 반환하고, 두 번째부터는 스레드 풀이 가득 찬 것처럼 거절
+    private AsyncTaskExecutor acceptFirstThenReject() {
+        AtomicInteger submitted = new AtomicInteger();
+        return task -> {
+            if (submitted.incrementAndGet() > 1) {
+                throw new TaskRejectedException("aiExecutor 포화");
+            }
+            threads.execute(task);
+            try {
+                started.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private CutService cutService(AsyncTaskExecutor executor) {
+        CutService cutService = new CutService(mock(CutRepository.class), aiServerClient, executor,
+                new AiResultCache(new SimpleMeterRegistry(), true, 100, 10), mock(ImagePreprocessor.class),
+                mock(CutWriteBehindQueue.class), ObservationRegistry.NOOP, mock(ImageStore.class));
+        ReflectionTestUtils.setField(cutService, "aiTimeoutMs", 5_000L);
+        return cutService;
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.awt.Color;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.project.beef.client.AiServerClient;
+import com.project.beef.client.AiTask;
+import com.project.beef.domain.Cut;
+import com.project.beef.dto.CutDto;
+import com.project.beef.repository.CutRepository;
+import com.project.beef.support.IntegrationTest;
+import com.project.beef.support.TestImages;
+import com.project.beef.util.SpooledImage;
+
+@TestPropertySource(properties = "ai.cache.persistent=true")
+class CutServiceResultCacheTest extends IntegrationTest {
+
+    @Autowired
+    CutService cutService;
+
+    @Autowired
+    CutRepository cutRepository;
+
+    @Autowired
+    AiResultCache aiResultCache;
+
+    @MockitoBean
+    AiServerClient aiServerClient;
+
+    @Test
+    void savedResultIsServedFromDbOnceThenFromMemory() throws Exception {
+        SpooledImage image = SpooledImage.of(TestImages.pngBytes(20, 20, new Color(1, 2, 3)), "saved.png");
+        Cut saved = cutRepository.save(Cut.builder()
+                .detectedPart("안심")
+                .detectedGrade("1+")
+                .insight(CutService.combineInsight("부위 저장", "등급 저장"))
+                .modelVersion("part=p1,grade=g1")
+                .imageHash(image.getSha256())
+                .memberId("cache@test.com")
+                .build());
+
+        long misses = missCount();
+        CutDto fromDb = cutService.analyzeAndCombine(image);
+        // 작업당 한 번씩만 조회 → 미스 2건
+        assertThat(missCount() - misses).isEqualTo(2);
+        assertThat(fromDb.getDetectedPart()).isEqualTo("안심");
+
+        // DB 행을 지워도 두 번째 요청은 메모리 캐시에서 같은 결과
+        cutRepository.deleteById(saved.getId());
+        long hits = hitCount();
+        CutDto fromMemory = cutService.analyzeAndCombine(image);
+
+        assertThat(hitCount() - hits).isEqualTo(2);
+        assertThat(fromMemory.getDetectedPart()).isEqualTo(fromDb.getDetectedPart());
+        assertThat(fromMemory.getDetectedGrade()).isEqualTo(fromDb.getDetectedGrade());
+        assertThat(fromMemory.getInsight()).isEqualTo(fromDb.getInsight());
+        assertThat(fromMemory.getModelVersion()).isEqualTo(fromDb.getModelVersion());
+        verify(aiServerClient, never()).analyze(any(), any());
+    }
+
+    @Test
+    void onlyTheMissingTaskIsSentToTheAiServer() throws Exception {
+        SpooledImage image = SpooledImage.of(TestImages.pngBytes(20, 20, new Color(4, 5, 6)), "partial.png");
+        aiResultCache.put(AiTask.PART.getPath(), image.getSha256(), Map.of("detectedPart", "등심", "insight", "캐시된 부위"));
+        given(aiServerClient.analyze(eq(AiTask.GRADE), any()))
+                .willReturn(Map.of("detectedGrade", "1++", "insight", "새 등급"));
+
+        long misses = missCount();
+        CutDto result = cutService.analyzeAndCombine(image);
+
+        assertThat(missCount() - misses).isEqualTo(1);
+        assertThat(result.getInsight()).isEqualTo(CutService.combineInsight("캐시된 부위", "새 등급"));
+        verify(aiServerClient, never()).analyze(eq(AiTask.PART), any());
+        verify(aiServerClient, times(1)).analyze(eq(AiTask.GRADE), any());
+    }
+
+    @Test
+    void insightAndModelVersionSplitBackIntoTheirParts() {
+        String combined = CutService.combineInsight("부위 (설명)", "등급");
+        assertThat(CutService.splitInsight(combined)).containsExactly("부위 (설명)", "등급");
+        assertThat(CutService.splitInsight("직접 입력한 메모")).isNull();
+        assertThat(CutService.splitInsight(null)).isNull();
+
+        for (String[] versions : new String[][] { { "v1", "v1" }, { "p1", "g1" }, { null, "g1" }, { "p1", null }, { null, null } }) {
+            String merged = CutService.combineModelVersion(versions[0], versions[1]);
+            String[] split = CutService.splitModelVersion(merged);
+            assertThat(CutService.combineModelVersion(split[0], split[1])).isEqualTo(merged);
+        }
+    }
+
+    private long missCount() {
+        return (Long) aiResultCache.stats().get("missCount");
+    }
+
+    private long hitCount() {
+        return (Long) aiResultCache.stats().get("hitCount");
+    }
+}
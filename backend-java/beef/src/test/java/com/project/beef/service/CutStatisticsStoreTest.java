@@ -0,0 +1,221 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.beef.domain.Cut;
+import com.project.beef.repository.CutRepository;
+import com.project.beef.support.IntegrationTest;
+
+class CutStatisticsStoreTest extends IntegrationTest {
+
+    @Autowired
+    CutStatisticsStore store;
+
+    @Autowired
+    CutStatistics statistics;
+
+    @Autowired
+    CutRepository cutRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Test
+    void rowCommittedAfterAnEarlierCheckpointIsStillRolledUp() {
+        String member = member();
+        store.checkpoint();
+
+        // 10분 전에 저장(createdAt)됐지만 체크포인트 뒤에야 커밋된 행
+        insertCut(member, LocalDateTime.now().minusMinutes(10), "등심", "1++", 60);
+        store.checkpoint();
+
+        assertThat(rollupCounts(member)).containsExactly(Map.entry("등심|1++", 1L));
+        // 이 인스턴스의 리스너를 거치지 않은 저장(다른 인스턴스)도 메모리 카운터에 반영
+        assertThat(statistics.member(member).get("total")).isEqualTo(1L);
+        assertThat(statistics.member(member).get("avgMarblingRatio")).isEqualTo(60.0);
+    }
+
+    @Test
+    void repeatedCheckpointsDoNotDoubleCount() {
+        String member = member();
+        insertCut(member, LocalDateTime.now(), "안심", "1", null);
+        insertCut(member, LocalDateTime.now(), "안심", "1", null);
+
+        store.checkpoint();
+        store.checkpoint();
+        store.checkpoint();
+
+        assertThat(rollupCounts(member)).containsExactly(Map.entry("안심|1", 2L));
+        assertThat(statistics.member(member).get("total")).isEqualTo(2L);
+    }
+
+    @Test
+    void memoryAndRollupBucketPaddedValuesTheSameWay() {
+        String member = member();
+        cutRepository.save(Cut.builder().memberId(member).detectedPart(" 채끝 ").detectedGrade("  ").build());
+
+        assertThat(cells(statistics.member(member))).containsExactly(Map.entry("채끝|UNKNOWN", 1L));
+
+        store.checkpoint();
+
+        assertThat(rollupCounts(member)).containsExactly(Map.entry("채끝|UNKNOWN", 1L));
+        assertThat(cells(statistics.member(member))).containsExactly(Map.entry("채끝|UNKNOWN", 1L));
+    }
+
+    @Test
+    void reclassifyingAFrozenRowMovesItsRollupCell() {
+        String member = member();
+        LocalDateTime createdAt = LocalDate.now().minusDays(5).atTime(12, 0);
+        long id = insertCut(member, createdAt, "목심", "2", 40);
+        // 처음부터 다시 집계해 5일 전 날을 확정시킴
+        jdbcTemplate.update("UPDATE cut_stat_checkpoint SET watermark = ? WHERE id = 1",
+                Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)));
+        store.checkpoint();
+        assertThat(rollupCounts(member)).containsExactly(Map.entry("목심|2", 1L));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            store.reclassify(List.of(new CutStatisticsStore.Reclassification(member, createdAt, 40, "목심", "2", "등심", "1")));
+            jdbcTemplate.update("UPDATE cut SET detected_part = '등심', detected_grade = '1' WHERE id = ?", id);
+        });
+        store.checkpoint();
+
+        assertThat(rollupCounts(member)).containsEntry("목심|2", 0L).containsEntry("등심|1", 1L);
+        assertThat(statistics.member(member).get("total")).isEqualTo(1L);
+        assertThat(cells(statistics.member(member))).containsEntry("등심|1", 1L);
+    }
+
+    @Test
+    void firstCheckpointSeedsTheRollupPageByPage() {
+        String member = member();
+        LocalDateTime createdAt = LocalDate.now().minusDays(5).atTime(9, 0);
+        for (int i = 0; i < 3; i++) {
+            insertCut(member, createdAt, "목심", "2", 40);
+        }
+        resetWatermark();
+        // cut_seq는 50씩 증가하므로 구간 하나에 id가 하나 남짓 → 같은 칸이 여러 구간에서 더해짐
+        CutStatistics seededStatistics = new CutStatistics(30);
+        CutStatisticsStore seeding = new CutStatisticsStore(jdbcTemplate, transactionTemplate, seededStatistics, 300, 2, 60);
+
+        seeding.checkpoint();
+
+        assertThat(rollupCounts(member)).containsExactly(Map.entry("목심|2", 3L));
+        assertThat(watermark()).isEqualTo(LocalDate.now().minusDays(1).atStartOfDay());
+        assertThat(seededStatistics.member(member).get("total")).isEqualTo(3L);
+        assertThat(seededStatistics.member(member).get("avgMarblingRatio")).isEqualTo(40.0);
+    }
+
+    @Test
+    void startWithoutARollupLeavesSeedingToTheBackgroundCheckpoint() throws Exception {
+        String member = member();
+        insertCut(member, LocalDate.now().minusDays(5).atTime(9, 0), "안심", "1+", null);
+        resetWatermark();
+        CutStatistics startedStatistics = new CutStatistics(30);
+        CutStatisticsStore starting = new CutStatisticsStore(jdbcTemplate, transactionTemplate, startedStatistics, 3600, 2, 50_000);
+
+        starting.start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!Long.valueOf(1).equals(startedStatistics.member(member).get("total"))) {
+                assertThat(System.nanoTime()).as("백그라운드 초기 집계가 10초 안에 끝나야 함").isLessThan(deadline);
+                Thread.sleep(20);
+            }
+        } finally {
+            starting.stop();
+        }
+        assertThat(rollupCounts(member)).containsExactly(Map.entry("안심|1+", 1L));
+    }
+
+    @Test
+    void cutsSavedWhileReloadsRunAreNotLost() throws Exception {
+        String member = member();
+        int saves = 200;
+        ExecutorService saver = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> saving = saver.submit(() -> {
+                for (int i = 0; i < saves; i++) {
+                    cutRepository.save(Cut.builder().memberId(member).detectedPart("등심").detectedGrade("1").build());
+                }
+            });
+            while (!saving.isDone()) {
+                store.checkpoint();
+            }
+            saving.get();
+        } finally {
+            saver.shutdown();
+        }
+
+        // 마지막 reload 뒤의 저장도 남아 있음 (DB 읽기와 겹쳐 두 번 세어진 것은 다음 reload에서 바로잡힘)
+        assertThat((Long) statistics.member(member).get("total")).isGreaterThanOrEqualTo(saves);
+        store.checkpoint();
+        assertThat(statistics.member(member).get("total")).isEqualTo((long) saves);
+    }
+
+    @Test
+    void normalizeTrimsOnlySpacesLikeSqlTrim() {
+        assertThat(CutStatistics.normalize(null)).isEqualTo(CutStatistics.UNKNOWN);
+        assertThat(CutStatistics.normalize("   ")).isEqualTo(CutStatistics.UNKNOWN);
+        assertThat(CutStatistics.normalize(" 등심 ")).isEqualTo("등심");
+        assertThat(CutStatistics.normalize("\t등심")).isEqualTo("\t등심");
+    }
+
+    // 롤업을 처음부터 다시 채우도록 (처음 배포한 상태)
+    private void resetWatermark() {
+        jdbcTemplate.update("UPDATE cut_stat_checkpoint SET watermark = ? WHERE id = 1",
+                Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)));
+    }
+
+    private LocalDateTime watermark() {
+        return jdbcTemplate.queryForObject("SELECT watermark FROM cut_stat_checkpoint WHERE id = 1", LocalDateTime.class);
+    }
+
+    private static String member() {
+        return "stats-" + System.nanoTime() + "@test.com";
+    }
+
+    private long insertCut(String member, LocalDateTime createdAt, String part, String grade, Integer marbling) {
+        long id = jdbcTemplate.queryForObject("SELECT NEXTVAL(cut_seq)", Long.class);
+        jdbcTemplate.update("INSERT INTO cut (id, member_id, created_at, detected_part, detected_grade, marbling_ratio) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", id, member, Timestamp.valueOf(createdAt), part, grade, marbling);
+        return id;
+    }
+
+    private Map<String, Long> rollupCounts(String member) {
+        Map<String, Long> result = new HashMap<>();
+        jdbcTemplate.query("SELECT detected_part, detected_grade, SUM(cut_count) FROM cut_stat_rollup "
+                + "WHERE member_id = ? GROUP BY detected_part, detected_grade", rs -> {
+            result.put(rs.getString(1) + "|" + rs.getString(2), rs.getLong(3));
+        }, member);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> cells(Map<String, Object> snapshot) {
+        Map<String, Long> result = new HashMap<>();
+        for (Map<String, Object> row : (List<Map<String, Object>>) snapshot.get("byPartGrade")) {
+            long count = (Long) row.get("count");
+            if (count > 0) {
+                result.put(row.get("detectedPart") + "|" + row.get("detectedGrade"), count);
+            }
+        }
+        return result;
+    }
+}
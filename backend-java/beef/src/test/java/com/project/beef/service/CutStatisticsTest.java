@@ -0,0 +1,60 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * reload는 DB 값에 카운터를 맞추되, DB를 읽는 동안 record()된 저장을 잃지 않아야 함
+ */
+class CutStatisticsTest {
+
+    private static final String MEMBER = "member@test.com";
+
+    private final CutStatistics statistics = new CutStatistics(30);
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    void recordCommittedAfterTheDbReadSurvivesTheReload() {
+        statistics.record(MEMBER, today, "등심", "1++", 60);
+
+        statistics.reload(loader -> {
+            // DB에는 이 인스턴스가 모르는 다른 인스턴스의 저장까지 2건
+            loader.add(MEMBER, today, "등심", "1++", 2, 120, 2);
+            // DB를 읽은 뒤, 반영 전에 커밋된 저장
+            statistics.record(MEMBER, today, "안심", "1", null);
+        });
+
+        assertThat(statistics.member(MEMBER).get("total")).isEqualTo(3L);
+        assertThat(statistics.global().get("total")).isEqualTo(3L);
+    }
+
+    @Test
+    void recordAlsoSeenByTheDbReadIsCorrectedByTheNextReload() {
+        statistics.reload(loader -> {
+            // 복사 뒤 ~ DB 읽기 전에 커밋되어 DB 집계에도 들어간 저장 → 이번에는 두 번 세어짐
+            statistics.record(MEMBER, today, "등심", "1", null);
+            loader.add(MEMBER, today, "등심", "1", 1, 0, 0);
+        });
+        assertThat(statistics.member(MEMBER).get("total")).isEqualTo(2L);
+
+        statistics.reload(loader -> loader.add(MEMBER, today, "등심", "1", 1, 0, 0));
+
+        assertThat(statistics.member(MEMBER).get("total")).isEqualTo(1L);
+        assertThat(statistics.member(MEMBER).get("daily")).asList().hasSize(1);
+    }
+
+    @Test
+    void reloadRemovesCellsAndDaysNoLongerInTheDb() {
+        statistics.record(MEMBER, today.minusDays(1), "목심", "2", 40);
+
+        statistics.reload(loader -> loader.add(MEMBER, today, "등심", "1", 1, 50, 1));
+
+        assertThat(statistics.member(MEMBER).get("total")).isEqualTo(1L);
+        assertThat(statistics.member(MEMBER).get("avgMarblingRatio")).isEqualTo(50.0);
+        assertThat(statistics.member(MEMBER).get("byPartGrade")).asList().hasSize(1);
+        assertThat(statistics.member(MEMBER).get("daily")).asList().hasSize(1);
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.beef.domain.Cut;
+import com.project.beef.repository.CutRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CutWriteBehindQueueTest {
+
+    // 트랜잭션 없이 콜백만 실행
+    private static final TransactionTemplate NO_TX = new TransactionTemplate() {
+        @Override
+        public void executeWithoutResult(Consumer<TransactionStatus> action) {
+            action.accept(null);
+        }
+    };
+
+    private final CutRepository cutRepository = mock(CutRepository.class);
+    private final List<Cut> saved = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void enqueuedCutsAreFlushedInBatches() throws Exception {
+        when(cutRepository.saveAll(anyList())).thenAnswer(invocation -> save(invocation.getArgument(0)));
+        CutWriteBehindQueue queue = queue(CutWriteBehindQueue.Overflow.BLOCK, 3);
+
+        queue.start();
+        for (int i = 0; i < 7; i++) {
+            queue.enqueue(cut("m" + i));
+        }
+        queue.stop();
+
+        assertThat(saved).hasSize(7);
+        assertThat(queue.stats()).containsEntry("written", 7L).containsEntry("failed", 0L).containsEntry("queueDepth", 0);
+    }
+
+    @Test
+    void transientFailureIsRetriedWithFreshIds() {
+        AtomicInteger calls = new AtomicInteger();
+        List<Long> idsSeenOnRetry = new ArrayList<>();
+        when(cutRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Cut> cuts = invocation.getArgument(0);
+            if (calls.incrementAndGet() == 1) {
+                // 시퀀스로 id를 받은 뒤 롤백된 상황
+                cuts.forEach(cut -> cut.setId(100L));
+                throw new IllegalStateException("deadlock");
+            }
+            cuts.forEach(cut -> idsSeenOnRetry.add(cut.getId()));
+            return save(cuts);
+        });
+        CutWriteBehindQueue queue = queue(CutWriteBehindQueue.Overflow.BLOCK, 10);
+
+        queue.writeBatch(new ArrayList<>(List.of(cut("a"), cut("b"))));
+
+        assertThat(saved).hasSize(2);
+        assertThat(idsSeenOnRetry).containsOnlyNulls();
+        assertThat(queue.stats()).containsEntry("retries", 1L).containsEntry("rowFallbacks", 0L).containsEntry("failed", 0L);
+    }
+
+    @Test
+    void persistentFailureFallsBackToRowByRowAndDropsOnlyBadRows() {
+        when(cutRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Cut> cuts = invocation.getArgument(0);
+            if (cuts.stream().anyMatch(cut -> "poison".equals(cut.getMemberId()))) {
+                throw new IllegalStateException("Data too long");
+            }
+            return save(cuts);
+        });
+        CutWriteBehindQueue queue = queue(CutWriteBehindQueue.Overflow.BLOCK, 10);
+
+        queue.writeBatch(new ArrayList<>(List.of(cut("a"), cut("poison"), cut("b"))));
+
+        assertThat(saved).extracting(Cut::getMemberId).containsExactly("a", "b");
+        assertThat(queue.stats())
+                .containsEntry("retries", 2L)
+                .containsEntry("rowFallbacks", 1L)
+                .containsEntry("failed", 1L)
+                .containsEntry("written", 2L);
+    }
+
+    @Test
+    void enqueueAfterStopWritesSynchronously() throws Exception {
+        when(cutRepository.saveAll(anyList())).thenAnswer(invocation -> save(invocation.getArgument(0)));
+        CutWriteBehindQueue queue = queue(CutWriteBehindQueue.Overflow.BLOCK, 10);
+        queue.start();
+        queue.stop();
+
+        queue.enqueue(cut("late"));
+
+        assertThat(saved).extracting(Cut::getMemberId).containsExactly("late");
+        assertThat(queue.stats()).containsEntry("queueDepth", 0);
+    }
+
+    @Test
+    void noCutIsLeftInQueueWhenStoppingDuringConcurrentEnqueue() throws Exception {
+        when(cutRepository.saveAll(anyList())).thenAnswer(invocation -> save(invocation.getArgument(0)));
+        CutWriteBehindQueue queue = queue(CutWriteBehindQueue.Overflow.BLOCK, 5);
+        queue.start();
+
+        int threads = 8;
+        int perThread = 500;
+        CountDownLatch started = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                started.countDown();
+                for (int i = 0; i < perThread; i++) {
+                    queue.enqueue(cut("m"));
+                }
+                return null;
+            });
+        }
+        started.await();
+        queue.stop();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(saved).hasSize(threads * perThread);
+        assertThat(queue.stats()).containsEntry("queueDepth", 0);
+    }
+
+    private CutWriteBehindQueue queue(CutWriteBehindQueue.Overflow overflow, int batchSize) {
+        return new CutWriteBehindQueue(cutRepository, NO_TX, new SimpleMeterRegistry(), "write-behind", 100, batchSize, 20, 100, overflow, 3, 1);
+    }
+
+    private List<Cut> save(List<Cut> cuts) {
+        saved.addAll(cuts);
+        return cuts;
+    }
+
+    private static Cut cut(String memberId) {
+        return Cut.builder().memberId(memberId).detectedPart("등심").detectedGrade("1+").build();
+    }
+}
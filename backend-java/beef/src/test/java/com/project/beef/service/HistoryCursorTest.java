@@ -0,0 +1,50 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.beef.service.CutService.HistoryCursor;
+
+class HistoryCursorTest {
+
+    @Test
+    void encodeThenDecodeKeepsCreatedAtAndId() {
+        HistoryCursor cursor = new HistoryCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 5, 123_456_000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(HistoryCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void createdAtWithoutSecondsRoundTrips() {
+        // LocalDateTime.toString()은 초가 0이면 "HH:mm"까지만 출력함
+        HistoryCursor cursor = new HistoryCursor(LocalDateTime.of(2025, 3, 1, 12, 30), 7L);
+
+        assertThat(HistoryCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void malformedCursorIsRejectedAsIllegalArgument() {
+        assertThatThrownBy(() -> HistoryCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 cursor 값입니다.");
+        assertThatThrownBy(() -> HistoryCursor.decode(urlBase64("2025-03-01T12:30")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HistoryCursor.decode(urlBase64("yesterday|1")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HistoryCursor.decode(urlBase64("2025-03-01T12:30|abc")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String urlBase64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
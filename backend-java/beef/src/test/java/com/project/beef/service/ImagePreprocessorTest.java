@@ -0,0 +1,182 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+import com.project.beef.support.TestImages;
+import com.project.beef.util.SpooledImage;
+
+class ImagePreprocessorTest {
+
+    @Test
+    void hugeDeclaredResolutionIsRejectedBeforeDecoding() throws Exception {
+        // 헤더만 50000x50000 (25억 픽셀)인 PNG: 디코딩하면 약 10GB 래스터
+        SpooledImage bomb = SpooledImage.of(pngHeaderOnly(50_000, 50_000), "bomb.png");
+        ImagePreprocessor preprocessor = new ImagePreprocessor(true, 1280, 0.9f, 100_000_000L);
+
+        assertThatThrownBy(() -> preprocessor.preprocess(bomb))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("50000x50000");
+    }
+
+    @Test
+    void largeImageIsSubsampledWhileDecoding() throws Exception {
+        SpooledImage image = SpooledImage.of(jpeg(4000, 3000), "large.jpg");
+
+        BufferedImage decoded = ImagePreprocessor.decode(image, 500, 100_000_000L);
+
+        // 간격 4 → 1000x750 (목표 500의 2배는 남김)
+        assertThat(decoded.getWidth()).isEqualTo(1000);
+        assertThat(decoded.getHeight()).isEqualTo(750);
+    }
+
+    @Test
+    void smallImageIsDecodedAtFullResolution() throws Exception {
+        SpooledImage image = SpooledImage.of(TestImages.pngBytes(300, 200, Color.RED), "small.png");
+
+        BufferedImage decoded = ImagePreprocessor.decode(image, 1280, 100_000_000L);
+
+        assertThat(decoded.getWidth()).isEqualTo(300);
+        assertThat(decoded.getHeight()).isEqualTo(200);
+    }
+
+    @Test
+    void unknownFormatIsNotDecoded() throws Exception {
+        SpooledImage heic = SpooledImage.of("....ftypheic not an image".getBytes(StandardCharsets.US_ASCII), "a.heic");
+
+        assertThat(ImagePreprocessor.decode(heic, 1280, 100_000_000L)).isNull();
+        assertThat(new ImagePreprocessor(true, 1280, 0.9f, 100_000_000L).preprocess(heic)).isSameAs(heic);
+    }
+
+    @Test
+    void subsamplingPeriodKeepsAtLeastTwiceTheTarget() {
+        assertThat(ImagePreprocessor.subsamplingPeriod(1280, 1280)).isEqualTo(1);
+        assertThat(ImagePreprocessor.subsamplingPeriod(2559, 1280)).isEqualTo(1);
+        assertThat(ImagePreprocessor.subsamplingPeriod(5120, 1280)).isEqualTo(2);
+        assertThat(ImagePreprocessor.subsamplingPeriod(12000, 1280)).isEqualTo(4);
+    }
+
+    @Test
+    void exifOrientationIsReadInBothByteOrders() throws Exception {
+        byte[] plain = jpeg(40, 20);
+
+        assertThat(ImagePreprocessor.readExifOrientation(plain)).isEqualTo(1);
+        assertThat(ImagePreprocessor.readExifOrientation(withExifOrientation(plain, 6, false))).isEqualTo(6);
+        assertThat(ImagePreprocessor.readExifOrientation(withExifOrientation(plain, 8, true))).isEqualTo(8);
+        assertThat(ImagePreprocessor.readExifOrientation(TestImages.pngBytes(10, 10, Color.RED))).isEqualTo(1);
+    }
+
+    @Test
+    void resizeKeepsAspectRatioWithinMaxDimension() {
+        BufferedImage resized = ImagePreprocessor.resize(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB), 1, 1280);
+
+        assertThat(resized.getWidth()).isEqualTo(1280);
+        assertThat(resized.getHeight()).isEqualTo(960);
+    }
+
+    @Test
+    void resizeDoesNotUpscaleSmallImages() {
+        BufferedImage resized = ImagePreprocessor.resize(new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB), 1, 1280);
+
+        assertThat(resized.getWidth()).isEqualTo(300);
+        assertThat(resized.getHeight()).isEqualTo(200);
+    }
+
+    @Test
+    void exifRotationIsAppliedToPixelsAndDimensions() throws Exception {
+        // 가로 400x200: 왼쪽 절반 빨강, 오른쪽 절반 파랑. Orientation 6 = 시계 방향 90도로 세워서 봐야 함
+        BufferedImage landscape = new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = landscape.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 200, 200);
+        g.setColor(Color.BLUE);
+        g.fillRect(200, 0, 200, 200);
+        g.dispose();
+        byte[] original = withExifOrientation(ImagePreprocessor.encodeJpeg(landscape, 0.95f), 6, false);
+
+        ImagePreprocessor preprocessor = new ImagePreprocessor(true, 100, 0.9f, 100_000_000L);
+        SpooledImage result = preprocessor.preprocess(SpooledImage.of(original, "rotated.jpg"));
+
+        BufferedImage sent = ImageIO.read(result.openStream());
+        assertThat(sent.getWidth()).isEqualTo(50);
+        assertThat(sent.getHeight()).isEqualTo(100);
+        // 회전 후 원본의 왼쪽(빨강)이 위, 오른쪽(파랑)이 아래
+        assertThat(new Color(sent.getRGB(25, 20)).getRed()).isGreaterThan(200);
+        assertThat(new Color(sent.getRGB(25, 80)).getBlue()).isGreaterThan(200);
+        // 회전을 픽셀에 적용했으므로 EXIF는 남기지 않음 (다시 회전되지 않도록)
+        try (InputStream in = result.openStream()) {
+            assertThat(ImagePreprocessor.readExifOrientation(in.readAllBytes())).isEqualTo(1);
+        }
+        assertThat(result.getSha256()).isEqualTo(SpooledImage.of(original, "rotated.jpg").getSha256());
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+
+    // SOI 바로 뒤에 Orientation 태그 하나만 있는 APP1(Exif) 세그먼트를 끼워 넣음
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation, boolean littleEndian) throws IOException {
+        ByteBuffer tiff = ByteBuffer.allocate(26).order(littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        tiff.put(littleEndian ? (byte) 'I' : (byte) 'M').put(littleEndian ? (byte) 'I' : (byte) 'M');
+        tiff.putShort((short) 42).putInt(8);
+        tiff.putShort((short) 1);
+        tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        tiff.putInt(0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(new byte[] { (byte) 0xFF, (byte) 0xE1 });
+        int length = 2 + 6 + tiff.capacity();
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.write("Exif\0\0".getBytes(StandardCharsets.US_ASCII));
+        out.write(tiff.array());
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    // PNG 시그니처 + IHDR(가로, 세로, 8bit RGB) + 빈 IEND. 해상도는 헤더에만 있음
+    private static byte[] pngHeaderOnly(int width, int height) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(new byte[] { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n' });
+        ByteArrayOutputStream ihdr = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(ihdr);
+        header.writeInt(width);
+        header.writeInt(height);
+        header.write(new byte[] { 8, 2, 0, 0, 0 });
+        writeChunk(out, "IHDR", ihdr.toByteArray());
+        writeChunk(out, "IEND", new byte[0]);
+        return bytes.toByteArray();
+    }
+
+    private static void writeChunk(DataOutputStream out, String type, byte[] data) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        out.writeInt(data.length);
+        out.write(typeBytes);
+        out.write(data);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+        out.writeInt((int) crc.getValue());
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.project.beef.support.TestImages;
+import com.project.beef.util.SpooledImage;
+
+class ImageStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void sameImageIsStoredOnceUnderItsHash() throws Exception {
+        ImageStore store = new ImageStore(true, dir.toString());
+        byte[] bytes = TestImages.pngBytes(16, 16, Color.ORANGE);
+        SpooledImage image = SpooledImage.of(bytes, "a.png");
+
+        store.store(image);
+        store.store(SpooledImage.of(bytes, "same-content-other-name.png"));
+
+        String hash = image.getSha256();
+        Path stored = store.find(hash).orElseThrow();
+        assertThat(stored).isEqualTo(dir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash));
+        assertThat(Files.readAllBytes(stored)).isEqualTo(bytes);
+        // write-once (root는 권한을 무시하므로 isWritable 대신 권한 비트로 확인)
+        assertThat(Files.getPosixFilePermissions(stored)).doesNotContain(PosixFilePermission.OWNER_WRITE);
+        assertThat(store.contentType(stored)).isEqualTo("image/png");
+        assertThat(store.stats()).containsEntry("stored", 1L).containsEntry("deduplicated", 1L);
+        // 임시 파일이 남지 않음
+        try (var temps = Files.list(dir.resolve("tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    @Test
+    void lookupRejectsNonHashKeys() throws Exception {
+        ImageStore store = new ImageStore(true, dir.toString());
+
+        assertThat(store.find(null)).isEmpty();
+        assertThat(store.find("../../etc/passwd")).isEmpty();
+        assertThat(store.find("A".repeat(64))).isEmpty();
+        assertThat(store.find("a".repeat(64))).isEmpty();
+    }
+}
@@ -0,0 +1,132 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class LoginAttemptLimiterTest {
+
+    private static final String IP = "10.0.0.1";
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    // 윈도우 60초, 이메일당 3회, IP당 5회
+    private final LoginAttemptLimiter limiter = new LoginAttemptLimiter(60, 3, 5, 1000, clock::get);
+
+    @Test
+    void emailIsBlockedAfterMaxFailuresUntilOldestLeavesWindow() {
+        fail("a@test.com");
+        advanceSeconds(10);
+        fail("a@test.com");
+        fail("a@test.com");
+
+        LoginAttemptLimiter.Attempt blocked = limiter.tryAcquire("a@test.com", IP);
+        assertThat(blocked.isAllowed()).isFalse();
+        // 첫 실패(10초 전)가 윈도우를 벗어날 때까지 50초
+        assertThat(blocked.getRetryAfterSeconds()).isEqualTo(50);
+
+        advanceSeconds(50);
+        assertThat(limiter.tryAcquire("a@test.com", IP).isAllowed()).isTrue();
+    }
+
+    @Test
+    void emailIsNormalizedBeforeCounting() {
+        fail("a@test.com");
+        fail(" A@Test.com");
+        fail("a@TEST.COM ");
+
+        assertThat(limiter.tryAcquire("a@test.com", "10.0.0.2").isAllowed()).isFalse();
+    }
+
+    @Test
+    void ipIsBlockedAcrossDifferentEmails() {
+        for (int i = 0; i < 5; i++) {
+            fail("user" + i + "@test.com");
+        }
+
+        assertThat(limiter.tryAcquire("new@test.com", IP).isAllowed()).isFalse();
+        assertThat(limiter.tryAcquire("new@test.com", "10.0.0.2").isAllowed()).isTrue();
+        assertThat(limiter.stats().get("blockedByIp")).isEqualTo(1L);
+    }
+
+    @Test
+    void successClearsEmailButKeepsOtherIpFailures() {
+        fail("a@test.com");
+        fail("a@test.com");
+        fail("b@test.com");
+
+        limiter.onSuccess(limiter.tryAcquire("a@test.com", IP));
+
+        // a의 기록은 지워지고, IP에는 실패 3건만 남음 (성공한 시도는 집계하지 않음) → 두 번 더 허용
+        fail("a@test.com");
+        fail("a@test.com");
+        assertThat(limiter.tryAcquire("c@test.com", IP).isAllowed()).isFalse();
+        assertThat(limiter.stats().get("blockedByIp")).isEqualTo(1L);
+    }
+
+    @Test
+    void cancelledAttemptIsNotCounted() {
+        for (int i = 0; i < 10; i++) {
+            limiter.cancel(limiter.tryAcquire("a@test.com", IP));
+        }
+
+        assertThat(limiter.tryAcquire("a@test.com", IP).isAllowed()).isTrue();
+    }
+
+    @Test
+    void emailBlockDoesNotConsumeIpBudget() {
+        for (int i = 0; i < 3; i++) {
+            fail("a@test.com");
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("a@test.com", IP).isAllowed()).isFalse();
+        }
+
+        fail("b@test.com");
+        assertThat(limiter.tryAcquire("c@test.com", IP).isAllowed()).isTrue();
+    }
+
+    @Test
+    void parallelAttemptsCannotExceedTheCap() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    // 검증(BCrypt)이 끝나기 전에 모두 확인을 통과하는 상황: 결과를 기록하지 않고 허용 여부만 봄
+                    return limiter.tryAcquire("a@test.com", IP).isAllowed();
+                }));
+            }
+            start.countDown();
+            int allowed = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    allowed++;
+                }
+            }
+            assertThat(allowed).isEqualTo(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 비밀번호가 틀린 시도: 예약된 실패를 그대로 둠
+    private void fail(String email) {
+        assertThat(limiter.tryAcquire(email, IP).isAllowed()).isTrue();
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+}
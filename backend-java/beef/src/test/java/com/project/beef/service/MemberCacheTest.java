@@ -0,0 +1,130 @@
+package com.project.beef.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.project.beef.domain.Member;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MemberCacheTest {
+
+    private static final String EMAIL = "a@test.com";
+
+    private final MemberCache cache = new MemberCache(new SimpleMeterRegistry(), true, 100, 10, 60);
+
+    @Test
+    void foundAndMissingMembersAreCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(EMAIL, email -> { loads.incrementAndGet(); return Optional.of(member("hash-1")); });
+        Member cached = cache.get(EMAIL, email -> { loads.incrementAndGet(); return Optional.empty(); });
+        cache.get("none@test.com", email -> { loads.incrementAndGet(); return Optional.empty(); });
+        Member missing = cache.get("none@test.com", email -> { loads.incrementAndGet(); return Optional.of(member("x")); });
+
+        assertThat(cached.getPassword()).isEqualTo("hash-1");
+        assertThat(missing).isNull();
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().get("negativeHitCount")).isEqualTo(1L);
+    }
+
+    @Test
+    void evictDuringLoadKeepsTheLoadedValueOutOfTheCache() {
+        // DB를 읽은 뒤 put 하기 전에 다른 요청이 비밀번호를 바꾸고 evict한 상황
+        Member stale = cache.get(EMAIL, email -> {
+            Optional<Member> old = Optional.of(member("old"));
+            cache.evict(EMAIL);
+            return old;
+        });
+
+        Member fresh = cache.get(EMAIL, email -> Optional.of(member("new")));
+
+        assertThat(stale.getPassword()).isEqualTo("old");
+        assertThat(fresh.getPassword()).isEqualTo("new");
+    }
+
+    @Test
+    void evictInsideTransactionIsRepeatedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(EMAIL);
+            // 커밋 전: 다른 요청은 아직 옛 값을 읽어 캐시에 넣을 수 있음
+            cache.get(EMAIL, email -> Optional.of(member("old")));
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.get(EMAIL, email -> Optional.of(member("new"))).getPassword()).isEqualTo("new");
+    }
+
+    @Test
+    void concurrentLoadsNeverLeaveAStaleValueAfterTheLastEvict() throws Exception {
+        AtomicReference<String> database = new AtomicReference<>("v0");
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(readers.submit(() -> {
+                    start.await();
+                    while (running.get()) {
+                        cache.get(EMAIL, email -> {
+                            String value = database.get();
+                            Thread.yield(); // 읽기와 put 사이를 벌려 evict가 끼어들 틈을 만듦
+                            return Optional.of(member(value));
+                        });
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (int i = 1; i <= 2_000; i++) {
+                database.set("v" + i);
+                cache.evict(EMAIL);
+            }
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+
+        Member cached = cache.get(EMAIL, email -> Optional.of(member(database.get())));
+        assertThat(cached.getPassword()).isEqualTo("v2000");
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        MemberCache disabled = new MemberCache(new SimpleMeterRegistry(), false, 100, 10, 60);
+        AtomicInteger loads = new AtomicInteger();
+
+        disabled.get(EMAIL, email -> { loads.incrementAndGet(); return Optional.of(member("a")); });
+        disabled.get(EMAIL, email -> { loads.incrementAndGet(); return Optional.of(member("a")); });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private static Member member(String password) {
+        return Member.builder().mno(1L).email(EMAIL).password(password).name("회원").build();
+    }
+}
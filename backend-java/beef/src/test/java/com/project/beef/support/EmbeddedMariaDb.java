@@ -0,0 +1,64 @@
+package com.project.beef.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import ch.vorburger.exec.ManagedProcessException;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+
+/**
+ * 통합 테스트용 내장 MariaDB (운영과 같은 DB라 MariaDB 전용 SQL도 그대로 실행됨).
+ * 테스트 JVM에서 한 번만 띄우고 JVM이 끝날 때 정리합니다.
+ *
+ * 통합 테스트는 IntegrationTest를 상속해 사용합니다.
+ */
+public final class EmbeddedMariaDb {
+
+    private static String url;
+
+    private EmbeddedMariaDb() {
+    }
+
+    public static void register(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", EmbeddedMariaDb::url);
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("cut.image.store.dir", EmbeddedMariaDb::imageStoreDir);
+    }
+
+    private static synchronized String url() {
+        if (url == null) {
+            try {
+                DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+                config.setPort(0);
+                // 운영 DB와 같은 문자셋 (기본값 latin1이면 한글 부위/등급을 저장하지 못함)
+                config.addArg("--character-set-server=utf8mb4");
+                config.addArg("--collation-server=utf8mb4_unicode_ci");
+                // 컨테이너 / CI에서 root로 실행하면 mariadbd가 시작을 거부함
+                if ("root".equals(System.getProperty("user.name"))) {
+                    config.addArg("--user=root");
+                }
+                DB db = DB.newEmbeddedDB(config.build());
+                db.start();
+                // 스키마는 드라이버가 만듦 (DB.createDB는 mariadb 클라이언트 실행 파일이 필요)
+                url = "jdbc:mariadb://localhost:" + db.getConfiguration().getPort() + "/beef?createDatabaseIfNotExist=true";
+            } catch (ManagedProcessException e) {
+                throw new IllegalStateException("내장 MariaDB를 시작하지 못했습니다.", e);
+            }
+        }
+        return url;
+    }
+
+    private static String imageStoreDir() {
+        try {
+            return Files.createTempDirectory("beef-test-images").toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
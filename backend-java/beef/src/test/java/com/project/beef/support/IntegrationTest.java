@@ -0,0 +1,28 @@
+package com.project.beef.support;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 내장 MariaDB에 붙인 전체 컨텍스트 통합 테스트의 공통 부모.
+ * 같은 설정을 쓰는 테스트 클래스끼리 스프링 컨텍스트가 재사용되도록 설정을 여기 한 곳에 둡니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public abstract class IntegrationTest {
+
+    protected static final String ADMIN = "admin@test.com";
+
+    @DynamicPropertySource
+    static void embeddedMariaDb(DynamicPropertyRegistry registry) {
+        EmbeddedMariaDb.register(registry);
+        // 테스트는 같은 IP에서 연달아 분석 API를 호출하므로 요청 제한은 끔 (제한 동작은 별도 단위 테스트로 확인)
+        registry.add("rate-limit.enabled", () -> "false");
+        // 관리자 허용 목록이 있는 API(운영 통계, 재분석, 내보내기)는 이 회원으로 호출
+        registry.add("auth.admin-members", () -> ADMIN);
+        registry.add("cut.reanalysis.admin-members", () -> ADMIN);
+        registry.add("cut.export.allowed-members", () -> ADMIN);
+    }
+}
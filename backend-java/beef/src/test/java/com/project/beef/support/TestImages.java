@@ -0,0 +1,35 @@
+package com.project.beef.support;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * 테스트용 단색 이미지 업로드 (색이 다르면 SHA-256도 달라 AI 결과 캐시 / 이미지 저장소에서 서로 구분됨)
+ */
+public final class TestImages {
+
+    private TestImages() {
+    }
+
+    public static MockMultipartFile png(String fileName, Color color) throws IOException {
+        return new MockMultipartFile("file", fileName, "image/png", pngBytes(64, 48, color));
+    }
+
+    public static byte[] pngBytes(int width, int height, Color color) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.beef.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "QkY2RkYyODczMzk1NkREREM4RjZGNkY3OTg1NjEzNzY0MzQxMTU4Nzc1MzMxM0MyQTc4MkE4RDc0RkU3QzU5Ng==";
+    private static final String OTHER_SECRET = "c2VjcmV0LWtleS1mb3ItdGVzdHMtb25seS0zMi1ieXRlcy1sb25nLWF0LWxlYXN0IQ==";
+
+    @Test
+    void cachedTokenIsRejectedAfterExpiry() throws Exception {
+        // JWT exp는 초 단위로 잘리므로 3초 토큰은 최소 2초 동안 유효하고 늦어도 3초 뒤에는 만료
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3_000L, true, 100);
+        String token = jwtUtil.generateToken("user@example.com");
+
+        assertThat(jwtUtil.extractEmail(token)).isEqualTo("user@example.com");
+        assertThat(jwtUtil.extractEmail(token)).isEqualTo("user@example.com"); // 캐시 적중
+
+        Thread.sleep(3_100L);
+
+        assertThatThrownBy(() -> jwtUtil.extractEmail(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void cachingDoesNotAcceptTokensSignedWithAnotherKey() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3_600_000L, true, 100);
+        String valid = jwtUtil.generateToken("user@example.com");
+        String forged = new JwtUtil(OTHER_SECRET, 3_600_000L, true, 100).generateToken("user@example.com");
+
+        assertThat(jwtUtil.extractEmail(valid)).isEqualTo("user@example.com");
+        assertThatThrownBy(() -> jwtUtil.extractEmail(forged)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void cachedAndUncachedResultsMatch() {
+        JwtUtil cached = new JwtUtil(SECRET, 3_600_000L, true, 100);
+        JwtUtil uncached = new JwtUtil(SECRET, 3_600_000L, false, 100);
+        String token = cached.generateToken("user@example.com");
+
+        assertThat(cached.extractEmail(token)).isEqualTo(uncached.extractEmail(token));
+        assertThat(cached.extractEmail(token)).isEqualTo("user@example.com");
+    }
+}